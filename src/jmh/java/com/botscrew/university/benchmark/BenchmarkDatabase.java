@@ -0,0 +1,124 @@
+package com.botscrew.university.benchmark;
+
+import com.botscrew.university.utils.ConnectionProvider;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Properties;
+import java.util.stream.Collectors;
+
+public class BenchmarkDatabase {
+
+    public static final String[] DEGREES = {"assistant", "associate professor", "professor"};
+    public static final int LECTORS_PER_DEPARTMENT = 100;
+
+    private static final int BATCH_SIZE = 10_000;
+
+    private BenchmarkDatabase() {
+    }
+
+    public static ConnectionProvider open(String mode) {
+        Properties properties = new Properties();
+        properties.setProperty("url", "jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1");
+        properties.setProperty("user", "some");
+        properties.setProperty("password", "some");
+        switch (mode) {
+            case "direct":
+                break;
+            case "pooled":
+                properties.setProperty("pool.enabled", "true");
+                properties.setProperty("pool.statementCacheSize", "0");
+                break;
+            case "cached":
+                properties.setProperty("pool.enabled", "true");
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown benchmark mode " + mode);
+        }
+        return new ConnectionProvider(properties);
+    }
+
+    public static int departmentsFor(int lectors) {
+        return Math.max(1, lectors / LECTORS_PER_DEPARTMENT);
+    }
+
+    public static String departmentName(int number) {
+        return "Department " + number;
+    }
+
+    public static void populate(ConnectionProvider connectionProvider, int lectors) throws SQLException, IOException {
+        try (Connection connection = connectionProvider.getConnection()) {
+            executeScript(connection, "schema.sql");
+            connection.setAutoCommit(false);
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "INSERT INTO degrees (id, name) VALUES (?, ?)")) {
+                for (int i = 0; i < DEGREES.length; i++) {
+                    statement.setInt(1, i + 1);
+                    statement.setString(2, DEGREES[i]);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "INSERT INTO lectors (name, surname, degree_id, salary) VALUES (?, ?, ?, ?)")) {
+                for (int i = 1; i <= lectors; i++) {
+                    statement.setString(1, "Name" + i);
+                    statement.setString(2, "Surname" + i);
+                    statement.setInt(3, i % DEGREES.length + 1);
+                    statement.setInt(4, 1000 + i % 5000);
+                    addToBatch(connection, statement, i);
+                }
+                statement.executeBatch();
+            }
+            int departments = departmentsFor(lectors);
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "INSERT INTO departments (name, head) VALUES (?, ?)")) {
+                for (int i = 1; i <= departments; i++) {
+                    statement.setString(1, departmentName(i));
+                    statement.setInt(2, i);
+                    addToBatch(connection, statement, i);
+                }
+                statement.executeBatch();
+            }
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "INSERT INTO departments_lectors (department_id, lector_id) VALUES (?, ?)")) {
+                for (int i = 1; i <= lectors; i++) {
+                    statement.setInt(1, (i - 1) % departments + 1);
+                    statement.setInt(2, i);
+                    addToBatch(connection, statement, i);
+                }
+                statement.executeBatch();
+            }
+            connection.commit();
+        }
+    }
+
+    private static void addToBatch(Connection connection, PreparedStatement statement, int row) throws SQLException {
+        statement.addBatch();
+        if (row % BATCH_SIZE == 0) {
+            statement.executeBatch();
+            connection.commit();
+        }
+    }
+
+    private static void executeScript(Connection connection, String resource) throws IOException, SQLException {
+        String script;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                BenchmarkDatabase.class.getClassLoader().getResourceAsStream(resource), StandardCharsets.UTF_8))) {
+            script = reader.lines().collect(Collectors.joining("\n"));
+        }
+        try (Statement statement = connection.createStatement()) {
+            for (String sql : script.split(";")) {
+                if (!sql.trim().isEmpty()) {
+                    statement.execute(sql);
+                }
+            }
+        }
+    }
+}
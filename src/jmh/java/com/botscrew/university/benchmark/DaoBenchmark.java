@@ -0,0 +1,90 @@
+package com.botscrew.university.benchmark;
+
+import com.botscrew.university.dao.DegreeDictionary;
+import com.botscrew.university.dao.DepartmentDao;
+import com.botscrew.university.dao.LectorDao;
+import com.botscrew.university.domain.Department;
+import com.botscrew.university.domain.Lector;
+import com.botscrew.university.utils.ConnectionProvider;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DaoBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int lectors;
+
+    @Param({"direct", "pooled", "cached"})
+    private String mode;
+
+    private ConnectionProvider connectionProvider;
+    private LectorDao lectorDao;
+    private DepartmentDao departmentDao;
+    private int departments;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException, IOException {
+        connectionProvider = BenchmarkDatabase.open(mode);
+        BenchmarkDatabase.populate(connectionProvider, lectors);
+        DegreeDictionary degreeDictionary = new DegreeDictionary(connectionProvider);
+        lectorDao = new LectorDao(connectionProvider, degreeDictionary);
+        departmentDao = new DepartmentDao(connectionProvider, degreeDictionary);
+        departments = BenchmarkDatabase.departmentsFor(lectors);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        connectionProvider.close();
+    }
+
+    @Benchmark
+    public Optional<Lector> lectorGetById() {
+        return lectorDao.getById(randomLectorId());
+    }
+
+    @Benchmark
+    public Optional<Department> departmentGetByName() {
+        return departmentDao.getByName(randomDepartmentName());
+    }
+
+    @Benchmark
+    public double departmentGetAverageSalaryByName() {
+        return departmentDao.getAverageSalaryByName(randomDepartmentName());
+    }
+
+    @Benchmark
+    public Map<String, Integer> departmentGetDegreeStatisticByName() {
+        return departmentDao.getDegreeStatisticByName(randomDepartmentName());
+    }
+
+    @Benchmark
+    public List<Lector> lectorSearchIfNameContains() {
+        return lectorDao.searchIfNameContains("Name" + randomLectorId() + "9");
+    }
+
+    @Benchmark
+    public List<Department> departmentSearchIfNameContains() {
+        return departmentDao.searchIfNameContains("ment " + ThreadLocalRandom.current().nextInt(1, departments + 1));
+    }
+
+    private int randomLectorId() {
+        return ThreadLocalRandom.current().nextInt(1, lectors + 1);
+    }
+
+    private String randomDepartmentName() {
+        return BenchmarkDatabase.departmentName(ThreadLocalRandom.current().nextInt(1, departments + 1));
+    }
+}
@@ -0,0 +1,59 @@
+package com.botscrew.university.benchmark;
+
+import com.botscrew.university.dao.DegreeDictionary;
+import com.botscrew.university.dao.DepartmentDao;
+import com.botscrew.university.dao.LectorDao;
+import com.botscrew.university.domain.Department;
+import com.botscrew.university.service.DepartmentService;
+import com.botscrew.university.service.LectorService;
+import com.botscrew.university.utils.ConnectionProvider;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServiceBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int lectors;
+
+    @Param({"direct", "pooled", "cached"})
+    private String mode;
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private ConnectionProvider connectionProvider;
+    private DepartmentService departmentService;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException, IOException {
+        connectionProvider = BenchmarkDatabase.open(mode);
+        BenchmarkDatabase.populate(connectionProvider, lectors);
+        DegreeDictionary degreeDictionary = new DegreeDictionary(connectionProvider);
+        LectorService lectorService = new LectorService(new LectorDao(connectionProvider, degreeDictionary));
+        departmentService = new DepartmentService(lectorService,
+                new DepartmentDao(connectionProvider, degreeDictionary));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        connectionProvider.close();
+    }
+
+    @Benchmark
+    public Department departmentServiceSave() {
+        Department department = new Department("Benchmark " + sequence.incrementAndGet(),
+                ThreadLocalRandom.current().nextInt(1, lectors + 1));
+        departmentService.save(department);
+        return department;
+    }
+}
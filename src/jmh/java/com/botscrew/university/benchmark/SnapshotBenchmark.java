@@ -0,0 +1,82 @@
+package com.botscrew.university.benchmark;
+
+import com.botscrew.university.dao.ColumnarSnapshot;
+import com.botscrew.university.dao.DegreeDictionary;
+import com.botscrew.university.dao.DepartmentDao;
+import com.botscrew.university.domain.DepartmentStatistic;
+import com.botscrew.university.utils.ConnectionProvider;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SnapshotBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int lectors;
+
+    private ConnectionProvider connectionProvider;
+    private DepartmentDao departmentDao;
+    private ColumnarSnapshot snapshot;
+    private int departments;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException, IOException {
+        connectionProvider = BenchmarkDatabase.open("pooled");
+        BenchmarkDatabase.populate(connectionProvider, lectors);
+        DegreeDictionary degreeDictionary = new DegreeDictionary(connectionProvider);
+        departmentDao = new DepartmentDao(connectionProvider, degreeDictionary);
+        departments = BenchmarkDatabase.departmentsFor(lectors);
+        snapshot = new ColumnarSnapshot(connectionProvider, degreeDictionary);
+        long start = System.nanoTime();
+        snapshot.refresh();
+        System.out.printf("%nSnapshot of %d lectors loaded in %.1f ms, footprint %d bytes (%.1f MiB per million lectors)%n",
+                snapshot.getLectorCount(), (System.nanoTime() - start) / 1_000_000.0, snapshot.getFootprintBytes(),
+                snapshot.getFootprintBytes() * 1_000_000.0 / lectors / (1 << 20));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        snapshot.close();
+        connectionProvider.close();
+    }
+
+    @Benchmark
+    public double sqlGetAverageSalaryByName() {
+        return departmentDao.getAverageSalaryByName(randomDepartmentName());
+    }
+
+    @Benchmark
+    public Optional<DepartmentStatistic> snapshotGetStatisticByName() {
+        return snapshot.getStatisticByName(randomDepartmentName());
+    }
+
+    @Benchmark
+    public Map<String, DepartmentStatistic> sqlGetStatistics() {
+        return departmentDao.getStatistics();
+    }
+
+    @Benchmark
+    public Map<String, DepartmentStatistic> snapshotGetStatistics() {
+        return snapshot.getStatistics();
+    }
+
+    @Benchmark
+    public long snapshotRefresh() {
+        return snapshot.refresh();
+    }
+
+    private String randomDepartmentName() {
+        return BenchmarkDatabase.departmentName(ThreadLocalRandom.current().nextInt(1, departments + 1));
+    }
+}
@@ -1,30 +1,239 @@
 package com.botscrew.university;
 
+import com.botscrew.university.dao.CachingDepartmentDao;
+import com.botscrew.university.dao.ColumnarSnapshot;
+import com.botscrew.university.dao.CachingLectorDao;
+import com.botscrew.university.dao.DegreeDictionary;
+import com.botscrew.university.dao.DepartmentAggregateStore;
 import com.botscrew.university.dao.DepartmentDao;
+import com.botscrew.university.dao.EntityCache;
 import com.botscrew.university.dao.LectorDao;
+import com.botscrew.university.dao.SalaryAnalyticsDao;
+import com.botscrew.university.domain.Department;
+import com.botscrew.university.domain.Lector;
+import com.botscrew.university.exporter.ExportFormat;
+import com.botscrew.university.exporter.ExportTarget;
+import com.botscrew.university.exporter.TableExporter;
+import com.botscrew.university.http.QueryServer;
+import com.botscrew.university.importer.BulkImporter;
+import com.botscrew.university.metrics.MetricsRegistry;
+import com.botscrew.university.search.IndexingListener;
+import com.botscrew.university.search.TrigramIndex;
+import com.botscrew.university.service.AsyncDepartmentService;
+import com.botscrew.university.service.AsyncLectorService;
 import com.botscrew.university.service.DepartmentService;
 import com.botscrew.university.service.LectorService;
+import com.botscrew.university.service.SalaryAnalyticsService;
+import com.botscrew.university.service.SearchCoordinator;
+import com.botscrew.university.service.SearchSource;
+import com.botscrew.university.ui.BatchRunner;
 import com.botscrew.university.ui.Menu;
+import com.botscrew.university.utils.BoundedExecutors;
 import com.botscrew.university.utils.ConnectionProvider;
 
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
 import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Scanner;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
 
 public class Main {
 
     public static void main(String[] args) throws FileNotFoundException {
-        ConnectionProvider connectionProvider = new ConnectionProvider();
-        LectorDao lectorDao = new LectorDao(connectionProvider);
-        DepartmentDao departmentDao = new DepartmentDao(connectionProvider);
-        LectorService lectorService = new LectorService(lectorDao);
-        DepartmentService departmentService = new DepartmentService(lectorService, departmentDao);
-        Menu menu = new Menu(departmentService, lectorService);
-        Scanner scanner = new Scanner(System.in);
-        String exit;
-        do {
-            menu.printMenu();
-            System.out.println("Enter exit to exit or whatever to continue");
-            exit = scanner.next();
-        } while (!exit.equals("exit"));
+        try (ConnectionProvider connectionProvider = new ConnectionProvider()) {
+            DegreeDictionary degreeDictionary = new DegreeDictionary(connectionProvider);
+            if (args.length > 0 && args[0].equals("import")) {
+                importData(connectionProvider, degreeDictionary, args);
+                return;
+            }
+            if (args.length > 0 && args[0].equals("export")) {
+                exportData(connectionProvider, args);
+                return;
+            }
+            LectorDao lectorDao;
+            DepartmentDao departmentDao;
+            if (connectionProvider.getBooleanProperty("cache.enabled", false)) {
+                int maxSize = connectionProvider.getIntProperty("cache.maxSize", 10_000);
+                EntityCache<Department> departmentCache = new EntityCache<>(maxSize, Department::new, Department::getId,
+                        Department::getName);
+                lectorDao = new CachingLectorDao(connectionProvider, degreeDictionary,
+                        new EntityCache<>(maxSize, Lector::new, Lector::getId), departmentCache);
+                departmentDao = new CachingDepartmentDao(connectionProvider, degreeDictionary, departmentCache);
+            } else {
+                lectorDao = new LectorDao(connectionProvider, degreeDictionary);
+                departmentDao = new DepartmentDao(connectionProvider, degreeDictionary);
+            }
+            DepartmentAggregateStore aggregateStore = null;
+            if (connectionProvider.getBooleanProperty("aggregates.enabled", false)) {
+                aggregateStore = new DepartmentAggregateStore(connectionProvider, degreeDictionary);
+                aggregateStore.rebuild();
+            }
+            ColumnarSnapshot snapshot = null;
+            try {
+                if (connectionProvider.getBooleanProperty("snapshot.enabled", false)) {
+                    snapshot = new ColumnarSnapshot(connectionProvider, degreeDictionary);
+                    snapshot.refresh();
+                    long refreshMillis = connectionProvider.getLongProperty("snapshot.refreshMillis", 0);
+                    if (refreshMillis > 0) {
+                        snapshot.scheduleRefresh(refreshMillis);
+                    }
+                }
+                TrigramIndex lectorIndex = null;
+                TrigramIndex departmentIndex = null;
+                if (connectionProvider.getBooleanProperty("search.index.enabled", false)) {
+                    lectorIndex = new TrigramIndex();
+                    IndexingListener<Lector> lectorIndexer = new IndexingListener<>(lectorIndex, Lector::getId,
+                            lector -> new String[]{lector.getName(), lector.getSurname()});
+                    lectorIndexer.populate(lectorDao.streamNames());
+                    lectorDao.addListener(lectorIndexer);
+                    departmentIndex = new TrigramIndex();
+                    IndexingListener<Department> departmentIndexer = new IndexingListener<>(departmentIndex,
+                            Department::getId, department -> new String[]{department.getName()});
+                    departmentIndexer.populate(departmentDao.streamNames());
+                    departmentDao.addListener(departmentIndexer);
+                    lectorDao.addHeadedDepartmentListener(departmentIndexer);
+                }
+                LectorService lectorService = new LectorService(lectorDao, aggregateStore, lectorIndex);
+                DepartmentService departmentService = new DepartmentService(lectorService, departmentDao,
+                        aggregateStore, departmentIndex, snapshot);
+                List<SearchSource> searchSources = Arrays.asList(
+                        SearchSource.of("lectors", lectorService::searchIfNameContains, Lector::getId,
+                                lector -> lector.getName() + " " + lector.getSurname()),
+                        SearchSource.of("departments", departmentService::searchIfNameContains, Department::getId,
+                                Department::getName));
+                try (SearchCoordinator searchCoordinator = new SearchCoordinator(searchSources,
+                        connectionProvider.getIntProperty("search.threads", 4),
+                        connectionProvider.getIntProperty("search.queueCapacity", 64),
+                        connectionProvider.getLongProperty("search.deadlineMillis", 2_000))) {
+                    if (args.length > 0 && args[0].equals("serve")) {
+                        serve(connectionProvider, args, departmentService, lectorService, searchCoordinator);
+                    } else if (args.length > 0 && args[0].equals("batch")) {
+                        ExecutorService asyncExecutor = BoundedExecutors.newConnectionBoundExecutor(connectionProvider);
+                        try {
+                            runBatch(connectionProvider, args, new BatchRunner(departmentService, lectorService,
+                                    new AsyncDepartmentService(departmentService, asyncExecutor),
+                                    new AsyncLectorService(lectorService, asyncExecutor), searchCoordinator,
+                                    new SalaryAnalyticsService(
+                                            new SalaryAnalyticsDao(connectionProvider, degreeDictionary)),
+                                    connectionProvider.getIntProperty("batch.searchLimit", 100)));
+                        } finally {
+                            asyncExecutor.shutdown();
+                        }
+                    } else {
+                        Menu menu = new Menu(departmentService, lectorService, searchCoordinator);
+                        Scanner scanner = new Scanner(System.in);
+                        String exit;
+                        do {
+                            menu.printMenu();
+                            System.out.println("Enter exit to exit or whatever to continue");
+                            exit = scanner.next();
+                        } while (!exit.equals("exit"));
+                    }
+                }
+            } finally {
+                if (snapshot != null) {
+                    snapshot.close();
+                }
+            }
+            connectionProvider.getMetricsRegistry().ifPresent(metrics -> System.err.println(metrics.summary()));
+        }
+    }
+
+    private static void serve(ConnectionProvider connectionProvider, String[] args, DepartmentService departmentService,
+                              LectorService lectorService, SearchCoordinator searchCoordinator) {
+        if (args.length > 2) {
+            System.err.println("Usage: serve [<port>]");
+            return;
+        }
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+        int port = args.length == 2 ? Integer.parseInt(args[1]) : connectionProvider.getIntProperty("http.port", 8080);
+        MetricsRegistry metricsRegistry = connectionProvider.getMetricsRegistry()
+                .orElseGet(() -> new MetricsRegistry(connectionProvider::getPoolStatistics, false));
+        ExecutorService executor = BoundedExecutors.newVirtualThreadOrBoundedExecutor("http-",
+                connectionProvider.getIntProperty("http.threads", 0),
+                connectionProvider.getIntProperty("http.queueCapacity", 1000));
+        CountDownLatch stopped = new CountDownLatch(1);
+        Thread mainThread = Thread.currentThread();
+        try (QueryServer server = new QueryServer(departmentService, lectorService, searchCoordinator, metricsRegistry,
+                connectionProvider.getIntProperty("batch.searchLimit", 100),
+                new InetSocketAddress(connectionProvider.getProperty("http.host", "127.0.0.1"), port),
+                connectionProvider.getIntProperty("http.backlog", 128), executor)) {
+            server.start();
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                stopped.countDown();
+                try {
+                    mainThread.join();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+            System.err.printf("Listening on port %d, press Ctrl+C to stop%n", server.getPort());
+            stopped.await();
+        } catch (IOException e) {
+            e.printStackTrace();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void runBatch(ConnectionProvider connectionProvider, String[] args, BatchRunner batchRunner) {
+        if (args.length > 3) {
+            System.err.println("Usage: batch [<commands file>|-] [<threads>]");
+            return;
+        }
+        int threads = args.length == 3 ? Integer.parseInt(args[2])
+                : connectionProvider.getIntProperty("batch.threads", 1);
+        try (Reader input = args.length < 2 || args[1].equals("-")
+                ? new BufferedReader(new InputStreamReader(System.in, UTF_8), 1 << 16)
+                : Files.newBufferedReader(Paths.get(args[1]), UTF_8)) {
+            Writer output = new BufferedWriter(new OutputStreamWriter(System.out, UTF_8), 1 << 16);
+            System.err.println(batchRunner.run(input, output, threads));
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private static void importData(ConnectionProvider connectionProvider, DegreeDictionary degreeDictionary,
+                                   String[] args) {
+        if (args.length != 4) {
+            System.err.println("Usage: import <lectors.csv> <departments.csv> <departments_lectors.csv>");
+            return;
+        }
+        BulkImporter importer = new BulkImporter(connectionProvider, degreeDictionary,
+                connectionProvider.getIntProperty("import.commitInterval", 50_000),
+                (table, rows) -> System.out.printf("%s: %d rows imported%n", table, rows));
+        try (Reader lectors = Files.newBufferedReader(Paths.get(args[1]), UTF_8);
+             Reader departments = Files.newBufferedReader(Paths.get(args[2]), UTF_8);
+             Reader assignments = Files.newBufferedReader(Paths.get(args[3]), UTF_8)) {
+            System.out.println(importer.importAll(lectors, departments, assignments));
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private static void exportData(ConnectionProvider connectionProvider, String[] args) {
+        if (args.length != 4) {
+            System.err.println("Usage: export <lectors|departments|department_statistics> <csv|ndjson> <file[.gz]>");
+            return;
+        }
+        TableExporter exporter = new TableExporter(connectionProvider);
+        long rows = exporter.export(ExportTarget.valueOf(args[1].toUpperCase()), ExportFormat.valueOf(args[2].toUpperCase()),
+                Paths.get(args[3]));
+        System.out.printf("Exported %d rows to %s%n", rows, args[3]);
     }
 }
@@ -0,0 +1,109 @@
+package com.botscrew.university.analytics;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+public class QuantileSketch {
+
+    private final int capacity;
+    private TreeMap<Double, Long> centroids = new TreeMap<>();
+    private long count;
+    private boolean exact = true;
+
+    public QuantileSketch(int capacity) {
+        if (capacity < 2) {
+            throw new IllegalArgumentException("Sketch capacity must be at least 2, got " + capacity);
+        }
+        this.capacity = capacity;
+    }
+
+    public void add(double value) {
+        centroids.merge(value, 1L, Long::sum);
+        count++;
+        if (centroids.size() > capacity) {
+            compress();
+        }
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public boolean isExact() {
+        return exact;
+    }
+
+    public double quantile(double fraction) {
+        if (fraction < 0 || fraction > 1) {
+            throw new IllegalArgumentException("Quantile must be between 0 and 1, got " + fraction);
+        }
+        if (count == 0) {
+            return 0;
+        }
+        double position = fraction * (count - 1);
+        if (exact) {
+            long lowerRank = (long) Math.floor(position);
+            double lower = valueAt(lowerRank);
+            double upper = lowerRank + 1 < count ? valueAt(lowerRank + 1) : lower;
+            return lower + (upper - lower) * (position - lowerRank);
+        }
+        return interpolateBetweenCentroids(position);
+    }
+
+    private double valueAt(long rank) {
+        long seen = 0;
+        for (Map.Entry<Double, Long> centroid : centroids.entrySet()) {
+            seen += centroid.getValue();
+            if (rank < seen) {
+                return centroid.getKey();
+            }
+        }
+        return centroids.lastKey();
+    }
+
+    private double interpolateBetweenCentroids(double position) {
+        long seen = 0;
+        double previousCenter = 0;
+        double previousMean = centroids.firstKey();
+        boolean first = true;
+        for (Map.Entry<Double, Long> centroid : centroids.entrySet()) {
+            double center = seen + (centroid.getValue() - 1) / 2.0;
+            if (position <= center) {
+                return first ? centroid.getKey()
+                        : previousMean + (centroid.getKey() - previousMean) * (position - previousCenter)
+                        / (center - previousCenter);
+            }
+            previousCenter = center;
+            previousMean = centroid.getKey();
+            first = false;
+            seen += centroid.getValue();
+        }
+        return centroids.lastKey();
+    }
+
+    private void compress() {
+        exact = false;
+        double compression = capacity * 0.8;
+        TreeMap<Double, Long> compressed = new TreeMap<>();
+        double weightedSum = 0;
+        long weight = 0;
+        long before = 0;
+        for (Map.Entry<Double, Long> centroid : centroids.entrySet()) {
+            if (weight > 0 && scale(compression, (double) (before + weight + centroid.getValue()) / count)
+                    - scale(compression, (double) before / count) > 1) {
+                compressed.merge(weightedSum / weight, weight, Long::sum);
+                before += weight;
+                weightedSum = 0;
+                weight = 0;
+            }
+            weightedSum += centroid.getKey() * centroid.getValue();
+            weight += centroid.getValue();
+        }
+        compressed.merge(weightedSum / weight, weight, Long::sum);
+        centroids = compressed;
+    }
+
+    private static double scale(double compression, double quantile) {
+        return compression / (2 * Math.PI) * Math.asin(2 * Math.min(quantile, 1) - 1);
+    }
+}
@@ -0,0 +1,45 @@
+package com.botscrew.university.analytics;
+
+import com.botscrew.university.domain.SalaryDistribution;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+public class SalaryAccumulator {
+
+    private final int bandWidth;
+    private final QuantileSketch sketch;
+    private final Map<Integer, Integer> bands = new TreeMap<>();
+    private int count;
+    private double mean;
+    private double squaredDeviations;
+    private int minSalary = Integer.MAX_VALUE;
+    private int maxSalary = Integer.MIN_VALUE;
+
+    public SalaryAccumulator(int bandWidth, int sketchCapacity) {
+        if (bandWidth < 1) {
+            throw new IllegalArgumentException("Band width must be positive, got " + bandWidth);
+        }
+        this.bandWidth = bandWidth;
+        sketch = new QuantileSketch(sketchCapacity);
+    }
+
+    public void add(int salary) {
+        count++;
+        double delta = salary - mean;
+        mean += delta / count;
+        squaredDeviations += delta * (salary - mean);
+        minSalary = Math.min(minSalary, salary);
+        maxSalary = Math.max(maxSalary, salary);
+        bands.merge(salary / bandWidth * bandWidth, 1, Integer::sum);
+        sketch.add(salary);
+    }
+
+    public SalaryDistribution toDistribution() {
+        if (count == 0) {
+            return new SalaryDistribution(0, 0, 0, 0, 0, 0, 0, 0, new TreeMap<>());
+        }
+        return new SalaryDistribution(count, mean, Math.sqrt(squaredDeviations / count), minSalary, maxSalary,
+                sketch.quantile(0.5), sketch.quantile(0.9), sketch.quantile(0.99), new TreeMap<>(bands));
+    }
+}
@@ -0,0 +1,28 @@
+package com.botscrew.university.dao;
+
+import com.botscrew.university.utils.ConnectionProvider;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+public enum AnalyticsEngine {
+
+    SQL,
+    SKETCH;
+
+    private static final String AUTO = "auto";
+    private static final String POSTGRESQL = "PostgreSQL";
+
+    public static AnalyticsEngine resolve(ConnectionProvider connectionProvider) {
+        String engine = connectionProvider.getProperty("analytics.engine", AUTO);
+        if (!AUTO.equalsIgnoreCase(engine)) {
+            return valueOf(engine.toUpperCase());
+        }
+        try (Connection connection = connectionProvider.getConnection()) {
+            return POSTGRESQL.equals(connection.getMetaData().getDatabaseProductName()) ? SQL : SKETCH;
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return SKETCH;
+    }
+}
@@ -0,0 +1,97 @@
+package com.botscrew.university.dao;
+
+import com.botscrew.university.domain.Department;
+import com.botscrew.university.utils.ConnectionProvider;
+
+import java.util.Collection;
+import java.util.Optional;
+
+public class CachingDepartmentDao extends DepartmentDao {
+
+    private final EntityCache<Department> departmentCache;
+
+    public CachingDepartmentDao(ConnectionProvider connectionProvider, DegreeDictionary degreeDictionary,
+                                EntityCache<Department> departmentCache) {
+        super(connectionProvider, degreeDictionary);
+        this.departmentCache = departmentCache;
+    }
+
+    @Override
+    public Optional<Department> getById(int id) {
+        long generation = departmentCache.generation();
+        Optional<Department> department = departmentCache.getById(id);
+        if (department.isPresent()) {
+            return department;
+        }
+        return cache(generation, super.getById(id));
+    }
+
+    @Override
+    public Optional<Department> getByName(String name) {
+        long generation = departmentCache.generation();
+        Optional<Department> department = departmentCache.getByName(name);
+        if (department.isPresent()) {
+            return department;
+        }
+        return cache(generation, super.getByName(name));
+    }
+
+    @Override
+    public boolean save(Department department) {
+        boolean applied = super.save(department);
+        departmentCache.invalidateName(department.getName());
+        return applied;
+    }
+
+    @Override
+    public boolean update(Department department) {
+        boolean applied = super.update(department);
+        departmentCache.invalidate(department.getId());
+        departmentCache.invalidateName(department.getName());
+        return applied;
+    }
+
+    @Override
+    public boolean delete(int id) {
+        boolean applied = super.delete(id);
+        departmentCache.invalidate(id);
+        return applied;
+    }
+
+    @Override
+    public boolean saveAll(Collection<Department> departments) {
+        try {
+            return super.saveAll(departments);
+        } finally {
+            departments.forEach(department -> departmentCache.invalidateName(department.getName()));
+        }
+    }
+
+    @Override
+    public boolean updateAll(Collection<Department> departments) {
+        try {
+            return super.updateAll(departments);
+        } finally {
+            departments.forEach(department -> {
+                departmentCache.invalidate(department.getId());
+                departmentCache.invalidateName(department.getName());
+            });
+        }
+    }
+
+    @Override
+    public boolean deleteAll(Collection<Integer> ids) {
+        boolean applied = super.deleteAll(ids);
+        ids.forEach(departmentCache::invalidate);
+        return applied;
+    }
+
+    public CacheStatistics getCacheStatistics() {
+        return departmentCache.getStatistics();
+    }
+
+    private Optional<Department> cache(long generation, Optional<Department> department) {
+        department.ifPresent(loaded -> departmentCache.put(loaded, generation));
+        return department;
+    }
+}
@@ -0,0 +1,82 @@
+package com.botscrew.university.dao;
+
+import com.botscrew.university.domain.Department;
+import com.botscrew.university.domain.Lector;
+import com.botscrew.university.utils.ConnectionProvider;
+
+import java.util.Collection;
+import java.util.Optional;
+
+public class CachingLectorDao extends LectorDao {
+
+    private final EntityCache<Lector> lectorCache;
+    private final EntityCache<Department> departmentCache;
+
+    public CachingLectorDao(ConnectionProvider connectionProvider, DegreeDictionary degreeDictionary,
+                            EntityCache<Lector> lectorCache, EntityCache<Department> departmentCache) {
+        super(connectionProvider, degreeDictionary);
+        this.lectorCache = lectorCache;
+        this.departmentCache = departmentCache;
+    }
+
+    @Override
+    public Optional<Lector> getById(int id) {
+        long generation = lectorCache.generation();
+        Optional<Lector> lector = lectorCache.getById(id);
+        if (lector.isPresent()) {
+            return lector;
+        }
+        return cache(generation, super.getById(id));
+    }
+
+    @Override
+    public boolean update(Lector lector) {
+        boolean applied = super.update(lector);
+        lectorCache.invalidate(lector.getId());
+        return applied;
+    }
+
+    @Override
+    public boolean delete(int id) {
+        boolean applied = super.delete(id);
+        lectorCache.invalidate(id);
+        departmentCache.invalidateAll();
+        return applied;
+    }
+
+    @Override
+    public boolean updateAll(Collection<Lector> lectors) {
+        boolean applied = super.updateAll(lectors);
+        lectors.forEach(lector -> lectorCache.invalidate(lector.getId()));
+        return applied;
+    }
+
+    @Override
+    public boolean deleteAll(Collection<Integer> ids) {
+        boolean applied = super.deleteAll(ids);
+        ids.forEach(lectorCache::invalidate);
+        departmentCache.invalidateAll();
+        return applied;
+    }
+
+    @Override
+    public Optional<Lector> getHeadOfDepartment(String nameOfDepartment) {
+        long generation = lectorCache.generation();
+        Optional<Lector> head = departmentCache.getByName(nameOfDepartment)
+                .map(Department::getHead)
+                .flatMap(lectorCache::getById);
+        if (head.isPresent()) {
+            return head;
+        }
+        return cache(generation, super.getHeadOfDepartment(nameOfDepartment));
+    }
+
+    public CacheStatistics getCacheStatistics() {
+        return lectorCache.getStatistics();
+    }
+
+    private Optional<Lector> cache(long generation, Optional<Lector> lector) {
+        lector.ifPresent(loaded -> lectorCache.put(loaded, generation));
+        return lector;
+    }
+}
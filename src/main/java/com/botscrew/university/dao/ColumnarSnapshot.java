@@ -0,0 +1,321 @@
+package com.botscrew.university.dao;
+
+import com.botscrew.university.domain.DepartmentStatistic;
+import com.botscrew.university.utils.ConnectionProvider;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.stream.IntStream;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+public class ColumnarSnapshot implements AutoCloseable {
+
+    private static final String GET_LECTOR_COLUMNS_SQL = "SELECT id, degree_id, salary FROM lectors ORDER BY id";
+    private static final String GET_DEPARTMENT_COLUMNS_SQL = "SELECT id, name FROM departments ORDER BY id";
+    private static final String GET_ASSIGNMENT_COLUMNS_SQL = "SELECT department_id, lector_id FROM departments_lectors " +
+            "ORDER BY department_id";
+    private static final int MAX_DEGREES = 256;
+    private static final int PARALLEL_THRESHOLD = 1 << 16;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final ConnectionProvider connectionProvider;
+    private final int fetchSize;
+    private final DegreeDictionary degreeDictionary;
+    private final QueryTimer metrics;
+    private volatile Columns columns = Columns.EMPTY;
+    private ScheduledExecutorService refresher;
+
+    public ColumnarSnapshot(ConnectionProvider connectionProvider, DegreeDictionary degreeDictionary) {
+        this.connectionProvider = connectionProvider;
+        fetchSize = connectionProvider.getIntProperty("stream.fetchSize", 1000);
+        this.degreeDictionary = degreeDictionary;
+        connectionProvider.registerSqlNames(ColumnarSnapshot.class);
+        metrics = new QueryTimer(connectionProvider);
+    }
+
+    public synchronized long refresh() {
+        metrics.time("ColumnarSnapshot.refresh", refreshed -> refreshed.lectorIds.length, columns, () -> {
+            try (Connection connection = connectionProvider.getConnection()) {
+                boolean autoCommit = connection.getAutoCommit();
+                boolean readOnly = connection.isReadOnly();
+                int isolation = connection.getTransactionIsolation();
+                connection.setReadOnly(true);
+                connection.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+                connection.setAutoCommit(false);
+                try {
+                    columns = load(connection, columns.version + 1);
+                } finally {
+                    connection.commit();
+                    connection.setAutoCommit(autoCommit);
+                    connection.setTransactionIsolation(isolation);
+                    connection.setReadOnly(readOnly);
+                }
+            }
+            return columns;
+        });
+        return columns.version;
+    }
+
+    public synchronized void scheduleRefresh(long periodMillis) {
+        if (refresher != null) {
+            throw new IllegalStateException("Snapshot refresh is already scheduled");
+        }
+        refresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "columnar-snapshot-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        refresher.scheduleWithFixedDelay(() -> {
+            try {
+                refresh();
+            } catch (RuntimeException e) {
+                e.printStackTrace();
+            }
+        }, periodMillis, periodMillis, MILLISECONDS);
+    }
+
+    public long getVersion() {
+        return columns.version;
+    }
+
+    public long getLoadedAtMillis() {
+        return columns.loadedAtMillis;
+    }
+
+    public int getLectorCount() {
+        return columns.lectorIds.length;
+    }
+
+    public long getFootprintBytes() {
+        return columns.footprintBytes();
+    }
+
+    public Optional<DepartmentStatistic> getStatisticByName(String name) {
+        Columns snapshot = columns;
+        Integer department = snapshot.departmentIndexByName.get(name);
+        return department == null ? Optional.empty() : Optional.of(snapshot.statistic(department));
+    }
+
+    public Map<String, DepartmentStatistic> getStatistics() {
+        Columns snapshot = columns;
+        IntStream departments = IntStream.range(0, snapshot.departmentIds.length);
+        if (snapshot.departmentLectors.length >= PARALLEL_THRESHOLD) {
+            departments = departments.parallel();
+        }
+        DepartmentStatistic[] statistics = departments.mapToObj(snapshot::statistic).toArray(DepartmentStatistic[]::new);
+        Map<String, DepartmentStatistic> result = new LinkedHashMap<>();
+        for (DepartmentStatistic statistic : statistics) {
+            result.put(statistic.getName(), statistic);
+        }
+        return result;
+    }
+
+    public Map<String, DepartmentStatistic> getStatisticsByNames(Collection<String> names) {
+        Columns snapshot = columns;
+        Map<String, DepartmentStatistic> result = new LinkedHashMap<>();
+        for (String name : names) {
+            Integer department = snapshot.departmentIndexByName.get(name);
+            if (department != null && !result.containsKey(name)) {
+                result.put(name, snapshot.statistic(department));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (refresher != null) {
+            refresher.shutdownNow();
+        }
+    }
+
+    private Columns load(Connection connection, long version) throws SQLException {
+        int[] lectorIds = new int[INITIAL_CAPACITY];
+        int[] salaries = new int[INITIAL_CAPACITY];
+        byte[] degreeCodes = new byte[INITIAL_CAPACITY];
+        BitSet missingSalaries = new BitSet();
+        Map<Integer, Integer> codesByDegreeId = new HashMap<>();
+        int lectors = 0;
+        degreeDictionary.reload(connection);
+        try (PreparedStatement statement = connection.prepareStatement(GET_LECTOR_COLUMNS_SQL)) {
+            statement.setFetchSize(fetchSize);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    if (lectors == lectorIds.length) {
+                        int capacity = lectors * 2;
+                        lectorIds = Arrays.copyOf(lectorIds, capacity);
+                        salaries = Arrays.copyOf(salaries, capacity);
+                        degreeCodes = Arrays.copyOf(degreeCodes, capacity);
+                    }
+                    int degreeValue = resultSet.getInt(2);
+                    Integer degreeId = resultSet.wasNull() ? null : degreeValue;
+                    Integer code = codesByDegreeId.get(degreeId);
+                    if (code == null) {
+                        if (codesByDegreeId.size() == MAX_DEGREES) {
+                            throw new IllegalStateException("Columnar snapshot supports at most " + MAX_DEGREES
+                                    + " distinct degrees");
+                        }
+                        code = codesByDegreeId.size();
+                        codesByDegreeId.put(degreeId, code);
+                    }
+                    lectorIds[lectors] = resultSet.getInt(1);
+                    degreeCodes[lectors] = (byte) (int) code;
+                    salaries[lectors] = resultSet.getInt(3);
+                    if (resultSet.wasNull()) {
+                        missingSalaries.set(lectors);
+                    }
+                    lectors++;
+                }
+            }
+        }
+        String[] degrees = new String[codesByDegreeId.size()];
+        for (Map.Entry<Integer, Integer> entry : codesByDegreeId.entrySet()) {
+            degrees[entry.getValue()] = entry.getKey() == null ? null
+                    : degreeDictionary.nameOf(connection, entry.getKey());
+        }
+
+        int[] departmentIds = new int[INITIAL_CAPACITY];
+        String[] departmentNames = new String[INITIAL_CAPACITY];
+        int departments = 0;
+        try (PreparedStatement statement = connection.prepareStatement(GET_DEPARTMENT_COLUMNS_SQL)) {
+            statement.setFetchSize(fetchSize);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    if (departments == departmentIds.length) {
+                        departmentIds = Arrays.copyOf(departmentIds, departments * 2);
+                        departmentNames = Arrays.copyOf(departmentNames, departments * 2);
+                    }
+                    departmentIds[departments] = resultSet.getInt(1);
+                    departmentNames[departments] = resultSet.getString(2);
+                    departments++;
+                }
+            }
+        }
+        lectorIds = Arrays.copyOf(lectorIds, lectors);
+        departmentIds = Arrays.copyOf(departmentIds, departments);
+
+        int[] departmentOffsets = new int[departments + 1];
+        int[] departmentLectors = new int[Math.max(lectors, INITIAL_CAPACITY)];
+        int assignments = 0;
+        try (PreparedStatement statement = connection.prepareStatement(GET_ASSIGNMENT_COLUMNS_SQL)) {
+            statement.setFetchSize(fetchSize);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    int department = Arrays.binarySearch(departmentIds, resultSet.getInt(1));
+                    int lector = Arrays.binarySearch(lectorIds, resultSet.getInt(2));
+                    if (department < 0 || lector < 0) {
+                        continue;
+                    }
+                    if (assignments == departmentLectors.length) {
+                        departmentLectors = Arrays.copyOf(departmentLectors, assignments * 2);
+                    }
+                    departmentLectors[assignments++] = lector;
+                    departmentOffsets[department + 1]++;
+                }
+            }
+        }
+        for (int i = 0; i < departments; i++) {
+            departmentOffsets[i + 1] += departmentOffsets[i];
+        }
+        Map<String, Integer> departmentIndexByName = new HashMap<>(departments * 2);
+        for (int i = 0; i < departments; i++) {
+            departmentIndexByName.put(departmentNames[i], i);
+        }
+        return new Columns(version, System.currentTimeMillis(), lectorIds, Arrays.copyOf(salaries, lectors),
+                missingSalaries, Arrays.copyOf(degreeCodes, lectors), degrees, departmentIds, Arrays.copyOf(departmentNames, departments),
+                departmentIndexByName, departmentOffsets, Arrays.copyOf(departmentLectors, assignments));
+    }
+
+    private static final class Columns {
+
+        private static final Columns EMPTY = new Columns(0, 0, new int[0], new int[0], new BitSet(), new byte[0],
+                new String[0], new int[0], new String[0], new HashMap<>(), new int[1], new int[0]);
+
+        private final long version;
+        private final long loadedAtMillis;
+        private final int[] lectorIds;
+        private final int[] salaries;
+        private final BitSet missingSalaries;
+        private final byte[] degreeCodes;
+        private final String[] degrees;
+        private final int[] departmentIds;
+        private final String[] departmentNames;
+        private final Map<String, Integer> departmentIndexByName;
+        private final int[] departmentOffsets;
+        private final int[] departmentLectors;
+
+        private Columns(long version, long loadedAtMillis, int[] lectorIds, int[] salaries, BitSet missingSalaries,
+                        byte[] degreeCodes, String[] degrees, int[] departmentIds, String[] departmentNames,
+                        Map<String, Integer> departmentIndexByName, int[] departmentOffsets, int[] departmentLectors) {
+            this.version = version;
+            this.loadedAtMillis = loadedAtMillis;
+            this.lectorIds = lectorIds;
+            this.salaries = salaries;
+            this.missingSalaries = missingSalaries;
+            this.degreeCodes = degreeCodes;
+            this.degrees = degrees;
+            this.departmentIds = departmentIds;
+            this.departmentNames = departmentNames;
+            this.departmentIndexByName = departmentIndexByName;
+            this.departmentOffsets = departmentOffsets;
+            this.departmentLectors = departmentLectors;
+        }
+
+        private DepartmentStatistic statistic(int department) {
+            int from = departmentOffsets[department];
+            int to = departmentOffsets[department + 1];
+            int[] degreeCounts = new int[degrees.length];
+            long salarySum = 0;
+            int salaryCount = 0;
+            int minSalary = Integer.MAX_VALUE;
+            int maxSalary = Integer.MIN_VALUE;
+            for (int i = from; i < to; i++) {
+                int lector = departmentLectors[i];
+                degreeCounts[degreeCodes[lector] & 0xFF]++;
+                if (missingSalaries.get(lector)) {
+                    continue;
+                }
+                int salary = salaries[lector];
+                salarySum += salary;
+                salaryCount++;
+                minSalary = Math.min(minSalary, salary);
+                maxSalary = Math.max(maxSalary, salary);
+            }
+            Map<String, Integer> degreeStatistic = new HashMap<>();
+            for (int code = 0; code < degreeCounts.length; code++) {
+                if (degreeCounts[code] > 0) {
+                    degreeStatistic.put(degrees[code], degreeCounts[code]);
+                }
+            }
+            int count = to - from;
+            return salaryCount == 0
+                    ? new DepartmentStatistic(departmentNames[department], count, 0, 0, 0, degreeStatistic)
+                    : new DepartmentStatistic(departmentNames[department], count, (double) salarySum / salaryCount,
+                    minSalary, maxSalary, degreeStatistic);
+        }
+
+        private long footprintBytes() {
+            long bytes = 4L * (lectorIds.length + salaries.length + departmentIds.length + departmentOffsets.length
+                    + departmentLectors.length) + degreeCodes.length + missingSalaries.size() / 8;
+            for (String name : departmentNames) {
+                bytes += name == null ? 48 : 40 + 2L * name.length() + 48;
+            }
+            for (String degree : degrees) {
+                bytes += degree == null ? 0 : 40 + 2L * degree.length();
+            }
+            return bytes + 8L * departmentNames.length;
+        }
+    }
+}
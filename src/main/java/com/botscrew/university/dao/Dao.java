@@ -1,7 +1,9 @@
 package com.botscrew.university.dao;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface Dao<T> {
 
@@ -9,9 +11,19 @@ public interface Dao<T> {
 
     List<T> getAll();
 
-    void save(T t);
+    Stream<T> streamAll();
 
-    void update(T t);
+    boolean save(T t);
 
-    void delete(int id);
+    boolean update(T t);
+
+    boolean delete(int id);
+
+    boolean saveAll(Collection<T> entities);
+
+    boolean updateAll(Collection<T> entities);
+
+    boolean deleteAll(Collection<Integer> ids);
+
+    void addListener(EntityListener<T> listener);
 }
@@ -0,0 +1,128 @@
+package com.botscrew.university.dao;
+
+import com.botscrew.university.utils.ConnectionProvider;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.sql.Statement.RETURN_GENERATED_KEYS;
+
+public class DegreeDictionary {
+
+    private static final String GET_ALL_DEGREES_SQL = "SELECT id, name FROM degrees";
+    private static final String GET_DEGREE_ID_BY_NAME_SQL = "SELECT id FROM degrees WHERE name = ?";
+    private static final String CREATE_DEGREE_SQL = "INSERT INTO degrees (name) VALUES (?)";
+
+    private final ConnectionProvider connectionProvider;
+    private final Map<Integer, String> namesById = new ConcurrentHashMap<>();
+    private final Map<String, Integer> idsByName = new ConcurrentHashMap<>();
+
+    public DegreeDictionary(ConnectionProvider connectionProvider) {
+        this.connectionProvider = connectionProvider;
+        connectionProvider.registerSqlNames(DegreeDictionary.class);
+    }
+
+    public String nameOf(ResultSet resultSet, String column) throws SQLException {
+        int id = resultSet.getInt(column);
+        return resultSet.wasNull() ? null : nameOf(id);
+    }
+
+    public String nameOf(ResultSet resultSet, int column) throws SQLException {
+        int id = resultSet.getInt(column);
+        return resultSet.wasNull() ? null : nameOf(id);
+    }
+
+    public String nameOf(Connection connection, int id) throws SQLException {
+        String name = namesById.get(id);
+        if (name == null) {
+            reload(connection);
+            name = namesById.get(id);
+        }
+        return name;
+    }
+
+    public Integer idOf(Connection connection, String name) throws SQLException {
+        if (name == null) {
+            return null;
+        }
+        Integer id = idsByName.get(name);
+        if (id != null) {
+            return id;
+        }
+        id = find(connection, name);
+        if (id == null) {
+            id = create(connection, name);
+        }
+        if (connection.getAutoCommit()) {
+            cache(id, name);
+        }
+        return id;
+    }
+
+    public void reload(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(GET_ALL_DEGREES_SQL)) {
+            while (resultSet.next()) {
+                cache(resultSet.getInt(1), resultSet.getString(2));
+            }
+        }
+    }
+
+    private String nameOf(int id) throws SQLException {
+        String name = namesById.get(id);
+        if (name == null) {
+            try (Connection connection = connectionProvider.getConnection()) {
+                reload(connection);
+            }
+            name = namesById.get(id);
+        }
+        return name;
+    }
+
+    private void cache(int id, String name) {
+        String cached = namesById.putIfAbsent(id, name);
+        idsByName.putIfAbsent(cached != null ? cached : name, id);
+    }
+
+    private Integer find(Connection connection, String name) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(GET_DEGREE_ID_BY_NAME_SQL)) {
+            statement.setString(1, name);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() ? resultSet.getInt(1) : null;
+            }
+        }
+    }
+
+    private Integer create(Connection connection, String name) throws SQLException {
+        Savepoint savepoint = connection.getAutoCommit() ? null : connection.setSavepoint();
+        try (PreparedStatement statement = connection.prepareStatement(CREATE_DEGREE_SQL, RETURN_GENERATED_KEYS)) {
+            statement.setString(1, name);
+            statement.executeUpdate();
+            try (ResultSet generatedKeys = statement.getGeneratedKeys()) {
+                if (generatedKeys.next()) {
+                    return generatedKeys.getInt(1);
+                }
+            }
+        } catch (SQLException e) {
+            if (savepoint != null) {
+                connection.rollback(savepoint);
+            }
+            Integer id = find(connection, name);
+            if (id != null) {
+                return id;
+            }
+            throw e;
+        } finally {
+            if (savepoint != null) {
+                connection.releaseSavepoint(savepoint);
+            }
+        }
+        throw new SQLException("Degree " + name + " was not assigned an id");
+    }
+}
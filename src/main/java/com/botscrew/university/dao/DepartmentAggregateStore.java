@@ -0,0 +1,332 @@
+package com.botscrew.university.dao;
+
+import com.botscrew.university.domain.Department;
+import com.botscrew.university.domain.DepartmentStatistic;
+import com.botscrew.university.domain.Lector;
+import com.botscrew.university.utils.ConnectionProvider;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+public class DepartmentAggregateStore {
+
+    private static final String GET_ALL_LECTORS_SQL = "SELECT id, degree_id, salary FROM lectors";
+    private static final String GET_ALL_DEPARTMENTS_SQL = "SELECT id, name, head FROM departments";
+    private static final String GET_ALL_ASSIGNMENTS_SQL = "SELECT department_id, lector_id FROM departments_lectors";
+
+    private final ConnectionProvider connectionProvider;
+    private final DegreeDictionary degreeDictionary;
+    private final QueryTimer metrics;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Map<Integer, LectorEntry> lectors = new HashMap<>();
+    private Map<Integer, DepartmentAggregate> departments = new HashMap<>();
+    private Map<String, Integer> departmentIdsByName = new HashMap<>();
+    private List<Runnable> pendingDeltas;
+
+    public DepartmentAggregateStore(ConnectionProvider connectionProvider, DegreeDictionary degreeDictionary) {
+        this.connectionProvider = connectionProvider;
+        this.degreeDictionary = degreeDictionary;
+        connectionProvider.registerSqlNames(DepartmentAggregateStore.class);
+        metrics = new QueryTimer(connectionProvider);
+    }
+
+    public synchronized void rebuild() {
+        lock.writeLock().lock();
+        try {
+            pendingDeltas = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        Map<Integer, LectorEntry> rebuiltLectors = new HashMap<>();
+        Map<Integer, DepartmentAggregate> rebuiltDepartments = new HashMap<>();
+        Map<String, Integer> rebuiltDepartmentIdsByName = new HashMap<>();
+        boolean loaded = metrics.time("DepartmentAggregateStore.rebuild", ok -> rebuiltLectors.size(), false, () -> {
+            try (Connection connection = connectionProvider.getConnection();
+                 Statement statement = connection.createStatement()) {
+                degreeDictionary.reload(connection);
+                try (ResultSet resultSet = statement.executeQuery(GET_ALL_LECTORS_SQL)) {
+                    while (resultSet.next()) {
+                        int salaryValue = resultSet.getInt(3);
+                        Integer salary = resultSet.wasNull() ? null : salaryValue;
+                        rebuiltLectors.put(resultSet.getInt(1), new LectorEntry(degreeDictionary.nameOf(resultSet, 2),
+                                salary));
+                    }
+                }
+                try (ResultSet resultSet = statement.executeQuery(GET_ALL_DEPARTMENTS_SQL)) {
+                    while (resultSet.next()) {
+                        DepartmentAggregate aggregate = new DepartmentAggregate(resultSet.getString(2),
+                                resultSet.getInt(3));
+                        rebuiltDepartments.put(resultSet.getInt(1), aggregate);
+                        rebuiltDepartmentIdsByName.put(aggregate.name, resultSet.getInt(1));
+                    }
+                }
+                try (ResultSet resultSet = statement.executeQuery(GET_ALL_ASSIGNMENTS_SQL)) {
+                    while (resultSet.next()) {
+                        DepartmentAggregate aggregate = rebuiltDepartments.get(resultSet.getInt(1));
+                        LectorEntry lector = rebuiltLectors.get(resultSet.getInt(2));
+                        if (aggregate != null && lector != null) {
+                            lector.departmentIds.add(resultSet.getInt(1));
+                            aggregate.lectorIds.add(resultSet.getInt(2));
+                            aggregate.add(lector);
+                        }
+                    }
+                }
+            }
+            return true;
+        });
+        lock.writeLock().lock();
+        try {
+            if (loaded) {
+                lectors = rebuiltLectors;
+                departments = rebuiltDepartments;
+                departmentIdsByName = rebuiltDepartmentIdsByName;
+                pendingDeltas.forEach(Runnable::run);
+            }
+            pendingDeltas = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Optional<DepartmentStatistic> getStatisticByName(String name) {
+        lock.readLock().lock();
+        try {
+            Integer id = departmentIdsByName.get(name);
+            return id == null ? Optional.empty() : Optional.of(departments.get(id).toStatistic());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Map<String, DepartmentStatistic> getStatistics() {
+        lock.readLock().lock();
+        try {
+            Map<String, DepartmentStatistic> result = new LinkedHashMap<>();
+            new TreeMap<>(departments).values().forEach(aggregate -> result.put(aggregate.name, aggregate.toStatistic()));
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Map<String, DepartmentStatistic> getStatisticsByNames(Collection<String> names) {
+        lock.readLock().lock();
+        try {
+            Map<String, DepartmentStatistic> result = new LinkedHashMap<>();
+            for (String name : names) {
+                Integer id = departmentIdsByName.get(name);
+                if (id != null) {
+                    result.put(name, departments.get(id).toStatistic());
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void lectorSaved(Lector lector) {
+        apply(() -> applyLectorSaved(lector));
+    }
+
+    public void lectorUpdated(Lector lector) {
+        apply(() -> applyLectorUpdated(lector));
+    }
+
+    public void lectorDeleted(int id) {
+        apply(() -> applyLectorDeleted(id));
+    }
+
+    public void departmentSaved(Department department) {
+        apply(() -> applyDepartmentSaved(department));
+    }
+
+    public void departmentUpdated(Department department) {
+        apply(() -> applyDepartmentUpdated(department));
+    }
+
+    public void departmentDeleted(int id) {
+        apply(() -> removeDepartment(id));
+    }
+
+    public void lectorAssigned(int departmentId, int lectorId) {
+        apply(() -> applyLectorAssigned(departmentId, lectorId));
+    }
+
+    public void lectorUnassigned(int departmentId, int lectorId) {
+        apply(() -> applyLectorUnassigned(departmentId, lectorId));
+    }
+
+    private void apply(Runnable delta) {
+        lock.writeLock().lock();
+        try {
+            delta.run();
+            if (pendingDeltas != null) {
+                pendingDeltas.add(delta);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void applyLectorSaved(Lector lector) {
+        if (lectors.containsKey(lector.getId())) {
+            applyLectorUpdated(lector);
+        } else {
+            lectors.put(lector.getId(), new LectorEntry(lector.getDegree(), lector.getSalary()));
+        }
+    }
+
+    private void applyLectorUpdated(Lector lector) {
+        LectorEntry previous = lectors.get(lector.getId());
+        if (previous == null) {
+            return;
+        }
+        LectorEntry updated = new LectorEntry(lector.getDegree(), lector.getSalary());
+        updated.departmentIds.addAll(previous.departmentIds);
+        lectors.put(lector.getId(), updated);
+        for (int departmentId : previous.departmentIds) {
+            DepartmentAggregate aggregate = departments.get(departmentId);
+            aggregate.remove(previous);
+            aggregate.add(updated);
+        }
+    }
+
+    private void applyLectorDeleted(int id) {
+        LectorEntry removed = lectors.remove(id);
+        if (removed != null) {
+            for (int departmentId : removed.departmentIds) {
+                DepartmentAggregate aggregate = departments.get(departmentId);
+                aggregate.lectorIds.remove(id);
+                aggregate.remove(removed);
+            }
+        }
+        List<Integer> headedDepartments = new ArrayList<>();
+        departments.forEach((departmentId, aggregate) -> {
+            if (aggregate.head == id) {
+                headedDepartments.add(departmentId);
+            }
+        });
+        headedDepartments.forEach(this::removeDepartment);
+    }
+
+    private void applyDepartmentSaved(Department department) {
+        if (departments.containsKey(department.getId())) {
+            applyDepartmentUpdated(department);
+        } else {
+            departments.put(department.getId(), new DepartmentAggregate(department.getName(), department.getHead()));
+            departmentIdsByName.put(department.getName(), department.getId());
+        }
+    }
+
+    private void applyDepartmentUpdated(Department department) {
+        DepartmentAggregate aggregate = departments.get(department.getId());
+        if (aggregate == null) {
+            return;
+        }
+        departmentIdsByName.remove(aggregate.name);
+        aggregate.name = department.getName();
+        aggregate.head = department.getHead();
+        departmentIdsByName.put(aggregate.name, department.getId());
+    }
+
+    private void applyLectorAssigned(int departmentId, int lectorId) {
+        DepartmentAggregate aggregate = departments.get(departmentId);
+        LectorEntry lector = lectors.get(lectorId);
+        if (aggregate != null && lector != null && aggregate.lectorIds.add(lectorId)) {
+            lector.departmentIds.add(departmentId);
+            aggregate.add(lector);
+        }
+    }
+
+    private void applyLectorUnassigned(int departmentId, int lectorId) {
+        DepartmentAggregate aggregate = departments.get(departmentId);
+        LectorEntry lector = lectors.get(lectorId);
+        if (aggregate != null && lector != null && aggregate.lectorIds.remove(lectorId)) {
+            lector.departmentIds.remove(departmentId);
+            aggregate.remove(lector);
+        }
+    }
+
+    private void removeDepartment(int id) {
+        DepartmentAggregate aggregate = departments.remove(id);
+        if (aggregate == null) {
+            return;
+        }
+        departmentIdsByName.remove(aggregate.name, id);
+        for (int lectorId : aggregate.lectorIds) {
+            LectorEntry lector = lectors.get(lectorId);
+            if (lector != null) {
+                lector.departmentIds.remove(id);
+            }
+        }
+    }
+
+    private static final class LectorEntry {
+
+        private final String degree;
+        private final Integer salary;
+        private final Set<Integer> departmentIds = new HashSet<>();
+
+        private LectorEntry(String degree, Integer salary) {
+            this.degree = degree;
+            this.salary = salary;
+        }
+    }
+
+    private static final class DepartmentAggregate {
+
+        private String name;
+        private int head;
+        private final Set<Integer> lectorIds = new HashSet<>();
+        private final TreeMap<Integer, Integer> salaries = new TreeMap<>();
+        private final Map<String, Integer> degrees = new HashMap<>();
+        private long salarySum;
+        private int salaryCount;
+
+        private DepartmentAggregate(String name, int head) {
+            this.name = name;
+            this.head = head;
+        }
+
+        private void add(LectorEntry lector) {
+            if (lector.salary != null) {
+                salarySum += lector.salary;
+                salaryCount++;
+                salaries.merge(lector.salary, 1, Integer::sum);
+            }
+            degrees.merge(lector.degree, 1, Integer::sum);
+        }
+
+        private void remove(LectorEntry lector) {
+            if (lector.salary != null) {
+                salarySum -= lector.salary;
+                salaryCount--;
+                salaries.computeIfPresent(lector.salary, (salary, count) -> count == 1 ? null : count - 1);
+            }
+            degrees.computeIfPresent(lector.degree, (degree, count) -> count == 1 ? null : count - 1);
+        }
+
+        private DepartmentStatistic toStatistic() {
+            return new DepartmentStatistic(name, lectorIds.size(),
+                    salaryCount == 0 ? 0 : (double) salarySum / salaryCount,
+                    salaries.isEmpty() ? 0 : salaries.firstKey(),
+                    salaries.isEmpty() ? 0 : salaries.lastKey(),
+                    new HashMap<>(degrees));
+        }
+    }
+}
@@ -1,24 +1,57 @@
 package com.botscrew.university.dao;
 
 import com.botscrew.university.domain.Department;
+import com.botscrew.university.domain.DepartmentReport;
+import com.botscrew.university.domain.DepartmentStatistic;
+import com.botscrew.university.domain.Lector;
+import com.botscrew.university.domain.Page;
+import com.botscrew.university.exception.DataAccessException;
+import com.botscrew.university.exception.DepartmentNameNotUniqueException;
+import com.botscrew.university.exception.EntityNotFoundException;
 import com.botscrew.university.utils.ConnectionProvider;
 
 import java.sql.*;
 import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static java.sql.Statement.RETURN_GENERATED_KEYS;
 
 public class DepartmentDao implements Dao<Department> {
 
     private final ConnectionProvider connectionProvider;
+    private final int batchSize;
+    private final SearchMode searchMode;
+    private final int searchQueryTimeoutSeconds;
+    private final DegreeDictionary degreeDictionary;
+    private final RowMapping<Department> departmentMapping = this::mapToDepartment;
+    private final RowMapping<Department> departmentNameMapping = this::mapToDepartmentName;
+    private final List<EntityListener<Department>> listeners = new CopyOnWriteArrayList<>();
+    private final QueryTimer metrics;
 
-    public DepartmentDao(ConnectionProvider connectionProvider) {
+    public DepartmentDao(ConnectionProvider connectionProvider, DegreeDictionary degreeDictionary) {
         this.connectionProvider = connectionProvider;
+        batchSize = connectionProvider.getIntProperty("batch.size", 1000);
+        searchMode = SearchMode.resolve(connectionProvider);
+        searchQueryTimeoutSeconds = connectionProvider.getIntProperty("search.queryTimeoutSeconds", 0);
+        this.degreeDictionary = degreeDictionary;
+        connectionProvider.registerSqlNames(DepartmentDao.class);
+        metrics = new QueryTimer(connectionProvider);
     }
 
-    private static final String GET_DEPARTMENT_BY_ID_SQL = "SELECT * FROM departments WHERE id = ?";
-    private static final String GET_ALL_DEPARTMENTS_SQL = "SELECT * FROM departments";
-    private static final String CREATE_DEPARTMENT_SQL = "INSERT INTO departments VALUES (DEFAULT, ?, ?)";
+    private static final String UNIQUE_VIOLATION = "23505";
+    private static final String FOREIGN_KEY_VIOLATION = "23503";
+    private static final String PARENT_MISSING = "23506";
+    private static final String[] DEPARTMENT_COLUMNS = {"id", "name", "head"};
+    private static final String[] DEPARTMENT_NAME_COLUMNS = {"id", "name"};
+    private static final String SELECT_DEPARTMENTS = RowMapping.select("departments", DEPARTMENT_COLUMNS);
+
+    private static final String GET_DEPARTMENT_BY_ID_SQL = SELECT_DEPARTMENTS + " WHERE id = ?";
+    private static final String GET_ALL_DEPARTMENTS_SQL = SELECT_DEPARTMENTS;
+    private static final String GET_ALL_DEPARTMENT_NAMES_SQL = RowMapping.select("departments",
+            DEPARTMENT_NAME_COLUMNS);
+    private static final String CREATE_DEPARTMENT_SQL = "INSERT INTO departments (name, head) VALUES (?, ?)";
     private static final String UPDATE_DEPARTMENT_SQL = "UPDATE departments SET name = ?, head = ? WHERE id = ?";
     private static final String DELETE_DEPARTMENT_SQL = "DELETE FROM departments WHERE id = ?";
     private static final String GET_AVERAGE_SALARY_BY_NAME_SQL = "SELECT AVG(salary) FROM lectors " +
@@ -28,166 +61,571 @@ public class DepartmentDao implements Dao<Department> {
     private static final String GET_QUANTITY_OF_EMPLOYEE_BY_NAME_SQL = "SELECT COUNT(*) FROM departments_lectors " +
             "LEFT JOIN departments ON departments_lectors.department_id = departments.id " +
             "WHERE departments.name = ?";
-    private static final String GET_DEPARTMENT_BY_NAME_SQL = "SELECT * FROM departments WHERE name = ?";
-    private static final String GET_DEGREE_STATISTIC_BY_NAME_SQL = "SELECT degree, COUNT(*) FROM lectors " +
+    private static final String GET_DEPARTMENT_BY_NAME_SQL = SELECT_DEPARTMENTS + " WHERE name = ?";
+    private static final String GET_DEGREE_STATISTIC_BY_NAME_SQL = "SELECT degree_id, COUNT(*) FROM lectors " +
             "LEFT JOIN departments_lectors ON lectors.id = departments_lectors.lector_id " +
             "LEFT JOIN departments ON departments_lectors.department_id = departments.id " +
             "WHERE departments.name = ? " +
-            "GROUP BY degree";
-    private static final String SEARCH_BY_DEPARTMENT_NAME_SQL = "SELECT * FROM departments WHERE name LIKE ?";
+            "GROUP BY degree_id";
+    private static final String SEARCH_BY_DEPARTMENT_NAME_SQL = SELECT_DEPARTMENTS + " WHERE name LIKE ?";
+    private static final String GET_REPORT_BY_NAME_SQL = "SELECT departments.id, departments.name, departments.head, " +
+            "heads.name, heads.surname, heads.degree_id, heads.salary, " +
+            "lectors.degree_id, COUNT(lectors.id), SUM(lectors.salary), heads.id, COUNT(lectors.salary) " +
+            "FROM departments " +
+            "LEFT JOIN lectors heads ON heads.id = departments.head " +
+            "LEFT JOIN departments_lectors ON departments.id = departments_lectors.department_id " +
+            "LEFT JOIN lectors ON departments_lectors.lector_id = lectors.id " +
+            "WHERE departments.name = ? " +
+            "GROUP BY departments.id, departments.name, departments.head, heads.id, " +
+            "heads.name, heads.surname, heads.degree_id, heads.salary, lectors.degree_id";
+    private static final String GET_DEPARTMENTS_PAGE_SQL = SELECT_DEPARTMENTS + " WHERE id > ? ORDER BY id LIMIT ?";
+    private static final String SEARCH_PAGE_BY_DEPARTMENT_NAME_SQL = SELECT_DEPARTMENTS + " WHERE name LIKE ? " +
+            "AND id > ? ORDER BY id LIMIT ?";
+    private static final String GET_DEPARTMENTS_BY_NAMES_SQL_PREFIX = SELECT_DEPARTMENTS + " WHERE name";
+    private static final String GET_DEPARTMENTS_BY_IDS_SQL_PREFIX = SELECT_DEPARTMENTS + " WHERE id";
+    private static final String SEARCH_BY_DEPARTMENT_NAME_WITH_LIMIT_SQL = SELECT_DEPARTMENTS + " WHERE name LIKE ? " +
+            "ORDER BY id LIMIT ?";
+    private static final String RANK_BY_DEPARTMENT_NAME_SQL = SELECT_DEPARTMENTS + " WHERE name LIKE ? " +
+            "ORDER BY similarity(name, ?) DESC, id";
+    private static final String RANK_BY_DEPARTMENT_NAME_WITH_LIMIT_SQL = RANK_BY_DEPARTMENT_NAME_SQL + " LIMIT ?";
+    private static final String GET_EXISTING_IDS_SQL_PREFIX = "SELECT id FROM departments WHERE id";
+    private static final String GET_STATISTICS_SELECT = "SELECT departments.id, departments.name, lectors.degree_id, " +
+            "COUNT(lectors.id), SUM(lectors.salary), MIN(lectors.salary), MAX(lectors.salary), COUNT(lectors.salary) " +
+            "FROM departments " +
+            "LEFT JOIN departments_lectors ON departments.id = departments_lectors.department_id " +
+            "LEFT JOIN lectors ON departments_lectors.lector_id = lectors.id";
+    private static final String GET_STATISTICS_GROUP_BY = " GROUP BY departments.id, departments.name, lectors.degree_id " +
+            "ORDER BY departments.id";
+    private static final String GET_ALL_STATISTICS_SQL = GET_STATISTICS_SELECT + GET_STATISTICS_GROUP_BY;
+    private static final String GET_STATISTICS_BY_NAMES_SQL_PREFIX = GET_STATISTICS_SELECT + " WHERE departments.name";
+    private static final String ADD_LECTOR_SQL = "INSERT INTO departments_lectors (department_id, lector_id) " +
+            "VALUES (?, ?)";
+    private static final String REMOVE_LECTOR_SQL = "DELETE FROM departments_lectors WHERE department_id = ? AND lector_id = ?";
 
     @Override
     public Optional<Department> getById(int id) {
-        try (Connection connection = connectionProvider.getConnection();
-             PreparedStatement statement = connection.prepareStatement(GET_DEPARTMENT_BY_ID_SQL)) {
-            statement.setInt(1, id);
-            try (ResultSet resultSet = statement.executeQuery()) {
-                if (resultSet.next()) {
-                    return Optional.of(mapToDepartment(resultSet));
+        return metrics.time("DepartmentDao.getById", QueryTimer::present, Optional.empty(), () -> {
+            try (Connection connection = connectionProvider.getConnection();
+                 PreparedStatement statement = connection.prepareStatement(GET_DEPARTMENT_BY_ID_SQL)) {
+                statement.setInt(1, id);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    return resultSet.next() ? Optional.of(departmentMapping.map(resultSet)) : Optional.empty();
                 }
             }
-        } catch (SQLException e) {
-            e.printStackTrace();
-        }
-        return Optional.empty();
+        });
     }
 
     @Override
     public List<Department> getAll() {
         List<Department> departments = new ArrayList<>();
-        try (Connection connection = connectionProvider.getConnection();
-             Statement statement = connection.createStatement();
-             ResultSet resultSet = statement.executeQuery(GET_ALL_DEPARTMENTS_SQL)) {
-            while (resultSet.next()) {
-                departments.add(mapToDepartment(resultSet));
-            }
-        } catch (SQLException e) {
-            e.printStackTrace();
+        return metrics.time("DepartmentDao.getAll", List::size, departments, () -> {
+            try (Connection connection = connectionProvider.getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(GET_ALL_DEPARTMENTS_SQL)) {
+                while (resultSet.next()) {
+                    departments.add(departmentMapping.map(resultSet));
+                }
+            }
+            return departments;
+        });
+    }
+
+    @Override
+    public void addListener(EntityListener<Department> listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public Stream<Department> streamAll() {
+        return ResultSetStream.of(connectionProvider, GET_ALL_DEPARTMENTS_SQL, departmentMapping);
+    }
+
+    public Stream<Department> streamNames() {
+        return ResultSetStream.of(connectionProvider, GET_ALL_DEPARTMENT_NAMES_SQL, departmentNameMapping);
+    }
+
+    @Override
+    public boolean save(Department department) {
+        metrics.timeOrElse("DepartmentDao.save", QueryTimer::changed, e -> {
+            throwIfConstraintViolated(e, department);
+            throw new DataAccessException(String.format("Failed to save department %s", department.getName()), e);
+        }, () -> {
+            try (Connection connection = connectionProvider.getConnection();
+                 PreparedStatement statement = connection.prepareStatement(CREATE_DEPARTMENT_SQL,
+                         RETURN_GENERATED_KEYS)) {
+                statement.setString(1, department.getName());
+                statement.setInt(2, department.getHead());
+                statement.executeUpdate();
+                try (ResultSet generatedKeys = statement.getGeneratedKeys()) {
+                    if (generatedKeys.next()) {
+                        department.setId(generatedKeys.getInt(1));
+                    }
+                }
+                return true;
+            }
+        });
+        listeners.forEach(listener -> listener.saved(department));
+        return true;
+    }
+
+    @Override
+    public boolean update(Department department) {
+        boolean updated = metrics.timeOrElse("DepartmentDao.update", QueryTimer::changed, e -> {
+            throwIfConstraintViolated(e, department);
+            throw new DataAccessException(String.format("Failed to update department with id %d",
+                    department.getId()), e);
+        }, () -> {
+            try (Connection connection = connectionProvider.getConnection();
+                 PreparedStatement statement = connection.prepareStatement(UPDATE_DEPARTMENT_SQL)) {
+                statement.setString(1, department.getName());
+                statement.setInt(2, department.getHead());
+                statement.setInt(3, department.getId());
+                return statement.executeUpdate() > 0;
+            }
+        });
+        if (!updated) {
+            throw new EntityNotFoundException(String.format("Department with id %d is not present", department.getId()));
         }
-        return departments;
+        listeners.forEach(listener -> listener.updated(department));
+        return true;
     }
 
     @Override
-    public void save(Department department) {
-        try (Connection connection = connectionProvider.getConnection();
-             PreparedStatement statement = connection.prepareStatement(CREATE_DEPARTMENT_SQL, RETURN_GENERATED_KEYS)) {
-            statement.setString(1, department.getName());
-            statement.setInt(2, department.getHead());
-            statement.executeUpdate();
-            try (ResultSet generatedKeys = statement.getGeneratedKeys()) {
-                if (generatedKeys.next()) {
-                    department.setId(generatedKeys.getInt(1));
-                }
-            }
-        } catch (SQLException e) {
-            e.printStackTrace();
+    public boolean delete(int id) {
+        boolean deleted = metrics.time("DepartmentDao.delete", QueryTimer::changed, false, () -> {
+            try (Connection connection = connectionProvider.getConnection();
+                 PreparedStatement statement = connection.prepareStatement(DELETE_DEPARTMENT_SQL)) {
+                statement.setInt(1, id);
+                return statement.executeUpdate() > 0;
+            }
+        });
+        if (deleted) {
+            listeners.forEach(listener -> listener.deleted(id));
         }
+        return deleted;
     }
 
     @Override
-    public void update(Department department) {
-        try (Connection connection = connectionProvider.getConnection();
-             PreparedStatement statement = connection.prepareStatement(UPDATE_DEPARTMENT_SQL)) {
-            statement.setString(1, department.getName());
-            statement.setInt(2, department.getHead());
-            statement.setInt(3, department.getId());
-            statement.executeUpdate();
-        } catch (SQLException e) {
-            e.printStackTrace();
+    public boolean saveAll(Collection<Department> departments) {
+        List<Department> saved = new ArrayList<>(departments.size());
+        try {
+            metrics.timeOrElse("DepartmentDao.saveAll", ok -> saved.size(), e -> {
+                throw new DataAccessException(String.format("Failed to save %d departments", departments.size()), e);
+            }, () -> {
+                try (Connection connection = connectionProvider.getConnection();
+                     PreparedStatement statement = connection.prepareStatement(CREATE_DEPARTMENT_SQL,
+                             RETURN_GENERATED_KEYS)) {
+                    JdbcBatch.execute(connection, statement, departments, batchSize, (batchStatement, department) -> {
+                        batchStatement.setString(1, department.getName());
+                        batchStatement.setInt(2, department.getHead());
+                    }, Department::setId, DepartmentDao::throwIfConstraintViolated, saved::add);
+                    return true;
+                }
+            });
+        } finally {
+            saved.forEach(department -> listeners.forEach(listener -> listener.saved(department)));
         }
+        return true;
     }
 
     @Override
-    public void delete(int id) {
-        try (Connection connection = connectionProvider.getConnection();
-             PreparedStatement statement = connection.prepareStatement(DELETE_DEPARTMENT_SQL)) {
-            statement.setInt(1, id);
-            statement.executeUpdate();
-        } catch (SQLException e) {
-            e.printStackTrace();
+    public boolean updateAll(Collection<Department> departments) {
+        List<Department> updated = new ArrayList<>(departments.size());
+        try {
+            metrics.timeOrElse("DepartmentDao.updateAll", ok -> updated.size(), e -> {
+                throw new DataAccessException(String.format("Failed to update %d departments", departments.size()), e);
+            }, () -> {
+                try (Connection connection = connectionProvider.getConnection();
+                     PreparedStatement statement = connection.prepareStatement(UPDATE_DEPARTMENT_SQL)) {
+                    JdbcBatch.execute(connection, statement, departments, batchSize, (batchStatement, department) -> {
+                        batchStatement.setString(1, department.getName());
+                        batchStatement.setInt(2, department.getHead());
+                        batchStatement.setInt(3, department.getId());
+                    }, null, DepartmentDao::throwIfConstraintViolated, updated::add);
+                    return true;
+                }
+            });
+        } finally {
+            updated.forEach(department -> listeners.forEach(listener -> listener.updated(department)));
         }
+        if (updated.size() < departments.size()) {
+            Set<Integer> updatedIds = updated.stream().map(Department::getId).collect(Collectors.toSet());
+            departments.stream().filter(department -> !updatedIds.contains(department.getId())).findFirst()
+                    .ifPresent(department -> {
+                        throw new EntityNotFoundException(String.format("Department with id %d is not present",
+                                department.getId()));
+                    });
+        }
+        return true;
     }
 
-    public double getAverageSalaryByName(String name) {
-        try (Connection connection = connectionProvider.getConnection();
-             PreparedStatement statement = connection.prepareStatement(GET_AVERAGE_SALARY_BY_NAME_SQL)) {
-            statement.setString(1, name);
-            try (ResultSet resultSet = statement.executeQuery()) {
-                if (resultSet.next()) {
-                    return resultSet.getDouble(1);
+    @Override
+    public boolean deleteAll(Collection<Integer> ids) {
+        List<Integer> deleted = new ArrayList<>(ids.size());
+        boolean applied = metrics.time("DepartmentDao.deleteAll", ok -> deleted.size(), false, () -> {
+            try (Connection connection = connectionProvider.getConnection();
+                 PreparedStatement statement = connection.prepareStatement(DELETE_DEPARTMENT_SQL)) {
+                JdbcBatch.execute(connection, statement, ids, batchSize,
+                        (batchStatement, id) -> batchStatement.setInt(1, id), deleted::add);
+                return true;
+            }
+        });
+        deleted.forEach(id -> listeners.forEach(listener -> listener.deleted(id)));
+        return applied;
+    }
+
+    public List<Department> getByNames(Collection<String> names) {
+        List<Department> result = new ArrayList<>();
+        return metrics.time("DepartmentDao.getByNames", List::size, result, () -> {
+            try (Connection connection = connectionProvider.getConnection()) {
+                for (List<String> chunk : JdbcBatch.partition(names, batchSize)) {
+                    try (PreparedStatement statement = connection.prepareStatement(
+                            JdbcBatch.inClause(GET_DEPARTMENTS_BY_NAMES_SQL_PREFIX, chunk.size()))) {
+                        for (int i = 0; i < chunk.size(); i++) {
+                            statement.setString(i + 1, chunk.get(i));
+                        }
+                        try (ResultSet resultSet = statement.executeQuery()) {
+                            while (resultSet.next()) {
+                                result.add(departmentMapping.map(resultSet));
+                            }
+                        }
+                    }
                 }
             }
-        } catch (SQLException e) {
-            e.printStackTrace();
+            return result;
+        });
+    }
+
+    public List<Department> getByIds(List<Integer> ids) {
+        Map<Integer, Department> departmentsById = new HashMap<>();
+        metrics.time("DepartmentDao.getByIds", Map::size, departmentsById, () -> {
+            try (Connection connection = connectionProvider.getConnection()) {
+                for (List<Integer> chunk : JdbcBatch.partition(ids, batchSize)) {
+                    try (PreparedStatement statement = connection.prepareStatement(
+                            JdbcBatch.inClause(GET_DEPARTMENTS_BY_IDS_SQL_PREFIX, chunk.size()))) {
+                        for (int i = 0; i < chunk.size(); i++) {
+                            statement.setInt(i + 1, chunk.get(i));
+                        }
+                        try (ResultSet resultSet = statement.executeQuery()) {
+                            while (resultSet.next()) {
+                                Department department = departmentMapping.map(resultSet);
+                                departmentsById.put(department.getId(), department);
+                            }
+                        }
+                    }
+                }
+            }
+            return departmentsById;
+        });
+        List<Department> result = new ArrayList<>(departmentsById.size());
+        for (int id : ids) {
+            Department department = departmentsById.get(id);
+            if (department != null) {
+                result.add(department);
+            }
         }
-        return 0;
+        return result;
+    }
+
+    public Set<Integer> getExistingIds(Collection<Integer> ids) {
+        Set<Integer> result = new HashSet<>();
+        return metrics.time("DepartmentDao.getExistingIds", Set::size, result, () -> {
+            try (Connection connection = connectionProvider.getConnection()) {
+                for (List<Integer> chunk : JdbcBatch.partition(ids, batchSize)) {
+                    try (PreparedStatement statement = connection.prepareStatement(
+                            JdbcBatch.inClause(GET_EXISTING_IDS_SQL_PREFIX, chunk.size()))) {
+                        for (int i = 0; i < chunk.size(); i++) {
+                            statement.setInt(i + 1, chunk.get(i));
+                        }
+                        try (ResultSet resultSet = statement.executeQuery()) {
+                            while (resultSet.next()) {
+                                result.add(resultSet.getInt(1));
+                            }
+                        }
+                    }
+                }
+            }
+            return result;
+        });
+    }
+
+    public double getAverageSalaryByName(String name) {
+        return metrics.time("DepartmentDao.getAverageSalaryByName", averageSalary -> 1, 0.0, () -> {
+            try (Connection connection = connectionProvider.getConnection();
+                 PreparedStatement statement = connection.prepareStatement(GET_AVERAGE_SALARY_BY_NAME_SQL)) {
+                statement.setString(1, name);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    return resultSet.next() ? resultSet.getDouble(1) : 0.0;
+                }
+            }
+        });
     }
 
     public int getQuantityOfEmployeeByName(String name) {
-        try (Connection connection = connectionProvider.getConnection();
-             PreparedStatement statement = connection.prepareStatement(GET_QUANTITY_OF_EMPLOYEE_BY_NAME_SQL)) {
-            statement.setString(1, name);
-            try (ResultSet resultSet = statement.executeQuery()) {
-                if (resultSet.next()) {
-                    return resultSet.getInt(1);
+        return metrics.time("DepartmentDao.getQuantityOfEmployeeByName", quantity -> 1, 0, () -> {
+            try (Connection connection = connectionProvider.getConnection();
+                 PreparedStatement statement = connection.prepareStatement(GET_QUANTITY_OF_EMPLOYEE_BY_NAME_SQL)) {
+                statement.setString(1, name);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    return resultSet.next() ? resultSet.getInt(1) : 0;
                 }
             }
-        } catch (SQLException e) {
-            e.printStackTrace();
-        }
-        return 0;
+        });
     }
 
     public Optional<Department> getByName(String name) {
-        try (Connection connection = connectionProvider.getConnection();
-             PreparedStatement statement = connection.prepareStatement(GET_DEPARTMENT_BY_NAME_SQL)) {
-            statement.setString(1, name);
-            try (ResultSet resultSet = statement.executeQuery()) {
-                if (resultSet.next()) {
-                    return Optional.of(mapToDepartment(resultSet));
+        return metrics.time("DepartmentDao.getByName", QueryTimer::present, Optional.empty(), () -> {
+            try (Connection connection = connectionProvider.getConnection();
+                 PreparedStatement statement = connection.prepareStatement(GET_DEPARTMENT_BY_NAME_SQL)) {
+                statement.setString(1, name);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    return resultSet.next() ? Optional.of(departmentMapping.map(resultSet)) : Optional.empty();
                 }
             }
-        } catch (SQLException e) {
-            e.printStackTrace();
-        }
-        return Optional.empty();
+        });
     }
 
     public Map<String, Integer> getDegreeStatisticByName(String name) {
         Map<String, Integer> result = new HashMap<>();
-        try (Connection connection = connectionProvider.getConnection();
-             PreparedStatement statement = connection.prepareStatement(GET_DEGREE_STATISTIC_BY_NAME_SQL)) {
-            statement.setString(1, name);
-            try (ResultSet resultSet = statement.executeQuery()) {
-                if (resultSet.next()) {
-                    result.put(resultSet.getString(1), resultSet.getInt(2));
+        return metrics.time("DepartmentDao.getDegreeStatisticByName", Map::size, result, () -> {
+            try (Connection connection = connectionProvider.getConnection();
+                 PreparedStatement statement = connection.prepareStatement(GET_DEGREE_STATISTIC_BY_NAME_SQL)) {
+                statement.setString(1, name);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        result.put(degreeDictionary.nameOf(resultSet, 1), resultSet.getInt(2));
+                    }
                 }
             }
-        } catch (SQLException e) {
-            e.printStackTrace();
-        }
-        return result;
+            return result;
+        });
     }
 
     public List<Department> searchIfNameContains(String name) {
         List<Department> result = new ArrayList<>();
-        try (Connection connection = connectionProvider.getConnection();
-             PreparedStatement statement = connection.prepareStatement(SEARCH_BY_DEPARTMENT_NAME_SQL)) {
-            statement.setString(1, "%"+name+"%");
-            try (ResultSet resultSet = statement.executeQuery()) {
-                while (resultSet.next()) {
-                    result.add(mapToDepartment(resultSet));
+        return metrics.time("DepartmentDao.searchIfNameContains", List::size, result, () -> {
+            try (Connection connection = connectionProvider.getConnection();
+                 PreparedStatement statement = connection.prepareStatement(searchMode == SearchMode.TRIGRAM
+                         ? RANK_BY_DEPARTMENT_NAME_SQL : SEARCH_BY_DEPARTMENT_NAME_SQL)) {
+                statement.setString(1, "%"+name+"%");
+                if (searchMode == SearchMode.TRIGRAM) {
+                    statement.setString(2, name);
+                }
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        result.add(departmentMapping.map(resultSet));
+                    }
+                }
+            }
+            return result;
+        });
+    }
+
+    public List<Department> searchIfNameContains(String name, int limit) {
+        List<Department> result = new ArrayList<>();
+        return metrics.time("DepartmentDao.searchIfNameContainsWithLimit", List::size, result, () -> {
+            try (Connection connection = connectionProvider.getConnection();
+                 PreparedStatement statement = connection.prepareStatement(searchMode == SearchMode.TRIGRAM
+                         ? RANK_BY_DEPARTMENT_NAME_WITH_LIMIT_SQL : SEARCH_BY_DEPARTMENT_NAME_WITH_LIMIT_SQL)) {
+                statement.setString(1, "%"+name+"%");
+                if (searchMode == SearchMode.TRIGRAM) {
+                    statement.setString(2, name);
+                    statement.setInt(3, limit);
+                } else {
+                    statement.setInt(2, limit);
+                }
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        result.add(departmentMapping.map(resultSet));
+                    }
+                }
+            }
+            return result;
+        });
+    }
+
+    public Page<Department> getPage(String token, int size) {
+        List<Department> result = new ArrayList<>();
+        metrics.time("DepartmentDao.getPage", List::size, result, () -> {
+            try (Connection connection = connectionProvider.getConnection();
+                 PreparedStatement statement = connection.prepareStatement(GET_DEPARTMENTS_PAGE_SQL)) {
+                statement.setInt(1, PageToken.decode(token));
+                statement.setInt(2, size + 1);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        result.add(departmentMapping.map(resultSet));
+                    }
                 }
             }
-        } catch (SQLException e) {
-            e.printStackTrace();
+            return result;
+        });
+        return PageToken.toPage(result, size, Department::getId);
+    }
+
+    public Page<Department> searchIfNameContains(String name, String token, int size) {
+        List<Department> result = new ArrayList<>();
+        metrics.time("DepartmentDao.searchPageIfNameContains", List::size, result, () -> {
+            try (Connection connection = connectionProvider.getConnection();
+                 PreparedStatement statement = connection.prepareStatement(SEARCH_PAGE_BY_DEPARTMENT_NAME_SQL)) {
+                statement.setQueryTimeout(searchQueryTimeoutSeconds);
+                statement.setString(1, "%"+name+"%");
+                statement.setInt(2, PageToken.decode(token));
+                statement.setInt(3, size + 1);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        result.add(departmentMapping.map(resultSet));
+                    }
+                }
+            }
+            return result;
+        });
+        return PageToken.toPage(result, size, Department::getId);
+    }
+
+    public Optional<DepartmentReport> getReportByName(String name) {
+        return metrics.time("DepartmentDao.getReportByName", QueryTimer::present, Optional.empty(), () -> {
+            try (Connection connection = connectionProvider.getConnection();
+                 PreparedStatement statement = connection.prepareStatement(GET_REPORT_BY_NAME_SQL)) {
+                statement.setString(1, name);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    return resultSet.next() ? Optional.of(mapToDepartmentReport(resultSet)) : Optional.empty();
+                }
+            }
+        });
+    }
+
+    public Map<String, DepartmentStatistic> getStatistics() {
+        Map<String, DepartmentStatistic> result = new LinkedHashMap<>();
+        return metrics.time("DepartmentDao.getStatistics", Map::size, result, () -> {
+            try (Connection connection = connectionProvider.getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(GET_ALL_STATISTICS_SQL)) {
+                collectStatistics(resultSet, result);
+            }
+            return result;
+        });
+    }
+
+    public Map<String, DepartmentStatistic> getStatisticsByNames(Collection<String> names) {
+        Map<String, DepartmentStatistic> result = new LinkedHashMap<>();
+        return metrics.time("DepartmentDao.getStatisticsByNames", Map::size, result, () -> {
+            try (Connection connection = connectionProvider.getConnection()) {
+                for (List<String> chunk : JdbcBatch.partition(new LinkedHashSet<>(names), batchSize)) {
+                    try (PreparedStatement statement = connection.prepareStatement(JdbcBatch.inClause(
+                            GET_STATISTICS_BY_NAMES_SQL_PREFIX, chunk.size()) + GET_STATISTICS_GROUP_BY)) {
+                        for (int i = 0; i < chunk.size(); i++) {
+                            statement.setString(i + 1, chunk.get(i));
+                        }
+                        try (ResultSet resultSet = statement.executeQuery()) {
+                            collectStatistics(resultSet, result);
+                        }
+                    }
+                }
+            }
+            return result;
+        });
+    }
+
+    public boolean addLector(int departmentId, int lectorId) {
+        return metrics.time("DepartmentDao.addLector", QueryTimer::changed, false, () -> {
+            try (Connection connection = connectionProvider.getConnection();
+                 PreparedStatement statement = connection.prepareStatement(ADD_LECTOR_SQL)) {
+                statement.setInt(1, departmentId);
+                statement.setInt(2, lectorId);
+                return statement.executeUpdate() > 0;
+            }
+        });
+    }
+
+    public boolean removeLector(int departmentId, int lectorId) {
+        return metrics.time("DepartmentDao.removeLector", QueryTimer::changed, false, () -> {
+            try (Connection connection = connectionProvider.getConnection();
+                 PreparedStatement statement = connection.prepareStatement(REMOVE_LECTOR_SQL)) {
+                statement.setInt(1, departmentId);
+                statement.setInt(2, lectorId);
+                return statement.executeUpdate() > 0;
+            }
+        });
+    }
+
+    private static void throwIfConstraintViolated(SQLException exception, Department department) {
+        for (SQLException e = exception; e != null; e = e.getNextException()) {
+            String sqlState = e.getSQLState();
+            if (UNIQUE_VIOLATION.equals(sqlState)) {
+                throw new DepartmentNameNotUniqueException(String.format("Department with name %s already exist",
+                        department.getName()));
+            }
+            if (FOREIGN_KEY_VIOLATION.equals(sqlState) || PARENT_MISSING.equals(sqlState)) {
+                throw new EntityNotFoundException(String.format("Lector with id %d is not present",
+                        department.getHead()));
+            }
         }
-        return result;
+    }
+
+    private DepartmentReport mapToDepartmentReport(ResultSet resultSet) throws SQLException {
+        Department department = new Department(resultSet.getInt(1), resultSet.getString(2), resultSet.getInt(3));
+        Lector head = resultSet.getObject(11) == null ? null : new Lector(department.getHead(), resultSet.getString(4),
+                resultSet.getString(5), degreeDictionary.nameOf(resultSet, 6), resultSet.getInt(7));
+        Map<String, Integer> degreeStatistic = new HashMap<>();
+        int quantityOfEmployee = 0;
+        int salaryCount = 0;
+        long salarySum = 0;
+        do {
+            int count = resultSet.getInt(9);
+            if (count > 0) {
+                degreeStatistic.put(degreeDictionary.nameOf(resultSet, 8), count);
+                quantityOfEmployee += count;
+                salaryCount += resultSet.getInt(12);
+                salarySum += resultSet.getLong(10);
+            }
+        } while (resultSet.next());
+        double averageSalary = salaryCount == 0 ? 0 : (double) salarySum / salaryCount;
+        return new DepartmentReport(department, head, quantityOfEmployee, averageSalary, degreeStatistic);
+    }
+
+    private void collectStatistics(ResultSet resultSet, Map<String, DepartmentStatistic> result) throws SQLException {
+        if (!resultSet.next()) {
+            return;
+        }
+        boolean hasNext;
+        do {
+            int id = resultSet.getInt(1);
+            String name = resultSet.getString(2);
+            Map<String, Integer> degreeStatistic = new HashMap<>();
+            int quantityOfEmployee = 0;
+            int salaryCount = 0;
+            long salarySum = 0;
+            int minSalary = Integer.MAX_VALUE;
+            int maxSalary = Integer.MIN_VALUE;
+            do {
+                int count = resultSet.getInt(4);
+                if (count > 0) {
+                    degreeStatistic.put(degreeDictionary.nameOf(resultSet, 3), count);
+                    quantityOfEmployee += count;
+                }
+                int salaries = resultSet.getInt(8);
+                if (salaries > 0) {
+                    salaryCount += salaries;
+                    salarySum += resultSet.getLong(5);
+                    minSalary = Math.min(minSalary, resultSet.getInt(6));
+                    maxSalary = Math.max(maxSalary, resultSet.getInt(7));
+                }
+                hasNext = resultSet.next();
+            } while (hasNext && resultSet.getInt(1) == id);
+            result.put(name, salaryCount == 0
+                    ? new DepartmentStatistic(name, quantityOfEmployee, 0, 0, 0, degreeStatistic)
+                    : new DepartmentStatistic(name, quantityOfEmployee, (double) salarySum / salaryCount,
+                    minSalary, maxSalary, degreeStatistic));
+        } while (hasNext);
     }
 
     private Department mapToDepartment(ResultSet resultSet) throws SQLException {
-        return new Department(resultSet.getInt("id"),
-                resultSet.getString("name"),
-                resultSet.getInt("head"));
+        return new Department(resultSet.getInt(1),
+                resultSet.getString(2),
+                resultSet.getInt(3));
+    }
+
+    private Department mapToDepartmentName(ResultSet resultSet) throws SQLException {
+        return new Department(resultSet.getInt(1), resultSet.getString(2), 0);
     }
 }
@@ -0,0 +1,117 @@
+package com.botscrew.university.dao;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+public class EntityCache<T> {
+
+    private final int maxSize;
+    private final UnaryOperator<T> copier;
+    private final Function<T, Integer> idExtractor;
+    private final Function<T, String> nameExtractor;
+    private final Map<Integer, T> entitiesById;
+    private final Map<String, Integer> idsByName = new HashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private long generation;
+
+    public EntityCache(int maxSize, UnaryOperator<T> copier, Function<T, Integer> idExtractor) {
+        this(maxSize, copier, idExtractor, null);
+    }
+
+    public EntityCache(int maxSize, UnaryOperator<T> copier, Function<T, Integer> idExtractor,
+                       Function<T, String> nameExtractor) {
+        this.maxSize = maxSize;
+        this.copier = copier;
+        this.idExtractor = idExtractor;
+        this.nameExtractor = nameExtractor;
+        entitiesById = new LinkedHashMap<Integer, T>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, T> eldest) {
+                if (size() > EntityCache.this.maxSize) {
+                    removeName(eldest.getValue());
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public synchronized Optional<T> getById(int id) {
+        return record(entitiesById.get(id));
+    }
+
+    public synchronized Optional<T> getByName(String name) {
+        Integer id = idsByName.get(name);
+        return record(id == null ? null : entitiesById.get(id));
+    }
+
+    public synchronized long generation() {
+        return generation;
+    }
+
+    public synchronized boolean put(T entity, long readGeneration) {
+        if (readGeneration != generation) {
+            return false;
+        }
+        T copy = copier.apply(entity);
+        remove(idExtractor.apply(copy));
+        entitiesById.put(idExtractor.apply(copy), copy);
+        if (nameExtractor != null) {
+            idsByName.put(nameExtractor.apply(copy), idExtractor.apply(copy));
+        }
+        return true;
+    }
+
+    public synchronized void invalidate(int id) {
+        generation++;
+        remove(id);
+    }
+
+    public synchronized void invalidateName(String name) {
+        generation++;
+        Integer id = idsByName.remove(name);
+        if (id != null) {
+            entitiesById.remove(id);
+        }
+    }
+
+    public synchronized void invalidateAll() {
+        generation++;
+        entitiesById.clear();
+        idsByName.clear();
+    }
+
+    public synchronized CacheStatistics getStatistics() {
+        return new CacheStatistics(entitiesById.size(), hits.sum(), misses.sum(), evictions.sum());
+    }
+
+    private Optional<T> record(T entity) {
+        if (entity == null) {
+            misses.increment();
+            return Optional.empty();
+        }
+        hits.increment();
+        return Optional.of(copier.apply(entity));
+    }
+
+    private void remove(int id) {
+        T entity = entitiesById.remove(id);
+        if (entity != null) {
+            removeName(entity);
+        }
+    }
+
+    private void removeName(T entity) {
+        if (nameExtractor != null) {
+            idsByName.remove(nameExtractor.apply(entity), idExtractor.apply(entity));
+        }
+    }
+}
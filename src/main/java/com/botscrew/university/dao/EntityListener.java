@@ -0,0 +1,10 @@
+package com.botscrew.university.dao;
+
+public interface EntityListener<T> {
+
+    void saved(T entity);
+
+    void updated(T entity);
+
+    void deleted(int id);
+}
@@ -0,0 +1,147 @@
+package com.botscrew.university.dao;
+
+import java.sql.BatchUpdateException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+final class JdbcBatch {
+
+    @FunctionalInterface
+    interface ParameterSetter<T> {
+
+        void setParameters(PreparedStatement statement, T item) throws SQLException;
+    }
+
+    @FunctionalInterface
+    interface KeyConsumer<T> {
+
+        void accept(T item, int key);
+    }
+
+    @FunctionalInterface
+    interface FailureHandler<T> {
+
+        void failed(SQLException exception, T item);
+    }
+
+    @FunctionalInterface
+    interface CommitListener<T> {
+
+        void committed(T item);
+    }
+
+    private JdbcBatch() {
+    }
+
+    static <T> void execute(Connection connection, PreparedStatement statement, Collection<T> items, int chunkSize,
+                            ParameterSetter<T> parameterSetter, CommitListener<T> commitListener)
+            throws SQLException {
+        execute(connection, statement, items, chunkSize, parameterSetter, null, null, commitListener);
+    }
+
+    static <T> void execute(Connection connection, PreparedStatement statement, Collection<T> items, int chunkSize,
+                            ParameterSetter<T> parameterSetter, KeyConsumer<T> keyConsumer,
+                            FailureHandler<T> failureHandler, CommitListener<T> commitListener)
+            throws SQLException {
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try {
+            List<T> chunk = new ArrayList<>(Math.min(chunkSize, items.size()));
+            for (T item : items) {
+                parameterSetter.setParameters(statement, item);
+                statement.addBatch();
+                chunk.add(item);
+                if (chunk.size() == chunkSize) {
+                    executeChunk(connection, statement, chunk, keyConsumer, failureHandler, commitListener);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                executeChunk(connection, statement, chunk, keyConsumer, failureHandler, commitListener);
+            }
+        } catch (SQLException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    static <T> List<List<T>> partition(Collection<T> items, int chunkSize) {
+        if (items.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<List<T>> chunks = new ArrayList<>();
+        List<T> chunk = new ArrayList<>(Math.min(chunkSize, items.size()));
+        for (T item : items) {
+            chunk.add(item);
+            if (chunk.size() == chunkSize) {
+                chunks.add(chunk);
+                chunk = new ArrayList<>(chunkSize);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            chunks.add(chunk);
+        }
+        return chunks;
+    }
+
+    static String inClause(String sqlPrefix, int parameters) {
+        StringBuilder sql = new StringBuilder(sqlPrefix.length() + parameters * 3 + 2).append(sqlPrefix).append(" IN (");
+        for (int i = 0; i < parameters; i++) {
+            sql.append(i == 0 ? "?" : ", ?");
+        }
+        return sql.append(')').toString();
+    }
+
+    private static <T> void executeChunk(Connection connection, PreparedStatement statement, List<T> chunk,
+                                         KeyConsumer<T> keyConsumer, FailureHandler<T> failureHandler,
+                                         CommitListener<T> commitListener) throws SQLException {
+        int[] updateCounts;
+        try {
+            updateCounts = statement.executeBatch();
+        } catch (BatchUpdateException e) {
+            if (failureHandler != null) {
+                connection.rollback();
+                failureHandler.failed(e, chunk.get(failedIndex(e.getUpdateCounts(), chunk.size())));
+            }
+            throw e;
+        }
+        if (keyConsumer != null) {
+            try (ResultSet generatedKeys = statement.getGeneratedKeys()) {
+                Iterator<T> items = chunk.iterator();
+                while (generatedKeys.next() && items.hasNext()) {
+                    keyConsumer.accept(items.next(), generatedKeys.getInt(1));
+                }
+            }
+        }
+        connection.commit();
+        if (commitListener != null) {
+            for (int i = 0; i < chunk.size(); i++) {
+                if (i >= updateCounts.length || updateCounts[i] != 0) {
+                    commitListener.committed(chunk.get(i));
+                }
+            }
+        }
+        chunk.clear();
+    }
+
+    private static int failedIndex(int[] updateCounts, int chunkSize) {
+        if (updateCounts == null) {
+            return 0;
+        }
+        for (int i = 0; i < updateCounts.length; i++) {
+            if (updateCounts[i] == Statement.EXECUTE_FAILED) {
+                return i;
+            }
+        }
+        return Math.min(updateCounts.length, chunkSize - 1);
+    }
+}
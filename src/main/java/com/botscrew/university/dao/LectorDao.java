@@ -2,147 +2,437 @@ package com.botscrew.university.dao;
 
 import com.botscrew.university.domain.Department;
 import com.botscrew.university.domain.Lector;
+import com.botscrew.university.domain.Page;
 import com.botscrew.university.utils.ConnectionProvider;
 
 import java.sql.*;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
 
 import static java.sql.Statement.RETURN_GENERATED_KEYS;
 
 public class LectorDao implements Dao<Lector> {
 
     private final ConnectionProvider connectionProvider;
+    private final int batchSize;
+    private final SearchMode searchMode;
+    private final int searchQueryTimeoutSeconds;
+    private final DegreeDictionary degreeDictionary;
+    private final RowMapping<Lector> lectorMapping = this::mapToLector;
+    private final RowMapping<Lector> lectorNameMapping = this::mapToLectorName;
+    private final List<EntityListener<Lector>> listeners = new CopyOnWriteArrayList<>();
+    private final List<EntityListener<Department>> headedDepartmentListeners = new CopyOnWriteArrayList<>();
+    private final QueryTimer metrics;
 
-    public LectorDao(ConnectionProvider connectionProvider) {
+    public LectorDao(ConnectionProvider connectionProvider, DegreeDictionary degreeDictionary) {
         this.connectionProvider = connectionProvider;
+        batchSize = connectionProvider.getIntProperty("batch.size", 1000);
+        searchMode = SearchMode.resolve(connectionProvider);
+        searchQueryTimeoutSeconds = connectionProvider.getIntProperty("search.queryTimeoutSeconds", 0);
+        this.degreeDictionary = degreeDictionary;
+        connectionProvider.registerSqlNames(LectorDao.class);
+        metrics = new QueryTimer(connectionProvider);
     }
 
-    private static final String GET_LECTOR_BY_ID_SQL = "SELECT * FROM lectors WHERE id = ?";
-    private static final String GET_ALL_LECTORS_SQL = "SELECT * FROM lectors";
-    private static final String CREATE_LECTOR_SQL = "INSERT INTO lectors VALUES (DEFAULT, ?, ?, ?, ?)";
-    private static final String UPDATE_LECTOR_SQL = "UPDATE lectors SET name = ?, surname = ?, degree = ?, salary = ? WHERE id = ?";
+    private static final String[] LECTOR_COLUMNS = {"id", "name", "surname", "degree_id", "salary"};
+    private static final String[] LECTOR_NAME_COLUMNS = {"id", "name", "surname"};
+    private static final String SELECT_LECTORS = RowMapping.select("lectors", LECTOR_COLUMNS);
+
+    private static final String GET_LECTOR_BY_ID_SQL = SELECT_LECTORS + " WHERE id = ?";
+    private static final String GET_ALL_LECTORS_SQL = SELECT_LECTORS;
+    private static final String GET_ALL_LECTOR_NAMES_SQL = RowMapping.select("lectors", LECTOR_NAME_COLUMNS);
+    private static final String CREATE_LECTOR_SQL = "INSERT INTO lectors (name, surname, degree_id, salary) VALUES (?, ?, ?, ?)";
+    private static final String UPDATE_LECTOR_SQL = "UPDATE lectors SET name = ?, surname = ?, degree_id = ?, salary = ? WHERE id = ?";
     private static final String DELETE_LECTOR_SQL = "DELETE FROM lectors WHERE id = ?";
-    private static final String GET_HEAD_OF_DEPARTMENT_SQL = "SELECT * FROM lectors " +
-            "LEFT JOIN departments ON lectors.id = head " +
+    private static final String GET_HEAD_OF_DEPARTMENT_SQL = SELECT_LECTORS +
+            " LEFT JOIN departments ON lectors.id = head " +
             "WHERE departments.name = ?";
-    private static final String SEARCH_BY_LECTOR_NAME_SQL = "SELECT * FROM lectors WHERE name LIKE ? " +
+    private static final String SEARCH_BY_LECTOR_NAME_SQL = SELECT_LECTORS + " WHERE name LIKE ? " +
             "OR surname LIKE ?";
+    private static final String GET_LECTORS_PAGE_SQL = SELECT_LECTORS + " WHERE id > ? ORDER BY id LIMIT ?";
+    private static final String SEARCH_PAGE_BY_LECTOR_NAME_SQL = SELECT_LECTORS + " WHERE (name LIKE ? " +
+            "OR surname LIKE ?) AND id > ? ORDER BY id LIMIT ?";
+    private static final String GET_LECTORS_BY_IDS_SQL_PREFIX = SELECT_LECTORS + " WHERE id";
+    private static final String SEARCH_BY_LECTOR_NAME_WITH_LIMIT_SQL = SELECT_LECTORS + " WHERE name LIKE ? " +
+            "OR surname LIKE ? ORDER BY id LIMIT ?";
+    private static final String RANK_BY_LECTOR_NAME_SQL = SELECT_LECTORS + " WHERE name LIKE ? " +
+            "OR surname LIKE ? ORDER BY GREATEST(similarity(name, ?), similarity(surname, ?)) DESC, id";
+    private static final String RANK_BY_LECTOR_NAME_WITH_LIMIT_SQL = RANK_BY_LECTOR_NAME_SQL + " LIMIT ?";
+    private static final String GET_EXISTING_IDS_SQL_PREFIX = "SELECT id FROM lectors WHERE id";
+    private static final String GET_HEADED_DEPARTMENT_IDS_SQL_PREFIX = "SELECT id, head FROM departments WHERE head";
 
     @Override
     public Optional<Lector> getById(int id) {
-        try (Connection connection = connectionProvider.getConnection();
-             PreparedStatement statement = connection.prepareStatement(GET_LECTOR_BY_ID_SQL)) {
-            statement.setInt(1, id);
-            try (ResultSet resultSet = statement.executeQuery()) {
-                if (resultSet.next()) {
-                    return Optional.of(mapToLector(resultSet));
+        return metrics.time("LectorDao.getById", QueryTimer::present, Optional.empty(), () -> {
+            try (Connection connection = connectionProvider.getConnection();
+                 PreparedStatement statement = connection.prepareStatement(GET_LECTOR_BY_ID_SQL)) {
+                statement.setInt(1, id);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    return resultSet.next() ? Optional.of(lectorMapping.map(resultSet)) : Optional.empty();
                 }
             }
-        } catch (SQLException e) {
-            e.printStackTrace();
-        }
-        return Optional.empty();
+        });
     }
 
     @Override
     public List<Lector> getAll() {
         List<Lector> lectors = new ArrayList<>();
-        try (Connection connection = connectionProvider.getConnection();
-             Statement statement = connection.createStatement();
-             ResultSet resultSet = statement.executeQuery(GET_ALL_LECTORS_SQL)) {
-            while (resultSet.next()) {
-                lectors.add(mapToLector(resultSet));
-            }
-        } catch (SQLException e) {
-            e.printStackTrace();
-        }
-        return lectors;
+        return metrics.time("LectorDao.getAll", List::size, lectors, () -> {
+            try (Connection connection = connectionProvider.getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(GET_ALL_LECTORS_SQL)) {
+                while (resultSet.next()) {
+                    lectors.add(lectorMapping.map(resultSet));
+                }
+            }
+            return lectors;
+        });
+    }
+
+    @Override
+    public void addListener(EntityListener<Lector> listener) {
+        listeners.add(listener);
+    }
+
+    public void addHeadedDepartmentListener(EntityListener<Department> listener) {
+        headedDepartmentListeners.add(listener);
+    }
+
+    @Override
+    public Stream<Lector> streamAll() {
+        return ResultSetStream.of(connectionProvider, GET_ALL_LECTORS_SQL, lectorMapping);
+    }
+
+    public Stream<Lector> streamNames() {
+        return ResultSetStream.of(connectionProvider, GET_ALL_LECTOR_NAMES_SQL, lectorNameMapping);
     }
 
     @Override
-    public void save(Lector lector) {
-        try (Connection connection = connectionProvider.getConnection();
-             PreparedStatement statement = connection.prepareStatement(CREATE_LECTOR_SQL, RETURN_GENERATED_KEYS)) {
-            statement.setString(1, lector.getName());
-            statement.setString(2, lector.getSurname());
-            statement.setString(3, lector.getDegree());
-            statement.setInt(4, lector.getSalary());
-            statement.executeUpdate();
-            try (ResultSet generatedKeys = statement.getGeneratedKeys()) {
-                if (generatedKeys.next()) {
-                    lector.setId(generatedKeys.getInt(1));
+    public boolean save(Lector lector) {
+        boolean saved = metrics.time("LectorDao.save", QueryTimer::changed, false, () -> {
+            try (Connection connection = connectionProvider.getConnection();
+                 PreparedStatement statement = connection.prepareStatement(CREATE_LECTOR_SQL, RETURN_GENERATED_KEYS)) {
+                statement.setString(1, lector.getName());
+                statement.setString(2, lector.getSurname());
+                setDegree(connection, statement, 3, lector.getDegree());
+                statement.setInt(4, lector.getSalary());
+                statement.executeUpdate();
+                try (ResultSet generatedKeys = statement.getGeneratedKeys()) {
+                    if (generatedKeys.next()) {
+                        lector.setId(generatedKeys.getInt(1));
+                    }
                 }
+                return true;
             }
-        } catch (SQLException e) {
-            e.printStackTrace();
+        });
+        if (saved) {
+            listeners.forEach(listener -> listener.saved(lector));
         }
+        return saved;
     }
 
     @Override
-    public void update(Lector lector) {
-        try (Connection connection = connectionProvider.getConnection();
-             PreparedStatement statement = connection.prepareStatement(UPDATE_LECTOR_SQL)) {
-            statement.setString(1, lector.getName());
-            statement.setString(2, lector.getSurname());
-            statement.setString(3, lector.getDegree());
-            statement.setInt(4, lector.getSalary());
-            statement.setInt(5, lector.getId());
-            statement.executeUpdate();
-        } catch (SQLException e) {
-            e.printStackTrace();
+    public boolean update(Lector lector) {
+        boolean updated = metrics.time("LectorDao.update", QueryTimer::changed, false, () -> {
+            try (Connection connection = connectionProvider.getConnection();
+                 PreparedStatement statement = connection.prepareStatement(UPDATE_LECTOR_SQL)) {
+                statement.setString(1, lector.getName());
+                statement.setString(2, lector.getSurname());
+                setDegree(connection, statement, 3, lector.getDegree());
+                statement.setInt(4, lector.getSalary());
+                statement.setInt(5, lector.getId());
+                return statement.executeUpdate() > 0;
+            }
+        });
+        if (updated) {
+            listeners.forEach(listener -> listener.updated(lector));
         }
+        return updated;
     }
 
     @Override
-    public void delete(int id) {
-        try (Connection connection = connectionProvider.getConnection();
-             PreparedStatement statement = connection.prepareStatement(DELETE_LECTOR_SQL)) {
-            statement.setInt(1, id);
-            statement.executeUpdate();
-        } catch (SQLException e) {
-            e.printStackTrace();
+    public boolean delete(int id) {
+        Map<Integer, List<Integer>> headedDepartmentIds = new HashMap<>();
+        boolean deleted = metrics.time("LectorDao.delete", QueryTimer::changed, false, () -> {
+            try (Connection connection = connectionProvider.getConnection();
+                 PreparedStatement statement = connection.prepareStatement(DELETE_LECTOR_SQL)) {
+                collectHeadedDepartmentIds(connection, Collections.singletonList(id), headedDepartmentIds);
+                statement.setInt(1, id);
+                return statement.executeUpdate() > 0;
+            }
+        });
+        if (deleted) {
+            listeners.forEach(listener -> listener.deleted(id));
+            notifyHeadedDepartmentsDeleted(id, headedDepartmentIds);
         }
+        return deleted;
     }
 
-    public Optional<Lector> getHeadOfDepartment(String nameOfDepartment) {
-        try (Connection connection = connectionProvider.getConnection();
-             PreparedStatement statement = connection.prepareStatement(GET_HEAD_OF_DEPARTMENT_SQL)) {
-            statement.setString(1, nameOfDepartment);
-            try (ResultSet resultSet = statement.executeQuery()) {
-                if (resultSet.next()) {
-                    return Optional.of(mapToLector(resultSet));
+    @Override
+    public boolean saveAll(Collection<Lector> lectors) {
+        List<Lector> saved = new ArrayList<>(lectors.size());
+        boolean applied = metrics.time("LectorDao.saveAll", ok -> saved.size(), false, () -> {
+            try (Connection connection = connectionProvider.getConnection();
+                 PreparedStatement statement = connection.prepareStatement(CREATE_LECTOR_SQL, RETURN_GENERATED_KEYS)) {
+                resolveDegrees(connection, lectors);
+                JdbcBatch.execute(connection, statement, lectors, batchSize, (batchStatement, lector) -> {
+                    batchStatement.setString(1, lector.getName());
+                    batchStatement.setString(2, lector.getSurname());
+                    setDegree(connection, batchStatement, 3, lector.getDegree());
+                    batchStatement.setInt(4, lector.getSalary());
+                }, Lector::setId, null, saved::add);
+                return true;
+            }
+        });
+        saved.forEach(lector -> listeners.forEach(listener -> listener.saved(lector)));
+        return applied;
+    }
+
+    @Override
+    public boolean updateAll(Collection<Lector> lectors) {
+        List<Lector> updated = new ArrayList<>(lectors.size());
+        boolean applied = metrics.time("LectorDao.updateAll", ok -> updated.size(), false, () -> {
+            try (Connection connection = connectionProvider.getConnection();
+                 PreparedStatement statement = connection.prepareStatement(UPDATE_LECTOR_SQL)) {
+                resolveDegrees(connection, lectors);
+                JdbcBatch.execute(connection, statement, lectors, batchSize, (batchStatement, lector) -> {
+                    batchStatement.setString(1, lector.getName());
+                    batchStatement.setString(2, lector.getSurname());
+                    setDegree(connection, batchStatement, 3, lector.getDegree());
+                    batchStatement.setInt(4, lector.getSalary());
+                    batchStatement.setInt(5, lector.getId());
+                }, updated::add);
+                return true;
+            }
+        });
+        updated.forEach(lector -> listeners.forEach(listener -> listener.updated(lector)));
+        return applied;
+    }
+
+    @Override
+    public boolean deleteAll(Collection<Integer> ids) {
+        List<Integer> deleted = new ArrayList<>(ids.size());
+        Map<Integer, List<Integer>> headedDepartmentIds = new HashMap<>();
+        boolean applied = metrics.time("LectorDao.deleteAll", ok -> deleted.size(), false, () -> {
+            try (Connection connection = connectionProvider.getConnection();
+                 PreparedStatement statement = connection.prepareStatement(DELETE_LECTOR_SQL)) {
+                collectHeadedDepartmentIds(connection, ids, headedDepartmentIds);
+                JdbcBatch.execute(connection, statement, ids, batchSize,
+                        (batchStatement, id) -> batchStatement.setInt(1, id), deleted::add);
+                return true;
+            }
+        });
+        deleted.forEach(id -> {
+            listeners.forEach(listener -> listener.deleted(id));
+            notifyHeadedDepartmentsDeleted(id, headedDepartmentIds);
+        });
+        return applied;
+    }
+
+    public List<Lector> getByIds(List<Integer> ids) {
+        Map<Integer, Lector> lectorsById = new HashMap<>();
+        metrics.time("LectorDao.getByIds", Map::size, lectorsById, () -> {
+            try (Connection connection = connectionProvider.getConnection()) {
+                for (List<Integer> chunk : JdbcBatch.partition(ids, batchSize)) {
+                    try (PreparedStatement statement = connection.prepareStatement(
+                            JdbcBatch.inClause(GET_LECTORS_BY_IDS_SQL_PREFIX, chunk.size()))) {
+                        for (int i = 0; i < chunk.size(); i++) {
+                            statement.setInt(i + 1, chunk.get(i));
+                        }
+                        try (ResultSet resultSet = statement.executeQuery()) {
+                            while (resultSet.next()) {
+                                Lector lector = lectorMapping.map(resultSet);
+                                lectorsById.put(lector.getId(), lector);
+                            }
+                        }
+                    }
                 }
             }
-        } catch (SQLException e) {
-            e.printStackTrace();
+            return lectorsById;
+        });
+        List<Lector> result = new ArrayList<>(lectorsById.size());
+        for (int id : ids) {
+            Lector lector = lectorsById.get(id);
+            if (lector != null) {
+                result.add(lector);
+            }
         }
-        return Optional.empty();
+        return result;
+    }
+
+    public Set<Integer> getExistingIds(Collection<Integer> ids) {
+        Set<Integer> result = new HashSet<>();
+        return metrics.time("LectorDao.getExistingIds", Set::size, result, () -> {
+            try (Connection connection = connectionProvider.getConnection()) {
+                for (List<Integer> chunk : JdbcBatch.partition(ids, batchSize)) {
+                    try (PreparedStatement statement = connection.prepareStatement(
+                            JdbcBatch.inClause(GET_EXISTING_IDS_SQL_PREFIX, chunk.size()))) {
+                        for (int i = 0; i < chunk.size(); i++) {
+                            statement.setInt(i + 1, chunk.get(i));
+                        }
+                        try (ResultSet resultSet = statement.executeQuery()) {
+                            while (resultSet.next()) {
+                                result.add(resultSet.getInt(1));
+                            }
+                        }
+                    }
+                }
+            }
+            return result;
+        });
+    }
+
+    public Optional<Lector> getHeadOfDepartment(String nameOfDepartment) {
+        return metrics.time("LectorDao.getHeadOfDepartment", QueryTimer::present, Optional.empty(), () -> {
+            try (Connection connection = connectionProvider.getConnection();
+                 PreparedStatement statement = connection.prepareStatement(GET_HEAD_OF_DEPARTMENT_SQL)) {
+                statement.setString(1, nameOfDepartment);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    return resultSet.next() ? Optional.of(lectorMapping.map(resultSet)) : Optional.empty();
+                }
+            }
+        });
     }
 
     public List<Lector> searchIfNameContains(String line) {
         List<Lector> result = new ArrayList<>();
-        try (Connection connection = connectionProvider.getConnection();
-             PreparedStatement statement = connection.prepareStatement(SEARCH_BY_LECTOR_NAME_SQL)) {
-            statement.setString(1, "%"+line+"%");
-            statement.setString(2, "%"+line+"%");
-            try (ResultSet resultSet = statement.executeQuery()) {
-                while (resultSet.next()) {
-                    result.add(mapToLector(resultSet));
+        return metrics.time("LectorDao.searchIfNameContains", List::size, result, () -> {
+            try (Connection connection = connectionProvider.getConnection();
+                 PreparedStatement statement = connection.prepareStatement(searchMode == SearchMode.TRIGRAM
+                         ? RANK_BY_LECTOR_NAME_SQL : SEARCH_BY_LECTOR_NAME_SQL)) {
+                statement.setString(1, "%"+line+"%");
+                statement.setString(2, "%"+line+"%");
+                if (searchMode == SearchMode.TRIGRAM) {
+                    statement.setString(3, line);
+                    statement.setString(4, line);
+                }
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        result.add(lectorMapping.map(resultSet));
+                    }
+                }
+            }
+            return result;
+        });
+    }
+
+    public List<Lector> searchIfNameContains(String line, int limit) {
+        List<Lector> result = new ArrayList<>();
+        return metrics.time("LectorDao.searchIfNameContainsWithLimit", List::size, result, () -> {
+            try (Connection connection = connectionProvider.getConnection();
+                 PreparedStatement statement = connection.prepareStatement(searchMode == SearchMode.TRIGRAM
+                         ? RANK_BY_LECTOR_NAME_WITH_LIMIT_SQL : SEARCH_BY_LECTOR_NAME_WITH_LIMIT_SQL)) {
+                statement.setString(1, "%"+line+"%");
+                statement.setString(2, "%"+line+"%");
+                if (searchMode == SearchMode.TRIGRAM) {
+                    statement.setString(3, line);
+                    statement.setString(4, line);
+                    statement.setInt(5, limit);
+                } else {
+                    statement.setInt(3, limit);
+                }
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        result.add(lectorMapping.map(resultSet));
+                    }
+                }
+            }
+            return result;
+        });
+    }
+
+    public Page<Lector> getPage(String token, int size) {
+        List<Lector> result = new ArrayList<>();
+        metrics.time("LectorDao.getPage", List::size, result, () -> {
+            try (Connection connection = connectionProvider.getConnection();
+                 PreparedStatement statement = connection.prepareStatement(GET_LECTORS_PAGE_SQL)) {
+                statement.setInt(1, PageToken.decode(token));
+                statement.setInt(2, size + 1);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        result.add(lectorMapping.map(resultSet));
+                    }
+                }
+            }
+            return result;
+        });
+        return PageToken.toPage(result, size, Lector::getId);
+    }
+
+    public Page<Lector> searchIfNameContains(String line, String token, int size) {
+        List<Lector> result = new ArrayList<>();
+        metrics.time("LectorDao.searchPageIfNameContains", List::size, result, () -> {
+            try (Connection connection = connectionProvider.getConnection();
+                 PreparedStatement statement = connection.prepareStatement(SEARCH_PAGE_BY_LECTOR_NAME_SQL)) {
+                statement.setQueryTimeout(searchQueryTimeoutSeconds);
+                statement.setString(1, "%"+line+"%");
+                statement.setString(2, "%"+line+"%");
+                statement.setInt(3, PageToken.decode(token));
+                statement.setInt(4, size + 1);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        result.add(lectorMapping.map(resultSet));
+                    }
                 }
             }
-        } catch (SQLException e) {
-            e.printStackTrace();
+            return result;
+        });
+        return PageToken.toPage(result, size, Lector::getId);
+    }
+
+    private void resolveDegrees(Connection connection, Collection<Lector> lectors) throws SQLException {
+        for (Lector lector : lectors) {
+            degreeDictionary.idOf(connection, lector.getDegree());
         }
-        return result;
+    }
+
+    private void setDegree(Connection connection, PreparedStatement statement, int index, String degree)
+            throws SQLException {
+        Integer degreeId = degreeDictionary.idOf(connection, degree);
+        if (degreeId == null) {
+            statement.setNull(index, Types.SMALLINT);
+        } else {
+            statement.setInt(index, degreeId);
+        }
+    }
+
+    private void collectHeadedDepartmentIds(Connection connection, Collection<Integer> lectorIds,
+                                            Map<Integer, List<Integer>> headedDepartmentIds) throws SQLException {
+        if (headedDepartmentListeners.isEmpty()) {
+            return;
+        }
+        for (List<Integer> chunk : JdbcBatch.partition(lectorIds, batchSize)) {
+            try (PreparedStatement statement = connection.prepareStatement(
+                    JdbcBatch.inClause(GET_HEADED_DEPARTMENT_IDS_SQL_PREFIX, chunk.size()))) {
+                for (int i = 0; i < chunk.size(); i++) {
+                    statement.setInt(i + 1, chunk.get(i));
+                }
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        headedDepartmentIds.computeIfAbsent(resultSet.getInt(2), head -> new ArrayList<>())
+                                .add(resultSet.getInt(1));
+                    }
+                }
+            }
+        }
+    }
+
+    private void notifyHeadedDepartmentsDeleted(int lectorId, Map<Integer, List<Integer>> headedDepartmentIds) {
+        headedDepartmentIds.getOrDefault(lectorId, Collections.emptyList()).forEach(departmentId ->
+                headedDepartmentListeners.forEach(listener -> listener.deleted(departmentId)));
     }
 
     private Lector mapToLector(ResultSet resultSet) throws SQLException {
-        return new Lector(resultSet.getInt("id"),
-                resultSet.getString("name"),
-                resultSet.getString("surname"),
-                resultSet.getString("degree"),
-                resultSet.getInt("salary"));
+        return new Lector(resultSet.getInt(1),
+                resultSet.getString(2),
+                resultSet.getString(3),
+                degreeDictionary.nameOf(resultSet, 4),
+                resultSet.getInt(5));
+    }
+
+    private Lector mapToLectorName(ResultSet resultSet) throws SQLException {
+        return new Lector(resultSet.getInt(1), resultSet.getString(2), resultSet.getString(3),
+                null, 0);
     }
 }
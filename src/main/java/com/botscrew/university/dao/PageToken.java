@@ -0,0 +1,72 @@
+package com.botscrew.university.dao;
+
+import com.botscrew.university.domain.Page;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+public final class PageToken {
+
+    @FunctionalInterface
+    public interface IdSource {
+
+        List<Integer> idsAfter(int afterId, int limit);
+    }
+
+    private static final String PREFIX = "id:";
+
+    private PageToken() {
+    }
+
+    public static String encode(int lastId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((PREFIX + lastId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static int decode(String token) {
+        if (token == null || token.isEmpty()) {
+            return 0;
+        }
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            if (value.startsWith(PREFIX)) {
+                return Integer.parseInt(value.substring(PREFIX.length()));
+            }
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(String.format("Page token %s is not valid", token), e);
+        }
+        throw new IllegalArgumentException(String.format("Page token %s is not valid", token));
+    }
+
+    public static <T> Page<T> toPage(List<T> rows, int size, ToIntFunction<T> idExtractor) {
+        if (rows.size() <= size) {
+            return new Page<>(rows, null);
+        }
+        List<T> items = rows.subList(0, size);
+        return new Page<>(items, encode(idExtractor.applyAsInt(items.get(size - 1))));
+    }
+
+    public static <T> Page<T> fromIds(String token, int size, IdSource idSource,
+                                      Function<List<Integer>, List<T>> rowLoader, ToIntFunction<T> idExtractor) {
+        List<T> items = new ArrayList<>(size);
+        int afterId = decode(token);
+        while (true) {
+            int limit = size - items.size() + 1;
+            List<Integer> ids = idSource.idsAfter(afterId, limit);
+            for (T row : rowLoader.apply(ids)) {
+                if (items.size() == size) {
+                    return new Page<>(items, encode(idExtractor.applyAsInt(items.get(size - 1))));
+                }
+                items.add(row);
+            }
+            if (ids.size() < limit) {
+                return new Page<>(items, null);
+            }
+            afterId = ids.get(ids.size() - 1);
+        }
+    }
+}
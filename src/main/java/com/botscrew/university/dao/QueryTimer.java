@@ -0,0 +1,61 @@
+package com.botscrew.university.dao;
+
+import com.botscrew.university.metrics.QueryMetrics;
+import com.botscrew.university.utils.ConnectionProvider;
+
+import java.sql.SQLException;
+import java.util.Optional;
+import java.util.function.ToLongFunction;
+
+final class QueryTimer {
+
+    @FunctionalInterface
+    interface SqlCall<T> {
+
+        T call() throws SQLException;
+    }
+
+    @FunctionalInterface
+    interface ErrorHandler<T> {
+
+        T handle(SQLException exception);
+    }
+
+    private final ConnectionProvider connectionProvider;
+
+    QueryTimer(ConnectionProvider connectionProvider) {
+        this.connectionProvider = connectionProvider;
+    }
+
+    <T> T time(String name, ToLongFunction<T> rowCounter, T fallback, SqlCall<T> call) {
+        return timeOrElse(name, rowCounter, exception -> {
+            exception.printStackTrace();
+            return fallback;
+        }, call);
+    }
+
+    <T> T timeOrElse(String name, ToLongFunction<T> rowCounter, ErrorHandler<T> errorHandler, SqlCall<T> call) {
+        QueryMetrics metrics = connectionProvider.getQueryMetrics(name);
+        long start = System.nanoTime();
+        T result;
+        try {
+            result = call.call();
+        } catch (SQLException e) {
+            metrics.recordError(start);
+            return errorHandler.handle(e);
+        } catch (RuntimeException e) {
+            metrics.recordError(start);
+            throw e;
+        }
+        metrics.recordCall(start, rowCounter.applyAsLong(result));
+        return result;
+    }
+
+    static long changed(boolean changed) {
+        return changed ? 1 : 0;
+    }
+
+    static long present(Optional<?> optional) {
+        return optional.isPresent() ? 1 : 0;
+    }
+}
@@ -0,0 +1,104 @@
+package com.botscrew.university.dao;
+
+import com.botscrew.university.utils.ConnectionProvider;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+final class ResultSetStream {
+
+    @FunctionalInterface
+    interface ParameterSetter {
+
+        void setParameters(PreparedStatement statement) throws SQLException;
+    }
+
+    private ResultSetStream() {
+    }
+
+    static <T> Stream<T> of(ConnectionProvider connectionProvider, String sql, RowMapping<T> rowMapping) {
+        return of(connectionProvider, sql, statement -> {
+        }, rowMapping);
+    }
+
+    static <T> Stream<T> of(ConnectionProvider connectionProvider, String sql, ParameterSetter parameterSetter,
+                            RowMapping<T> rowMapping) {
+        Connection connection = null;
+        PreparedStatement statement = null;
+        ResultSet resultSet = null;
+        try {
+            connection = connectionProvider.getConnection();
+            connection.setAutoCommit(false);
+            statement = connection.prepareStatement(sql);
+            statement.setFetchSize(connectionProvider.getIntProperty("stream.fetchSize", 1000));
+            parameterSetter.setParameters(statement);
+            resultSet = statement.executeQuery();
+        } catch (SQLException e) {
+            e.printStackTrace();
+            close(connection, statement, resultSet);
+            return Stream.empty();
+        }
+        Connection openedConnection = connection;
+        PreparedStatement openedStatement = statement;
+        ResultSet openedResultSet = resultSet;
+        return StreamSupport.stream(new ResultSetSpliterator<>(openedResultSet, rowMapping), false)
+                .onClose(() -> close(openedConnection, openedStatement, openedResultSet));
+    }
+
+    private static void close(Connection connection, PreparedStatement statement, ResultSet resultSet) {
+        try {
+            if (resultSet != null) {
+                resultSet.close();
+            }
+            if (statement != null) {
+                statement.close();
+            }
+            if (connection != null) {
+                connection.commit();
+                connection.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            e.printStackTrace();
+        } finally {
+            if (connection != null) {
+                try {
+                    connection.close();
+                } catch (SQLException e) {
+                    e.printStackTrace();
+                }
+            }
+        }
+    }
+
+    private static final class ResultSetSpliterator<T> extends Spliterators.AbstractSpliterator<T> {
+
+        private final ResultSet resultSet;
+        private final RowMapping<T> rowMapping;
+
+        private ResultSetSpliterator(ResultSet resultSet, RowMapping<T> rowMapping) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.resultSet = resultSet;
+            this.rowMapping = rowMapping;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            try {
+                if (resultSet.next()) {
+                    action.accept(rowMapping.map(resultSet));
+                    return true;
+                }
+            } catch (SQLException e) {
+                e.printStackTrace();
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.botscrew.university.dao;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+@FunctionalInterface
+interface RowMapping<T> {
+
+    T map(ResultSet resultSet) throws SQLException;
+
+    static String select(String table, String... columns) {
+        return "SELECT " + qualified(table, columns) + " FROM " + table;
+    }
+
+    static String qualified(String table, String... columns) {
+        StringBuilder sql = new StringBuilder(columns.length * 16);
+        for (String column : columns) {
+            if (sql.length() > 0) {
+                sql.append(", ");
+            }
+            sql.append(table).append('.').append(column);
+        }
+        return sql.toString();
+    }
+}
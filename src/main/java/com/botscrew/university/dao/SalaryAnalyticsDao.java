@@ -0,0 +1,232 @@
+package com.botscrew.university.dao;
+
+import com.botscrew.university.analytics.SalaryAccumulator;
+import com.botscrew.university.domain.DepartmentSalaryDistribution;
+import com.botscrew.university.domain.SalaryDistribution;
+import com.botscrew.university.utils.ConnectionProvider;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+public class SalaryAnalyticsDao {
+
+    private static final String DISTRIBUTION_COLUMNS = "COUNT(lectors.salary), " +
+            "AVG(CAST(lectors.salary AS DOUBLE PRECISION)), STDDEV_POP(CAST(lectors.salary AS DOUBLE PRECISION)), " +
+            "MIN(lectors.salary), MAX(lectors.salary), " +
+            "PERCENTILE_CONT(0.5) WITHIN GROUP (ORDER BY lectors.salary), " +
+            "PERCENTILE_CONT(0.9) WITHIN GROUP (ORDER BY lectors.salary), " +
+            "PERCENTILE_CONT(0.99) WITHIN GROUP (ORDER BY lectors.salary) FROM departments " +
+            "LEFT JOIN departments_lectors ON departments.id = departments_lectors.department_id " +
+            "LEFT JOIN lectors ON departments_lectors.lector_id = lectors.id ";
+    private static final String DEGREE_DISTRIBUTIONS_SQL = "SELECT departments.id, departments.name, 0, " +
+            "lectors.degree_id, " + DISTRIBUTION_COLUMNS;
+    private static final String TOTAL_DISTRIBUTIONS_SQL = "SELECT departments.id, departments.name, 1, " +
+            "CAST(NULL AS SMALLINT), " + DISTRIBUTION_COLUMNS;
+    private static final String DEGREE_GROUP_BY = "GROUP BY departments.id, departments.name, lectors.degree_id ";
+    private static final String TOTAL_GROUP_BY = "GROUP BY departments.id, departments.name ";
+    private static final String BY_NAME = "WHERE departments.name = ? ";
+    private static final String GET_DISTRIBUTIONS_SQL = DEGREE_DISTRIBUTIONS_SQL + DEGREE_GROUP_BY +
+            "UNION ALL " + TOTAL_DISTRIBUTIONS_SQL + TOTAL_GROUP_BY + "ORDER BY 1";
+    private static final String GET_DISTRIBUTION_BY_NAME_SQL = DEGREE_DISTRIBUTIONS_SQL + BY_NAME + DEGREE_GROUP_BY +
+            "UNION ALL " + TOTAL_DISTRIBUTIONS_SQL + BY_NAME + TOTAL_GROUP_BY + "ORDER BY 1";
+    private static final String SALARY_BANDS_SQL = "SELECT department_id, degree_id, band, COUNT(*) FROM (" +
+            "SELECT departments_lectors.department_id AS department_id, lectors.degree_id AS degree_id, " +
+            "lectors.salary / CAST(? AS INTEGER) * CAST(? AS INTEGER) AS band FROM departments_lectors " +
+            "JOIN lectors ON departments_lectors.lector_id = lectors.id ";
+    private static final String SALARY_BANDS_GROUP_BY = ") salary_bands GROUP BY department_id, degree_id, band";
+    private static final String GET_SALARY_BANDS_SQL = SALARY_BANDS_SQL + "WHERE lectors.salary IS NOT NULL" +
+            SALARY_BANDS_GROUP_BY;
+    private static final String GET_SALARY_BANDS_BY_NAME_SQL = SALARY_BANDS_SQL +
+            "JOIN departments ON departments_lectors.department_id = departments.id " +
+            "WHERE lectors.salary IS NOT NULL AND departments.name = ?" + SALARY_BANDS_GROUP_BY;
+    private static final String SALARIES_SQL = "SELECT departments.id, departments.name, lectors.degree_id, " +
+            "lectors.salary FROM departments " +
+            "LEFT JOIN departments_lectors ON departments.id = departments_lectors.department_id " +
+            "LEFT JOIN lectors ON departments_lectors.lector_id = lectors.id ";
+    private static final String GET_SALARIES_SQL = SALARIES_SQL + "ORDER BY departments.id";
+    private static final String GET_SALARIES_BY_NAME_SQL = SALARIES_SQL + BY_NAME + "ORDER BY departments.id";
+
+    private final ConnectionProvider connectionProvider;
+    private final AnalyticsEngine engine;
+    private final int bandWidth;
+    private final int sketchCapacity;
+    private final int fetchSize;
+    private final DegreeDictionary degreeDictionary;
+    private final QueryTimer metrics;
+
+    public SalaryAnalyticsDao(ConnectionProvider connectionProvider, DegreeDictionary degreeDictionary) {
+        this(connectionProvider, degreeDictionary, AnalyticsEngine.resolve(connectionProvider));
+    }
+
+    public SalaryAnalyticsDao(ConnectionProvider connectionProvider, DegreeDictionary degreeDictionary,
+                              AnalyticsEngine engine) {
+        this.connectionProvider = connectionProvider;
+        this.engine = engine;
+        bandWidth = connectionProvider.getIntProperty("analytics.salaryBandWidth", 1000);
+        sketchCapacity = connectionProvider.getIntProperty("analytics.sketchCapacity", 1000);
+        fetchSize = connectionProvider.getIntProperty("stream.fetchSize", 1000);
+        this.degreeDictionary = degreeDictionary;
+        connectionProvider.registerSqlNames(SalaryAnalyticsDao.class);
+        metrics = new QueryTimer(connectionProvider);
+    }
+
+    public AnalyticsEngine getEngine() {
+        return engine;
+    }
+
+    public Map<String, DepartmentSalaryDistribution> getDistributions() {
+        return engine == AnalyticsEngine.SQL
+                ? getDistributionsWithSql("SalaryAnalyticsDao.getDistributions", null)
+                : getDistributionsWithSketch("SalaryAnalyticsDao.getDistributions", null);
+    }
+
+    public Optional<DepartmentSalaryDistribution> getDistributionByName(String name) {
+        Map<String, DepartmentSalaryDistribution> distributions = engine == AnalyticsEngine.SQL
+                ? getDistributionsWithSql("SalaryAnalyticsDao.getDistributionByName", name)
+                : getDistributionsWithSketch("SalaryAnalyticsDao.getDistributionByName", name);
+        return Optional.ofNullable(distributions.get(name));
+    }
+
+    private Map<String, DepartmentSalaryDistribution> getDistributionsWithSql(String metricName, String name) {
+        Map<Integer, String> names = new LinkedHashMap<>();
+        Map<Integer, SalaryDistribution> totals = new HashMap<>();
+        Map<Integer, Map<String, SalaryDistribution>> degrees = new HashMap<>();
+        Map<Integer, Map<Integer, Integer>> totalBands = new HashMap<>();
+        Map<Integer, Map<String, Map<Integer, Integer>>> degreeBands = new HashMap<>();
+        metrics.time(metricName, ok -> names.size(), false, () -> {
+            try (Connection connection = connectionProvider.getConnection()) {
+                boolean autoCommit = connection.getAutoCommit();
+                boolean readOnly = connection.isReadOnly();
+                int isolation = connection.getTransactionIsolation();
+                connection.setReadOnly(true);
+                connection.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+                connection.setAutoCommit(false);
+                try {
+                    try (PreparedStatement statement = connection.prepareStatement(
+                            name == null ? GET_SALARY_BANDS_SQL : GET_SALARY_BANDS_BY_NAME_SQL)) {
+                        statement.setInt(1, bandWidth);
+                        statement.setInt(2, bandWidth);
+                        if (name != null) {
+                            statement.setString(3, name);
+                        }
+                        try (ResultSet resultSet = statement.executeQuery()) {
+                            while (resultSet.next()) {
+                                int departmentId = resultSet.getInt(1);
+                                int band = resultSet.getInt(3);
+                                int count = resultSet.getInt(4);
+                                totalBands.computeIfAbsent(departmentId, id -> new TreeMap<>())
+                                        .merge(band, count, Integer::sum);
+                                degreeBands.computeIfAbsent(departmentId, id -> new HashMap<>())
+                                        .computeIfAbsent(degreeDictionary.nameOf(resultSet, 2),
+                                                degree -> new TreeMap<>())
+                                        .put(band, count);
+                            }
+                        }
+                    }
+                    try (PreparedStatement statement = connection.prepareStatement(
+                            name == null ? GET_DISTRIBUTIONS_SQL : GET_DISTRIBUTION_BY_NAME_SQL)) {
+                        if (name != null) {
+                            statement.setString(1, name);
+                            statement.setString(2, name);
+                        }
+                        try (ResultSet resultSet = statement.executeQuery()) {
+                            while (resultSet.next()) {
+                                int departmentId = resultSet.getInt(1);
+                                names.put(departmentId, resultSet.getString(2));
+                                Map<String, SalaryDistribution> departmentDegrees = degrees.computeIfAbsent(
+                                        departmentId, id -> new HashMap<>());
+                                if (resultSet.getInt(3) == 1) {
+                                    totals.put(departmentId, mapToDistribution(resultSet,
+                                            totalBands.getOrDefault(departmentId, new TreeMap<>())));
+                                } else if (resultSet.getInt(5) > 0) {
+                                    String degree = degreeDictionary.nameOf(resultSet, 4);
+                                    departmentDegrees.put(degree, mapToDistribution(resultSet,
+                                            degreeBands.getOrDefault(departmentId, new HashMap<>())
+                                                    .getOrDefault(degree, new TreeMap<>())));
+                                }
+                            }
+                        }
+                    }
+                } finally {
+                    connection.commit();
+                    connection.setAutoCommit(autoCommit);
+                    connection.setTransactionIsolation(isolation);
+                    connection.setReadOnly(readOnly);
+                }
+            }
+            return true;
+        });
+        Map<String, DepartmentSalaryDistribution> result = new LinkedHashMap<>();
+        names.forEach((id, departmentName) -> result.put(departmentName, new DepartmentSalaryDistribution(
+                departmentName, totals.get(id), degrees.get(id))));
+        return result;
+    }
+
+    private Map<String, DepartmentSalaryDistribution> getDistributionsWithSketch(String metricName, String name) {
+        Map<String, DepartmentSalaryDistribution> result = new LinkedHashMap<>();
+        return metrics.time(metricName, Map::size, result, () -> {
+            try (Connection connection = connectionProvider.getConnection()) {
+                boolean autoCommit = connection.getAutoCommit();
+                connection.setAutoCommit(false);
+                try (PreparedStatement statement = connection.prepareStatement(
+                        name == null ? GET_SALARIES_SQL : GET_SALARIES_BY_NAME_SQL)) {
+                    if (name != null) {
+                        statement.setString(1, name);
+                    }
+                    statement.setFetchSize(fetchSize);
+                    try (ResultSet resultSet = statement.executeQuery()) {
+                        int departmentId = 0;
+                        String departmentName = null;
+                        SalaryAccumulator total = null;
+                        Map<String, SalaryAccumulator> degrees = null;
+                        while (resultSet.next()) {
+                            if (departmentName == null || resultSet.getInt(1) != departmentId) {
+                                if (departmentName != null) {
+                                    result.put(departmentName, toDistribution(departmentName, total, degrees));
+                                }
+                                departmentId = resultSet.getInt(1);
+                                departmentName = resultSet.getString(2);
+                                total = new SalaryAccumulator(bandWidth, sketchCapacity);
+                                degrees = new HashMap<>();
+                            }
+                            int salary = resultSet.getInt(4);
+                            if (!resultSet.wasNull()) {
+                                total.add(salary);
+                                degrees.computeIfAbsent(degreeDictionary.nameOf(resultSet, 3),
+                                        degree -> new SalaryAccumulator(bandWidth, sketchCapacity)).add(salary);
+                            }
+                        }
+                        if (departmentName != null) {
+                            result.put(departmentName, toDistribution(departmentName, total, degrees));
+                        }
+                    }
+                } finally {
+                    connection.commit();
+                    connection.setAutoCommit(autoCommit);
+                }
+            }
+            return result;
+        });
+    }
+
+    private static DepartmentSalaryDistribution toDistribution(String name, SalaryAccumulator total,
+                                                               Map<String, SalaryAccumulator> degrees) {
+        Map<String, SalaryDistribution> degreeDistributions = new HashMap<>();
+        degrees.forEach((degree, accumulator) -> degreeDistributions.put(degree, accumulator.toDistribution()));
+        return new DepartmentSalaryDistribution(name, total.toDistribution(), degreeDistributions);
+    }
+
+    private static SalaryDistribution mapToDistribution(ResultSet resultSet, Map<Integer, Integer> bands)
+            throws SQLException {
+        return new SalaryDistribution(resultSet.getInt(5), resultSet.getDouble(6), resultSet.getDouble(7),
+                resultSet.getInt(8), resultSet.getInt(9), resultSet.getDouble(10), resultSet.getDouble(11),
+                resultSet.getDouble(12), bands);
+    }
+}
@@ -0,0 +1,39 @@
+package com.botscrew.university.dao;
+
+import com.botscrew.university.utils.ConnectionProvider;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+public enum SearchMode {
+
+    LIKE,
+    TRIGRAM;
+
+    private static final String POSTGRESQL = "PostgreSQL";
+    private static final String PG_TRGM_INSTALLED_SQL = "SELECT 1 FROM pg_extension WHERE extname = 'pg_trgm'";
+
+    public static SearchMode resolve(ConnectionProvider connectionProvider) {
+        if (!TRIGRAM.name().equalsIgnoreCase(connectionProvider.getProperty("search.mode", LIKE.name()))) {
+            return LIKE;
+        }
+        try (Connection connection = connectionProvider.getConnection();
+             Statement statement = connection.createStatement()) {
+            if (!POSTGRESQL.equals(connection.getMetaData().getDatabaseProductName())) {
+                System.err.println("Trigram search needs PostgreSQL, falling back to LIKE search");
+                return LIKE;
+            }
+            try (ResultSet resultSet = statement.executeQuery(PG_TRGM_INSTALLED_SQL)) {
+                if (resultSet.next()) {
+                    return TRIGRAM;
+                }
+            }
+            System.err.println("Extension pg_trgm is not installed, run search.sql. Falling back to LIKE search");
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return LIKE;
+    }
+}
@@ -21,6 +21,10 @@ public class Department {
         this.id = id;
     }
 
+    public Department(Department department) {
+        this(department.id, department.name, department.head);
+    }
+
     public int getId() {
         return id;
     }
@@ -0,0 +1,59 @@
+package com.botscrew.university.domain;
+
+import java.util.Map;
+import java.util.Objects;
+
+public class DepartmentReport {
+
+    private final Department department;
+    private final Lector head;
+    private final int quantityOfEmployee;
+    private final double averageSalary;
+    private final Map<String, Integer> degreeStatistic;
+
+    public DepartmentReport(Department department, Lector head, int quantityOfEmployee, double averageSalary,
+                            Map<String, Integer> degreeStatistic) {
+        this.department = department;
+        this.head = head;
+        this.quantityOfEmployee = quantityOfEmployee;
+        this.averageSalary = averageSalary;
+        this.degreeStatistic = degreeStatistic;
+    }
+
+    public Department getDepartment() {
+        return department;
+    }
+
+    public Lector getHead() {
+        return head;
+    }
+
+    public int getQuantityOfEmployee() {
+        return quantityOfEmployee;
+    }
+
+    public double getAverageSalary() {
+        return averageSalary;
+    }
+
+    public Map<String, Integer> getDegreeStatistic() {
+        return degreeStatistic;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof DepartmentReport)) return false;
+        DepartmentReport that = (DepartmentReport) o;
+        return quantityOfEmployee == that.quantityOfEmployee &&
+                Double.compare(that.averageSalary, averageSalary) == 0 &&
+                department.equals(that.department) &&
+                Objects.equals(head, that.head) &&
+                degreeStatistic.equals(that.degreeStatistic);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(department, head, quantityOfEmployee, averageSalary, degreeStatistic);
+    }
+}
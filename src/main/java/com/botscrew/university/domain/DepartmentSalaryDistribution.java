@@ -0,0 +1,44 @@
+package com.botscrew.university.domain;
+
+import java.util.Map;
+import java.util.Objects;
+
+public class DepartmentSalaryDistribution {
+
+    private final String name;
+    private final SalaryDistribution total;
+    private final Map<String, SalaryDistribution> degrees;
+
+    public DepartmentSalaryDistribution(String name, SalaryDistribution total, Map<String, SalaryDistribution> degrees) {
+        this.name = name;
+        this.total = total;
+        this.degrees = degrees;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public SalaryDistribution getTotal() {
+        return total;
+    }
+
+    public Map<String, SalaryDistribution> getDegrees() {
+        return degrees;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof DepartmentSalaryDistribution)) return false;
+        DepartmentSalaryDistribution that = (DepartmentSalaryDistribution) o;
+        return name.equals(that.name) &&
+                total.equals(that.total) &&
+                degrees.equals(that.degrees);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, total, degrees);
+    }
+}
@@ -0,0 +1,66 @@
+package com.botscrew.university.domain;
+
+import java.util.Map;
+import java.util.Objects;
+
+public class DepartmentStatistic {
+
+    private final String name;
+    private final int quantityOfEmployee;
+    private final double averageSalary;
+    private final int minSalary;
+    private final int maxSalary;
+    private final Map<String, Integer> degreeStatistic;
+
+    public DepartmentStatistic(String name, int quantityOfEmployee, double averageSalary, int minSalary, int maxSalary,
+                               Map<String, Integer> degreeStatistic) {
+        this.name = name;
+        this.quantityOfEmployee = quantityOfEmployee;
+        this.averageSalary = averageSalary;
+        this.minSalary = minSalary;
+        this.maxSalary = maxSalary;
+        this.degreeStatistic = degreeStatistic;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getQuantityOfEmployee() {
+        return quantityOfEmployee;
+    }
+
+    public double getAverageSalary() {
+        return averageSalary;
+    }
+
+    public int getMinSalary() {
+        return minSalary;
+    }
+
+    public int getMaxSalary() {
+        return maxSalary;
+    }
+
+    public Map<String, Integer> getDegreeStatistic() {
+        return degreeStatistic;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof DepartmentStatistic)) return false;
+        DepartmentStatistic that = (DepartmentStatistic) o;
+        return quantityOfEmployee == that.quantityOfEmployee &&
+                Double.compare(that.averageSalary, averageSalary) == 0 &&
+                minSalary == that.minSalary &&
+                maxSalary == that.maxSalary &&
+                Objects.equals(name, that.name) &&
+                degreeStatistic.equals(that.degreeStatistic);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, quantityOfEmployee, averageSalary, minSalary, maxSalary, degreeStatistic);
+    }
+}
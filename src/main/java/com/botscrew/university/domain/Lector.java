@@ -25,6 +25,10 @@ public class Lector {
         this.id = id;
     }
 
+    public Lector(Lector lector) {
+        this(lector.id, lector.name, lector.surname, lector.degree, lector.salary);
+    }
+
     public int getId() {
         return id;
     }
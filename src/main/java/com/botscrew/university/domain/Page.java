@@ -0,0 +1,41 @@
+package com.botscrew.university.domain;
+
+import java.util.List;
+import java.util.Objects;
+
+public class Page<T> {
+
+    private final List<T> items;
+    private final String nextToken;
+
+    public Page(List<T> items, String nextToken) {
+        this.items = items;
+        this.nextToken = nextToken;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public String getNextToken() {
+        return nextToken;
+    }
+
+    public boolean hasNext() {
+        return nextToken != null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Page)) return false;
+        Page<?> page = (Page<?>) o;
+        return items.equals(page.items) &&
+                Objects.equals(nextToken, page.nextToken);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(items, nextToken);
+    }
+}
@@ -0,0 +1,93 @@
+package com.botscrew.university.domain;
+
+import java.util.Map;
+import java.util.Objects;
+
+public class SalaryDistribution {
+
+    private final int count;
+    private final double mean;
+    private final double standardDeviation;
+    private final int minSalary;
+    private final int maxSalary;
+    private final double median;
+    private final double p90;
+    private final double p99;
+    private final Map<Integer, Integer> bands;
+
+    public SalaryDistribution(int count, double mean, double standardDeviation, int minSalary, int maxSalary,
+                              double median, double p90, double p99, Map<Integer, Integer> bands) {
+        this.count = count;
+        this.mean = mean;
+        this.standardDeviation = standardDeviation;
+        this.minSalary = minSalary;
+        this.maxSalary = maxSalary;
+        this.median = median;
+        this.p90 = p90;
+        this.p99 = p99;
+        this.bands = bands;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public double getMean() {
+        return mean;
+    }
+
+    public double getStandardDeviation() {
+        return standardDeviation;
+    }
+
+    public int getMinSalary() {
+        return minSalary;
+    }
+
+    public int getMaxSalary() {
+        return maxSalary;
+    }
+
+    public double getMedian() {
+        return median;
+    }
+
+    public double getP90() {
+        return p90;
+    }
+
+    public double getP99() {
+        return p99;
+    }
+
+    public Map<Integer, Integer> getBands() {
+        return bands;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof SalaryDistribution)) return false;
+        SalaryDistribution that = (SalaryDistribution) o;
+        return count == that.count &&
+                Double.compare(that.mean, mean) == 0 &&
+                Double.compare(that.standardDeviation, standardDeviation) == 0 &&
+                minSalary == that.minSalary &&
+                maxSalary == that.maxSalary &&
+                Double.compare(that.median, median) == 0 &&
+                Double.compare(that.p90, p90) == 0 &&
+                Double.compare(that.p99, p99) == 0 &&
+                bands.equals(that.bands);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(count, mean, standardDeviation, minSalary, maxSalary, median, p90, p99, bands);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("count=%d mean=%.2f stddev=%.2f min=%d max=%d median=%.2f p90=%.2f p99=%.2f bands=%s",
+                count, mean, standardDeviation, minSalary, maxSalary, median, p90, p99, bands);
+    }
+}
@@ -0,0 +1,52 @@
+package com.botscrew.university.domain;
+
+import java.util.Objects;
+
+public class SearchHit {
+
+    private final String source;
+    private final int id;
+    private final String text;
+
+    public SearchHit(String source, int id, String text) {
+        this.source = source;
+        this.id = id;
+        this.text = text;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof SearchHit)) return false;
+        SearchHit searchHit = (SearchHit) o;
+        return id == searchHit.id &&
+                source.equals(searchHit.source) &&
+                Objects.equals(text, searchHit.text);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(source, id, text);
+    }
+
+    @Override
+    public String toString() {
+        return "SearchHit{" +
+                "source='" + source + '\'' +
+                ", id=" + id +
+                ", text='" + text + '\'' +
+                '}';
+    }
+}
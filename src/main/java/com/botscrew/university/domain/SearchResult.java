@@ -0,0 +1,30 @@
+package com.botscrew.university.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+public class SearchResult {
+
+    private final Map<String, Page<SearchHit>> pages;
+    private final boolean partial;
+
+    public SearchResult(Map<String, Page<SearchHit>> pages, boolean partial) {
+        this.pages = pages;
+        this.partial = partial;
+    }
+
+    public Map<String, Page<SearchHit>> getPages() {
+        return pages;
+    }
+
+    public List<SearchHit> getHits() {
+        List<SearchHit> hits = new ArrayList<>();
+        pages.values().forEach(page -> hits.addAll(page.getItems()));
+        return hits;
+    }
+
+    public boolean isPartial() {
+        return partial;
+    }
+}
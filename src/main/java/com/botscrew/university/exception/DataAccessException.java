@@ -0,0 +1,12 @@
+package com.botscrew.university.exception;
+
+public class DataAccessException extends RuntimeException {
+
+    public DataAccessException(String errorMessage) {
+        super(errorMessage);
+    }
+
+    public DataAccessException(String errorMessage, Throwable cause) {
+        super(errorMessage, cause);
+    }
+}
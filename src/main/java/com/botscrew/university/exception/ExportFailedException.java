@@ -0,0 +1,8 @@
+package com.botscrew.university.exception;
+
+public class ExportFailedException extends RuntimeException {
+
+    public ExportFailedException(String errorMessage, Throwable cause) {
+        super(errorMessage, cause);
+    }
+}
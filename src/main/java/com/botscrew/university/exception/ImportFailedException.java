@@ -0,0 +1,12 @@
+package com.botscrew.university.exception;
+
+public class ImportFailedException extends RuntimeException {
+
+    public ImportFailedException(String errorMessage) {
+        super(errorMessage);
+    }
+
+    public ImportFailedException(String errorMessage, Throwable cause) {
+        super(errorMessage, cause);
+    }
+}
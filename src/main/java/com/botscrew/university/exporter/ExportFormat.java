@@ -0,0 +1,145 @@
+package com.botscrew.university.exporter;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+
+public enum ExportFormat {
+
+    CSV {
+        @Override
+        void writeHeader(Writer writer, String[] labels) throws IOException {
+            for (int column = 1; column < labels.length; column++) {
+                if (column > 1) {
+                    writer.write(',');
+                }
+                writeCsvText(writer, labels[column]);
+            }
+            writer.write('\n');
+        }
+
+        @Override
+        void writeRow(Writer writer, ResultSet resultSet, String[] labels, boolean[] numeric) throws IOException, SQLException {
+            for (int column = 1; column < numeric.length; column++) {
+                if (column > 1) {
+                    writer.write(',');
+                }
+                String value = resultSet.getString(column);
+                if (value != null) {
+                    if (numeric[column]) {
+                        writer.write(value);
+                    } else {
+                        writeCsvText(writer, value);
+                    }
+                }
+            }
+            writer.write('\n');
+        }
+    },
+    NDJSON {
+        @Override
+        void writeHeader(Writer writer, String[] labels) {
+        }
+
+        @Override
+        void writeRow(Writer writer, ResultSet resultSet, String[] labels, boolean[] numeric) throws IOException, SQLException {
+            writer.write('{');
+            for (int column = 1; column < numeric.length; column++) {
+                if (column > 1) {
+                    writer.write(',');
+                }
+                writeJsonText(writer, labels[column]);
+                writer.write(':');
+                String value = resultSet.getString(column);
+                if (value == null) {
+                    writer.write("null");
+                } else if (numeric[column]) {
+                    writer.write(value);
+                } else {
+                    writeJsonText(writer, value);
+                }
+            }
+            writer.write("}\n");
+        }
+    };
+
+    abstract void writeHeader(Writer writer, String[] labels) throws IOException;
+
+    abstract void writeRow(Writer writer, ResultSet resultSet, String[] labels, boolean[] numeric) throws IOException, SQLException;
+
+    static String[] labels(ResultSetMetaData metaData) throws SQLException {
+        String[] labels = new String[metaData.getColumnCount() + 1];
+        for (int column = 1; column < labels.length; column++) {
+            labels[column] = metaData.getColumnLabel(column).toLowerCase();
+        }
+        return labels;
+    }
+
+    static boolean[] numericColumns(ResultSetMetaData metaData) throws SQLException {
+        boolean[] numeric = new boolean[metaData.getColumnCount() + 1];
+        for (int column = 1; column < numeric.length; column++) {
+            switch (metaData.getColumnType(column)) {
+                case Types.TINYINT:
+                case Types.SMALLINT:
+                case Types.INTEGER:
+                case Types.BIGINT:
+                case Types.REAL:
+                case Types.FLOAT:
+                case Types.DOUBLE:
+                case Types.NUMERIC:
+                case Types.DECIMAL:
+                    numeric[column] = true;
+                    break;
+                default:
+                    numeric[column] = false;
+            }
+        }
+        return numeric;
+    }
+
+    private static void writeCsvText(Writer writer, String value) throws IOException {
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+
+    private static void writeJsonText(Writer writer, String value) throws IOException {
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    writer.write("\\\"");
+                    break;
+                case '\\':
+                    writer.write("\\\\");
+                    break;
+                case '\n':
+                    writer.write("\\n");
+                    break;
+                case '\r':
+                    writer.write("\\r");
+                    break;
+                case '\t':
+                    writer.write("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        writer.write(String.format("\\u%04x", (int) c));
+                    } else {
+                        writer.write(c);
+                    }
+            }
+        }
+        writer.write('"');
+    }
+}
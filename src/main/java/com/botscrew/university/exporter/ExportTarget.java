@@ -0,0 +1,24 @@
+package com.botscrew.university.exporter;
+
+public enum ExportTarget {
+
+    LECTORS("SELECT lectors.id, lectors.name, lectors.surname, degrees.name AS degree, lectors.salary FROM lectors " +
+            "LEFT JOIN degrees ON lectors.degree_id = degrees.id ORDER BY lectors.id"),
+    DEPARTMENTS("SELECT id, name, head FROM departments ORDER BY id"),
+    DEPARTMENT_STATISTICS("SELECT departments.id, departments.name, departments.head, " +
+            "COUNT(lectors.id) AS quantity, AVG(CAST(lectors.salary AS DOUBLE PRECISION)) AS average_salary, " +
+            "MIN(lectors.salary) AS min_salary, MAX(lectors.salary) AS max_salary FROM departments " +
+            "LEFT JOIN departments_lectors ON departments.id = departments_lectors.department_id " +
+            "LEFT JOIN lectors ON departments_lectors.lector_id = lectors.id " +
+            "GROUP BY departments.id, departments.name, departments.head ORDER BY departments.id");
+
+    private final String sql;
+
+    ExportTarget(String sql) {
+        this.sql = sql;
+    }
+
+    String getSql() {
+        return sql;
+    }
+}
@@ -0,0 +1,103 @@
+package com.botscrew.university.exporter;
+
+import com.botscrew.university.exception.ExportFailedException;
+import com.botscrew.university.utils.ConnectionProvider;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.zip.GZIPOutputStream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+public class TableExporter {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final ConnectionProvider connectionProvider;
+
+    public TableExporter(ConnectionProvider connectionProvider) {
+        this.connectionProvider = connectionProvider;
+    }
+
+    public long export(ExportTarget target, ExportFormat format, Path file) {
+        boolean gzip = file.getFileName().toString().endsWith(".gz");
+        Path temporaryFile = file.resolveSibling(file.getFileName() + ".tmp");
+        long rows;
+        try (FileChannel channel = FileChannel.open(temporaryFile, CREATE, TRUNCATE_EXISTING, WRITE)) {
+            OutputStream output = new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE);
+            GZIPOutputStream gzipOutput = gzip ? new GZIPOutputStream(output, BUFFER_SIZE) : null;
+            Writer writer = new BufferedWriter(new OutputStreamWriter(gzip ? gzipOutput : output, UTF_8), BUFFER_SIZE);
+            rows = export(target, format, writer);
+            writer.flush();
+            if (gzipOutput != null) {
+                gzipOutput.finish();
+            }
+            output.flush();
+            channel.force(false);
+            writer.close();
+        } catch (IOException e) {
+            deleteQuietly(temporaryFile);
+            throw new ExportFailedException("Failed to write " + file, e);
+        } catch (RuntimeException e) {
+            deleteQuietly(temporaryFile);
+            throw e;
+        }
+        try {
+            Files.move(temporaryFile, file, ATOMIC_MOVE, REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new ExportFailedException("Failed to move export to " + file, e);
+        }
+        return rows;
+    }
+
+    public long export(ExportTarget target, ExportFormat format, Writer writer) throws IOException {
+        try (Connection connection = connectionProvider.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try (PreparedStatement statement = connection.prepareStatement(target.getSql())) {
+                statement.setFetchSize(connectionProvider.getIntProperty("stream.fetchSize", 1000));
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    String[] labels = ExportFormat.labels(resultSet.getMetaData());
+                    boolean[] numeric = ExportFormat.numericColumns(resultSet.getMetaData());
+                    format.writeHeader(writer, labels);
+                    long rows = 0;
+                    while (resultSet.next()) {
+                        format.writeRow(writer, resultSet, labels, numeric);
+                        rows++;
+                    }
+                    return rows;
+                }
+            } finally {
+                connection.commit();
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            throw new ExportFailedException("Failed to export " + target, e);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+}
@@ -0,0 +1,261 @@
+package com.botscrew.university.http;
+
+import com.botscrew.university.exception.DepartmentDoesNotExistException;
+import com.botscrew.university.exception.EntityNotFoundException;
+import com.botscrew.university.metrics.MetricsRegistry;
+import com.botscrew.university.metrics.QueryMetrics;
+import com.botscrew.university.service.DepartmentService;
+import com.botscrew.university.service.LectorService;
+import com.botscrew.university.service.SearchCoordinator;
+import com.botscrew.university.utils.Json;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+import java.util.zip.GZIPOutputStream;
+
+import static com.botscrew.university.utils.JsonViews.lector;
+import static com.botscrew.university.utils.JsonViews.searchResult;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+public class QueryServer implements AutoCloseable {
+
+    private static final String METRICS_PREFIX = "http.";
+    private static final String DEPARTMENTS_PATH = "/departments/";
+    private static final int COMPRESSION_THRESHOLD_BYTES = 1024;
+    private static final int MAX_SEARCH_LIMIT = 1000;
+
+    private final DepartmentService departmentService;
+    private final LectorService lectorService;
+    private final SearchCoordinator searchCoordinator;
+    private final MetricsRegistry metricsRegistry;
+    private final int defaultSearchLimit;
+    private final ExecutorService executor;
+    private final HttpServer server;
+
+    public QueryServer(DepartmentService departmentService, LectorService lectorService,
+                       SearchCoordinator searchCoordinator, MetricsRegistry metricsRegistry, int defaultSearchLimit,
+                       InetSocketAddress address, int backlog, ExecutorService executor) throws IOException {
+        this.departmentService = departmentService;
+        this.lectorService = lectorService;
+        this.searchCoordinator = searchCoordinator;
+        this.metricsRegistry = metricsRegistry;
+        this.defaultSearchLimit = defaultSearchLimit;
+        this.executor = executor;
+        server = HttpServer.create(address, backlog);
+        server.createContext(DEPARTMENTS_PATH,
+                exchange -> dispatch(new Request(exchange, "department"), this::department));
+        server.createContext("/search", exchange -> dispatch(new Request(exchange, "search"), this::search));
+        server.createContext("/metrics", exchange -> dispatch(new Request(exchange, "metrics"), request -> metrics()));
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void dispatch(Request request, Function<Request, Object> handler) throws IOException {
+        try {
+            executor.execute(() -> {
+                try {
+                    handle(request, handler);
+                } catch (IOException e) {
+                    e.printStackTrace();
+                    request.exchange.close();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            respond(request, System.nanoTime(), 503, error("Server is busy, retry later"));
+        }
+    }
+
+    private void handle(Request request, Function<Request, Object> handler) throws IOException {
+        long start = System.nanoTime();
+        HttpExchange exchange = request.exchange;
+        int status;
+        Object body;
+        try (InputStream requestBody = exchange.getRequestBody()) {
+            drain(requestBody);
+            if (!exchange.getRequestMethod().equals("GET")) {
+                exchange.getResponseHeaders().set("Allow", "GET");
+                status = 405;
+                body = error("Method " + exchange.getRequestMethod() + " is not allowed");
+            } else {
+                body = handler.apply(request);
+                status = 200;
+            }
+        } catch (EntityNotFoundException | DepartmentDoesNotExistException e) {
+            status = 404;
+            body = error(e.getMessage());
+        } catch (IllegalArgumentException e) {
+            status = 400;
+            body = error(e.getMessage());
+        } catch (RuntimeException e) {
+            e.printStackTrace();
+            status = 500;
+            body = error(e.getClass().getSimpleName() + ": " + e.getMessage());
+        }
+        respond(request, start, status, body);
+    }
+
+    private void respond(Request request, long start, int status, Object body) throws IOException {
+        byte[] json = Json.toJson(body).getBytes(UTF_8);
+        if (metricsRegistry != null) {
+            metricsRegistry.record(METRICS_PREFIX + request.endpoint, System.nanoTime() - start, status >= 500);
+        }
+        send(request.exchange, status, json);
+    }
+
+    private Object department(Request request) {
+        String path = request.exchange.getRequestURI().getPath().substring(DEPARTMENTS_PATH.length());
+        int separator = path.lastIndexOf('/');
+        if (separator <= 0) {
+            throw new IllegalArgumentException("Expected /departments/{name}/{head|statistics|average-salary|employee-count}");
+        }
+        String name = path.substring(0, separator);
+        String resource = path.substring(separator + 1);
+        switch (resource) {
+            case "head":
+                request.endpoint = "head";
+                return lector(lectorService.getHeadOfDepartment(name));
+            case "statistics":
+                request.endpoint = "statistics";
+                return departmentService.getDegreeStatisticByName(name);
+            case "average-salary":
+                request.endpoint = "averageSalary";
+                return departmentService.getAverageSalaryByName(name);
+            case "employee-count":
+                request.endpoint = "employeeCount";
+                return departmentService.getQuantityOfEmployeeByName(name);
+            default:
+                throw new IllegalArgumentException("Unknown department resource " + resource);
+        }
+    }
+
+    private Object search(Request request) {
+        Map<String, String> parameters = parameters(request.exchange.getRequestURI().getRawQuery());
+        String line = parameters.get("q");
+        if (line == null || line.isEmpty()) {
+            throw new IllegalArgumentException("Query parameter q is required");
+        }
+        int limit = parameters.containsKey("limit") ? parseLimit(parameters.get("limit")) : defaultSearchLimit;
+        return searchResult(searchCoordinator.search(line, limit));
+    }
+
+    private Map<String, Object> metrics() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        if (metricsRegistry == null) {
+            return result;
+        }
+        for (QueryMetrics metrics : metricsRegistry.getQueryMetrics().values()) {
+            if (!metrics.getName().startsWith(METRICS_PREFIX)) {
+                continue;
+            }
+            Map<String, Object> endpoint = new LinkedHashMap<>();
+            endpoint.put("calls", metrics.getCalls());
+            endpoint.put("errors", metrics.getErrors());
+            endpoint.put("meanMicros", metrics.getMeanMicros());
+            endpoint.put("p50Micros", metrics.getP50Micros());
+            endpoint.put("p99Micros", metrics.getP99Micros());
+            endpoint.put("maxMicros", metrics.getMaxMicros());
+            result.put(metrics.getName().substring(METRICS_PREFIX.length()), endpoint);
+        }
+        return result;
+    }
+
+    private static void send(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.getResponseHeaders().set("Vary", "Accept-Encoding");
+        String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+        if (body.length >= COMPRESSION_THRESHOLD_BYTES && acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(body.length / 4);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+                gzip.write(body);
+            }
+            body = compressed.toByteArray();
+            exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+        }
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream responseBody = exchange.getResponseBody()) {
+            responseBody.write(body);
+        }
+    }
+
+    private static void drain(InputStream requestBody) throws IOException {
+        byte[] buffer = new byte[256];
+        while (requestBody.read(buffer) >= 0) {
+            // discard the body so the connection can be reused
+        }
+    }
+
+    private static Map<String, String> parameters(String rawQuery) {
+        Map<String, String> parameters = new LinkedHashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return parameters;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int separator = pair.indexOf('=');
+            String key = separator < 0 ? pair : pair.substring(0, separator);
+            String value = separator < 0 ? "" : pair.substring(separator + 1);
+            parameters.put(decode(key), decode(value));
+        }
+        return parameters;
+    }
+
+    private static String decode(String value) {
+        try {
+            return URLDecoder.decode(value, UTF_8.name());
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static int parseLimit(String value) {
+        try {
+            int limit = Integer.parseInt(value);
+            if (limit < 1 || limit > MAX_SEARCH_LIMIT) {
+                throw new IllegalArgumentException("Limit must be between 1 and " + MAX_SEARCH_LIMIT);
+            }
+            return limit;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid limit " + value);
+        }
+    }
+
+    private static Map<String, Object> error(String message) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("error", message);
+        return result;
+    }
+
+    private static final class Request {
+
+        private final HttpExchange exchange;
+        private String endpoint;
+
+        private Request(HttpExchange exchange, String endpoint) {
+            this.exchange = exchange;
+            this.endpoint = endpoint;
+        }
+    }
+}
@@ -0,0 +1,338 @@
+package com.botscrew.university.importer;
+
+import com.botscrew.university.dao.DegreeDictionary;
+import com.botscrew.university.exception.ImportFailedException;
+import com.botscrew.university.utils.ConnectionProvider;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static java.sql.Statement.RETURN_GENERATED_KEYS;
+
+public class BulkImporter {
+
+    private static final String POSTGRESQL = "PostgreSQL";
+    private static final String ALLOCATE_IDS_SQL = "SELECT nextval(pg_get_serial_sequence(?, 'id')) " +
+            "FROM generate_series(1, ?)";
+
+    @FunctionalInterface
+    public interface ProgressListener {
+
+        void progress(String table, long rows);
+    }
+
+    @FunctionalInterface
+    private interface RowConverter {
+
+        Object[] convert(Connection connection, String[] record, int[] positions, long line) throws SQLException;
+    }
+
+    private final ConnectionProvider connectionProvider;
+    private final int commitInterval;
+    private final ProgressListener progressListener;
+    private final DegreeDictionary degreeDictionary;
+
+    public BulkImporter(ConnectionProvider connectionProvider, DegreeDictionary degreeDictionary, int commitInterval,
+                        ProgressListener progressListener) {
+        if (commitInterval < 1) {
+            throw new IllegalArgumentException("Commit interval must be positive, got " + commitInterval);
+        }
+        this.connectionProvider = connectionProvider;
+        this.commitInterval = commitInterval;
+        this.progressListener = progressListener;
+        this.degreeDictionary = degreeDictionary;
+    }
+
+    public ImportSummary importAll(Reader lectors, Reader departments, Reader assignments) {
+        long start = System.currentTimeMillis();
+        Map<String, Integer> lectorIds = new HashMap<>();
+        Map<String, Integer> departmentIds = new HashMap<>();
+        Map<String, Integer> degreeIds = new HashMap<>();
+        Table lectorTable = new Table("lectors", new String[]{"name", "surname", "degree_id", "salary"},
+                new int[]{Types.VARCHAR, Types.VARCHAR, Types.SMALLINT, Types.INTEGER},
+                new String[]{"key", "name", "surname", "degree", "salary"}, 0,
+                (connection, record, positions, line) -> new Object[]{record[positions[1]], record[positions[2]],
+                        degreeId(connection, degreeIds, record[positions[3]]),
+                        parseInt(record[positions[4]], "salary", line)});
+        Table departmentTable = new Table("departments", new String[]{"name", "head"},
+                new int[]{Types.VARCHAR, Types.INTEGER},
+                new String[]{"name", "head"}, 0,
+                (connection, record, positions, line) -> new Object[]{record[positions[0]],
+                        record[positions[1]].isEmpty() ? null : resolve(lectorIds, record[positions[1]], "lector", line)});
+        Table assignmentTable = new Table("departments_lectors", new String[]{"department_id", "lector_id"},
+                new int[]{Types.INTEGER, Types.INTEGER},
+                new String[]{"department", "lector"}, -1,
+                (connection, record, positions, line) -> new Object[]{
+                        resolve(departmentIds, record[positions[0]], "department", line),
+                        resolve(lectorIds, record[positions[1]], "lector", line)});
+        try (Connection connection = connectionProvider.getConnection();
+             CsvReader lectorReader = new CsvReader(lectors);
+             CsvReader departmentReader = new CsvReader(departments);
+             CsvReader assignmentReader = new CsvReader(assignments)) {
+            boolean postgres = POSTGRESQL.equals(connection.getMetaData().getDatabaseProductName());
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                long lectorRows = importTable(connection, postgres, lectorReader, lectorTable, lectorIds);
+                long departmentRows = importTable(connection, postgres, departmentReader, departmentTable, departmentIds);
+                long assignmentRows = importTable(connection, postgres, assignmentReader, assignmentTable, null);
+                return new ImportSummary(lectorRows, departmentRows, assignmentRows, System.currentTimeMillis() - start);
+            } catch (SQLException | IOException | RuntimeException e) {
+                connection.rollback();
+                throw new ImportFailedException(String.format("Import failed after committing %d lectors, " +
+                                "%d departments and %d assignments: %s", lectorTable.committed,
+                        departmentTable.committed, assignmentTable.committed, e.getMessage()), e);
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException | IOException e) {
+            throw new ImportFailedException("Import failed: " + e.getMessage(), e);
+        }
+    }
+
+    private long importTable(Connection connection, boolean postgres, CsvReader reader, Table table,
+                             Map<String, Integer> ids) throws SQLException, IOException {
+        String[] header = reader.next();
+        if (header == null) {
+            return 0;
+        }
+        int[] positions = positions(header, table);
+        List<Object[]> rows = new ArrayList<>(Math.min(commitInterval, 1 << 16));
+        List<String> keys = new ArrayList<>(Math.min(commitInterval, 1 << 16));
+        Set<String> chunkKeys = new HashSet<>();
+        long total = 0;
+        String[] record;
+        while ((record = reader.next()) != null) {
+            if (record.length == 1 && record[0].isEmpty()) {
+                continue;
+            }
+            if (record.length < header.length) {
+                throw new ImportFailedException(String.format("Expected %d columns in %s at line %d, got %d",
+                        header.length, table.name, reader.getLineNumber(), record.length));
+            }
+            rows.add(table.rowConverter.convert(connection, record, positions, reader.getLineNumber()));
+            if (table.keyColumn >= 0) {
+                String key = record[positions[table.keyColumn]];
+                if (ids.containsKey(key) || !chunkKeys.add(key)) {
+                    throw new ImportFailedException(String.format("Duplicate key '%s' in %s at line %d",
+                            key, table.name, reader.getLineNumber()));
+                }
+                keys.add(key);
+            }
+            if (rows.size() == commitInterval) {
+                total += flush(connection, postgres, table, rows, keys, ids);
+                chunkKeys.clear();
+                progressListener.progress(table.name, total);
+            }
+        }
+        if (!rows.isEmpty()) {
+            total += flush(connection, postgres, table, rows, keys, ids);
+            progressListener.progress(table.name, total);
+        }
+        return total;
+    }
+
+    private int flush(Connection connection, boolean postgres, Table table, List<Object[]> rows, List<String> keys,
+                      Map<String, Integer> ids) throws SQLException {
+        int[] generatedIds;
+        if (postgres) {
+            generatedIds = table.keyColumn >= 0 ? allocateIds(connection, table.name, rows.size()) : null;
+            copy(connection, table, rows, generatedIds);
+        } else {
+            generatedIds = insert(connection, table, rows);
+        }
+        connection.commit();
+        table.committed += rows.size();
+        for (int i = 0; i < keys.size(); i++) {
+            ids.put(keys.get(i), generatedIds[i]);
+        }
+        int flushed = rows.size();
+        rows.clear();
+        keys.clear();
+        return flushed;
+    }
+
+    private int[] allocateIds(Connection connection, String table, int count) throws SQLException {
+        int[] ids = new int[count];
+        try (PreparedStatement statement = connection.prepareStatement(ALLOCATE_IDS_SQL)) {
+            statement.setString(1, table);
+            statement.setInt(2, count);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                int i = 0;
+                while (resultSet.next()) {
+                    ids[i++] = resultSet.getInt(1);
+                }
+            }
+        }
+        return ids;
+    }
+
+    private void copy(Connection connection, Table table, List<Object[]> rows, int[] ids) throws SQLException {
+        String columns = (ids != null ? "id, " : "") + String.join(", ", table.columns);
+        PGCopyOutputStream copyStream = new PGCopyOutputStream(connection.unwrap(PGConnection.class),
+                "COPY " + table.name + " (" + columns + ") FROM STDIN WITH (FORMAT csv)");
+        try {
+            Writer csv = new BufferedWriter(new OutputStreamWriter(copyStream, StandardCharsets.UTF_8));
+            for (int i = 0; i < rows.size(); i++) {
+                if (ids != null) {
+                    csv.write(Integer.toString(ids[i]));
+                    csv.write(',');
+                }
+                Object[] row = rows.get(i);
+                for (int column = 0; column < row.length; column++) {
+                    if (column > 0) {
+                        csv.write(',');
+                    }
+                    writeCsvValue(csv, row[column]);
+                }
+                csv.write('\n');
+            }
+            csv.close();
+        } catch (IOException e) {
+            if (copyStream.isActive()) {
+                copyStream.cancelCopy();
+            }
+            throw new SQLException("Failed to stream rows into " + table.name, e);
+        }
+    }
+
+    private int[] insert(Connection connection, Table table, List<Object[]> rows) throws SQLException {
+        boolean generatesIds = table.keyColumn >= 0;
+        try (PreparedStatement statement = generatesIds
+                ? connection.prepareStatement(table.insertSql, RETURN_GENERATED_KEYS)
+                : connection.prepareStatement(table.insertSql)) {
+            for (Object[] row : rows) {
+                for (int column = 0; column < row.length; column++) {
+                    if (row[column] == null) {
+                        statement.setNull(column + 1, table.sqlTypes[column]);
+                    } else {
+                        statement.setObject(column + 1, row[column], table.sqlTypes[column]);
+                    }
+                }
+                statement.addBatch();
+            }
+            statement.executeBatch();
+            if (!generatesIds) {
+                return null;
+            }
+            int[] ids = new int[rows.size()];
+            try (ResultSet generatedKeys = statement.getGeneratedKeys()) {
+                int i = 0;
+                while (generatedKeys.next() && i < ids.length) {
+                    ids[i++] = generatedKeys.getInt(1);
+                }
+                if (i != ids.length) {
+                    throw new SQLException(String.format("Expected %d generated keys for %s, got %d",
+                            ids.length, table.name, i));
+                }
+            }
+            return ids;
+        }
+    }
+
+    private static int[] positions(String[] header, Table table) {
+        List<String> columns = Arrays.asList(header);
+        int[] positions = new int[table.headerColumns.length];
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = columns.indexOf(table.headerColumns[i]);
+            if (positions[i] < 0) {
+                throw new ImportFailedException(String.format("Missing column '%s' in %s header %s",
+                        table.headerColumns[i], table.name, columns));
+            }
+        }
+        return positions;
+    }
+
+    private static void writeCsvValue(Writer csv, Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (value instanceof Number) {
+            csv.write(value.toString());
+            return;
+        }
+        String text = value.toString();
+        csv.write('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"') {
+                csv.write('"');
+            }
+            csv.write(c);
+        }
+        csv.write('"');
+    }
+
+    private static int parseInt(String value, String column, long line) {
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new ImportFailedException(String.format("Invalid %s '%s' at line %d", column, value, line));
+        }
+    }
+
+    private Integer degreeId(Connection connection, Map<String, Integer> degreeIds, String degree)
+            throws SQLException {
+        if (degree.isEmpty()) {
+            return null;
+        }
+        Integer id = degreeIds.get(degree);
+        if (id == null) {
+            id = degreeDictionary.idOf(connection, degree);
+            degreeIds.put(degree, id);
+        }
+        return id;
+    }
+
+    private static Integer resolve(Map<String, Integer> ids, String key, String entity, long line) {
+        Integer id = ids.get(key);
+        if (id == null) {
+            throw new ImportFailedException(String.format("Unknown %s '%s' at line %d", entity, key, line));
+        }
+        return id;
+    }
+
+    private static final class Table {
+
+        private final String name;
+        private final String[] columns;
+        private final int[] sqlTypes;
+        private final String[] headerColumns;
+        private final int keyColumn;
+        private final RowConverter rowConverter;
+        private final String insertSql;
+        private long committed;
+
+        private Table(String name, String[] columns, int[] sqlTypes, String[] headerColumns, int keyColumn,
+                      RowConverter rowConverter) {
+            this.name = name;
+            this.columns = columns;
+            this.sqlTypes = sqlTypes;
+            this.headerColumns = headerColumns;
+            this.keyColumn = keyColumn;
+            this.rowConverter = rowConverter;
+            String[] parameters = new String[columns.length];
+            Arrays.fill(parameters, "?");
+            insertSql = "INSERT INTO " + name + " (" + String.join(", ", columns) + ") VALUES ("
+                    + String.join(", ", parameters) + ")";
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.botscrew.university.importer;
+
+public class ImportSummary {
+
+    private final long lectors;
+    private final long departments;
+    private final long assignments;
+    private final long elapsedMillis;
+
+    public ImportSummary(long lectors, long departments, long assignments, long elapsedMillis) {
+        this.lectors = lectors;
+        this.departments = departments;
+        this.assignments = assignments;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public long getLectors() {
+        return lectors;
+    }
+
+    public long getDepartments() {
+        return departments;
+    }
+
+    public long getAssignments() {
+        return assignments;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public double getRowsPerSecond() {
+        return elapsedMillis == 0 ? 0 : (lectors + departments + assignments) * 1000.0 / elapsedMillis;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Imported %d lectors, %d departments and %d assignments in %d ms (%.0f rows/s)",
+                lectors, departments, assignments, elapsedMillis, getRowsPerSecond());
+    }
+}
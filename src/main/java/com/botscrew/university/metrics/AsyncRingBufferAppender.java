@@ -0,0 +1,82 @@
+package com.botscrew.university.metrics;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import static java.lang.System.lineSeparator;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+public class AsyncRingBufferAppender<T> implements AutoCloseable {
+
+    private static final int DRAIN_BATCH_SIZE = 256;
+    private static final long POLL_TIMEOUT_MILLIS = 100;
+
+    private final BlockingQueue<T> buffer;
+    private final Function<T, String> formatter;
+    private final Writer writer;
+    private final LongAdder dropped = new LongAdder();
+    private final Thread consumer;
+    private volatile boolean closed;
+
+    public AsyncRingBufferAppender(int capacity, Function<T, String> formatter, Writer writer) {
+        buffer = new ArrayBlockingQueue<>(capacity);
+        this.formatter = formatter;
+        this.writer = writer;
+        consumer = new Thread(this::consume, "slow-query-log");
+        consumer.setDaemon(true);
+        consumer.start();
+    }
+
+    public void append(T event) {
+        while (!buffer.offer(event)) {
+            if (buffer.poll() != null) {
+                dropped.increment();
+            }
+        }
+    }
+
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        try {
+            consumer.join(POLL_TIMEOUT_MILLIS * 10);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void consume() {
+        List<T> batch = new ArrayList<>(DRAIN_BATCH_SIZE);
+        while (!closed || !buffer.isEmpty()) {
+            try {
+                T first = buffer.poll(POLL_TIMEOUT_MILLIS, MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                buffer.drainTo(batch, DRAIN_BATCH_SIZE - 1);
+                for (T event : batch) {
+                    writer.write(formatter.apply(event));
+                    writer.write(lineSeparator());
+                }
+                writer.flush();
+            } catch (InterruptedException e) {
+                return;
+            } catch (IOException | RuntimeException e) {
+                e.printStackTrace();
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+}
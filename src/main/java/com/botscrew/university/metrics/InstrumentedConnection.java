@@ -0,0 +1,173 @@
+package com.botscrew.university.metrics;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Arrays;
+
+public final class InstrumentedConnection implements InvocationHandler {
+
+    private static final int INITIAL_PARAMETER_CAPACITY = 8;
+
+    private final Connection connection;
+    private final SqlNames sqlNames;
+    private final SlowQueryLog slowQueryLog;
+
+    private InstrumentedConnection(Connection connection, SqlNames sqlNames, SlowQueryLog slowQueryLog) {
+        this.connection = connection;
+        this.sqlNames = sqlNames;
+        this.slowQueryLog = slowQueryLog;
+    }
+
+    public static Connection wrap(Connection connection, SqlNames sqlNames, SlowQueryLog slowQueryLog) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                new InstrumentedConnection(connection, sqlNames, slowQueryLog));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        Object result = invokeTarget(connection, method, args);
+        if (result instanceof PreparedStatement && method.getName().equals("prepareStatement")) {
+            String sql = (String) args[0];
+            return Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class},
+                    new InstrumentedStatement((Statement) result, sql, sqlNames.nameOf(sql)));
+        }
+        if (result instanceof Statement && method.getName().equals("createStatement")) {
+            return Proxy.newProxyInstance(Statement.class.getClassLoader(), new Class<?>[]{Statement.class},
+                    new InstrumentedStatement((Statement) result, null, null));
+        }
+        return result;
+    }
+
+    private static Object invokeTarget(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private final class InstrumentedStatement implements InvocationHandler {
+
+        private final Statement statement;
+        private final String preparedSql;
+        private final String preparedName;
+        private Object[] parameters;
+        private int parameterCount;
+
+        private InstrumentedStatement(Statement statement, String preparedSql, String preparedName) {
+            this.statement = statement;
+            this.preparedSql = preparedSql;
+            this.preparedName = preparedName;
+            parameters = new Object[INITIAL_PARAMETER_CAPACITY];
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String methodName = method.getName();
+            if (!methodName.startsWith("execute")) {
+                captureParameter(methodName, args);
+                return invokeTarget(statement, method, args);
+            }
+            String sql = preparedSql;
+            String name = preparedName;
+            if (sql == null) {
+                if (args == null || !(args[0] instanceof String)) {
+                    return invokeTarget(statement, method, args);
+                }
+                sql = (String) args[0];
+                name = sqlNames.nameOf(sql);
+            }
+            long start = System.nanoTime();
+            Object result;
+            try {
+                result = invokeTarget(statement, method, args);
+            } catch (Throwable e) {
+                slowQueryLog.record(name, sql, parameters, parameterCount, -1, System.nanoTime() - start);
+                throw e;
+            }
+            if (result instanceof ResultSet) {
+                return Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[]{ResultSet.class},
+                        new CountingResultSet((ResultSet) result, this, name, sql, start));
+            }
+            long rows = 0;
+            if (result instanceof Integer) {
+                rows = Math.max((Integer) result, 0);
+            } else if (result instanceof int[]) {
+                for (int count : (int[]) result) {
+                    rows += Math.max(count, 0);
+                }
+            }
+            slowQueryLog.record(name, sql, parameters, parameterCount, rows, System.nanoTime() - start);
+            return result;
+        }
+
+        private void captureParameter(String methodName, Object[] args) {
+            if (methodName.equals("clearParameters")) {
+                Arrays.fill(parameters, 0, parameterCount, null);
+                parameterCount = 0;
+                return;
+            }
+            if (!methodName.startsWith("set") || args == null || args.length < 2 || !(args[0] instanceof Integer)) {
+                return;
+            }
+            int index = (Integer) args[0];
+            if (index < 1) {
+                return;
+            }
+            if (index > parameters.length) {
+                parameters = Arrays.copyOf(parameters, Math.max(index, parameters.length * 2));
+            }
+            parameters[index - 1] = methodName.equals("setNull") ? null : args[1];
+            parameterCount = Math.max(parameterCount, index);
+        }
+    }
+
+    private final class CountingResultSet implements InvocationHandler {
+
+        private final ResultSet resultSet;
+        private final InstrumentedStatement statement;
+        private final String name;
+        private final String sql;
+        private final long start;
+        private long rows;
+        private boolean recorded;
+
+        private CountingResultSet(ResultSet resultSet, InstrumentedStatement statement, String name, String sql,
+                                  long start) {
+            this.resultSet = resultSet;
+            this.statement = statement;
+            this.name = name;
+            this.sql = sql;
+            this.start = start;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = invokeTarget(resultSet, method, args);
+            switch (method.getName()) {
+                case "next":
+                    if ((Boolean) result) {
+                        rows++;
+                    }
+                    break;
+                case "close":
+                    if (!recorded) {
+                        recorded = true;
+                        slowQueryLog.record(name, sql, statement.parameters, statement.parameterCount, rows,
+                                System.nanoTime() - start);
+                    }
+                    break;
+                default:
+                    break;
+            }
+            return result;
+        }
+    }
+}
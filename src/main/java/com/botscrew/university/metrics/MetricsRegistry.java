@@ -0,0 +1,104 @@
+package com.botscrew.university.metrics;
+
+import com.botscrew.university.utils.PoolStatistics;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+import static java.lang.System.lineSeparator;
+
+public class MetricsRegistry implements AutoCloseable {
+
+    private static final String DOMAIN = "com.botscrew.university";
+
+    private final boolean jmxEnabled;
+    private final ConcurrentMap<String, QueryMetrics> queryMetrics = new ConcurrentHashMap<>();
+    private final List<ObjectName> registeredNames = new ArrayList<>();
+    private final PoolMetrics poolMetrics;
+
+    public MetricsRegistry(Supplier<Optional<PoolStatistics>> poolStatistics, boolean jmxEnabled) {
+        this.jmxEnabled = jmxEnabled;
+        poolMetrics = new PoolMetrics(poolStatistics);
+        register("type=ConnectionPool", poolMetrics);
+    }
+
+    public void recordAcquire(long nanos) {
+        poolMetrics.recordAcquire(nanos);
+    }
+
+    public void record(String name, long nanos, boolean failed) {
+        forName(name).recordLatency(nanos, failed);
+    }
+
+    public QueryMetrics forName(String name) {
+        QueryMetrics metrics = queryMetrics.get(name);
+        return metrics != null ? metrics : queryMetrics.computeIfAbsent(name, this::newQueryMetrics);
+    }
+
+    public Map<String, QueryMetrics> getQueryMetrics() {
+        return new TreeMap<>(queryMetrics);
+    }
+
+    public PoolMetrics getPoolMetrics() {
+        return poolMetrics;
+    }
+
+    public String summary() {
+        StringBuilder summary = new StringBuilder("Query metrics:").append(lineSeparator());
+        getQueryMetrics().values().forEach(metrics -> summary.append(metrics).append(lineSeparator()));
+        return summary.append(poolMetrics).toString();
+    }
+
+    @Override
+    public void close() {
+        if (!jmxEnabled) {
+            return;
+        }
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        synchronized (registeredNames) {
+            for (ObjectName name : registeredNames) {
+                try {
+                    server.unregisterMBean(name);
+                } catch (JMException e) {
+                    e.printStackTrace();
+                }
+            }
+            registeredNames.clear();
+        }
+    }
+
+    private QueryMetrics newQueryMetrics(String name) {
+        QueryMetrics metrics = new QueryMetrics(name);
+        register("type=Query,name=" + ObjectName.quote(name), metrics);
+        return metrics;
+    }
+
+    private void register(String properties, Object mbean) {
+        if (!jmxEnabled) {
+            return;
+        }
+        try {
+            ObjectName name = new ObjectName(DOMAIN + ":" + properties);
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            synchronized (registeredNames) {
+                if (server.isRegistered(name)) {
+                    server.unregisterMBean(name);
+                }
+                server.registerMBean(mbean, name);
+                registeredNames.add(name);
+            }
+        } catch (JMException e) {
+            e.printStackTrace();
+        }
+    }
+}
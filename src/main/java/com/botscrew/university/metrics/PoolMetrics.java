@@ -0,0 +1,82 @@
+package com.botscrew.university.metrics;
+
+import com.botscrew.university.utils.PoolStatistics;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+public class PoolMetrics implements PoolMetricsMXBean {
+
+    private final LatencyHistogram acquireLatency = new LatencyHistogram();
+    private final Supplier<Optional<PoolStatistics>> poolStatistics;
+
+    PoolMetrics(Supplier<Optional<PoolStatistics>> poolStatistics) {
+        this.poolStatistics = poolStatistics;
+    }
+
+    void recordAcquire(long nanos) {
+        acquireLatency.record(nanos);
+    }
+
+    @Override
+    public long getAcquired() {
+        return acquireLatency.getCount();
+    }
+
+    @Override
+    public double getAcquireP50Micros() {
+        return acquireLatency.getPercentileNanos(50) / 1000.0;
+    }
+
+    @Override
+    public double getAcquireP99Micros() {
+        return acquireLatency.getPercentileNanos(99) / 1000.0;
+    }
+
+    @Override
+    public double getAcquireMaxMicros() {
+        return acquireLatency.getMaxNanos() / 1000.0;
+    }
+
+    @Override
+    public int getActive() {
+        return poolStatistics.get().map(PoolStatistics::getActive).orElse(0);
+    }
+
+    @Override
+    public int getIdle() {
+        return poolStatistics.get().map(PoolStatistics::getIdle).orElse(0);
+    }
+
+    @Override
+    public int getWaiters() {
+        return poolStatistics.get().map(PoolStatistics::getWaiters).orElse(0);
+    }
+
+    @Override
+    public long getTimeouts() {
+        return poolStatistics.get().map(PoolStatistics::getTimeouts).orElse(0L);
+    }
+
+    @Override
+    public long getLeaks() {
+        return poolStatistics.get().map(PoolStatistics::getLeaks).orElse(0L);
+    }
+
+    @Override
+    public long getStatementCacheHits() {
+        return poolStatistics.get().map(PoolStatistics::getStatementCacheHits).orElse(0L);
+    }
+
+    @Override
+    public long getStatementCacheMisses() {
+        return poolStatistics.get().map(PoolStatistics::getStatementCacheMisses).orElse(0L);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%-45s acquired=%d p50=%.1fus p99=%.1fus max=%.1fus",
+                "connection.acquire", getAcquired(), getAcquireP50Micros(), getAcquireP99Micros(),
+                getAcquireMaxMicros()) + poolStatistics.get().map(statistics -> " " + statistics).orElse("");
+    }
+}
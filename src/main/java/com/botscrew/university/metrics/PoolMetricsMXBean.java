@@ -0,0 +1,26 @@
+package com.botscrew.university.metrics;
+
+public interface PoolMetricsMXBean {
+
+    long getAcquired();
+
+    double getAcquireP50Micros();
+
+    double getAcquireP99Micros();
+
+    double getAcquireMaxMicros();
+
+    int getActive();
+
+    int getIdle();
+
+    int getWaiters();
+
+    long getTimeouts();
+
+    long getLeaks();
+
+    long getStatementCacheHits();
+
+    long getStatementCacheMisses();
+}
@@ -0,0 +1,89 @@
+package com.botscrew.university.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public class QueryMetrics implements QueryMetricsMXBean {
+
+    public static final QueryMetrics DISABLED = new QueryMetrics("disabled", false);
+
+    private final String name;
+    private final boolean enabled;
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder rows = new LongAdder();
+
+    QueryMetrics(String name) {
+        this(name, true);
+    }
+
+    private QueryMetrics(String name, boolean enabled) {
+        this.name = name;
+        this.enabled = enabled;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void recordCall(long startNanos, long rowCount) {
+        if (enabled) {
+            latency.record(System.nanoTime() - startNanos);
+            rows.add(rowCount);
+        }
+    }
+
+    public void recordError(long startNanos) {
+        if (enabled) {
+            latency.record(System.nanoTime() - startNanos);
+            errors.increment();
+        }
+    }
+
+    void recordLatency(long nanos, boolean failed) {
+        latency.record(nanos);
+        if (failed) {
+            errors.increment();
+        }
+    }
+
+    @Override
+    public long getCalls() {
+        return latency.getCount();
+    }
+
+    @Override
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    @Override
+    public long getRows() {
+        return rows.sum();
+    }
+
+    @Override
+    public double getMeanMicros() {
+        return latency.getMeanNanos() / 1000.0;
+    }
+
+    @Override
+    public double getP50Micros() {
+        return latency.getPercentileNanos(50) / 1000.0;
+    }
+
+    @Override
+    public double getP99Micros() {
+        return latency.getPercentileNanos(99) / 1000.0;
+    }
+
+    @Override
+    public double getMaxMicros() {
+        return latency.getMaxNanos() / 1000.0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%-45s calls=%d errors=%d rows=%d p50=%.1fus p99=%.1fus max=%.1fus",
+                name, getCalls(), getErrors(), getRows(), getP50Micros(), getP99Micros(), getMaxMicros());
+    }
+}
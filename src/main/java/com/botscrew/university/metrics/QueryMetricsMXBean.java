@@ -0,0 +1,18 @@
+package com.botscrew.university.metrics;
+
+public interface QueryMetricsMXBean {
+
+    long getCalls();
+
+    long getErrors();
+
+    long getRows();
+
+    double getMeanMicros();
+
+    double getP50Micros();
+
+    double getP99Micros();
+
+    double getMaxMicros();
+}
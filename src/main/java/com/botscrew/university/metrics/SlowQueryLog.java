@@ -0,0 +1,107 @@
+package com.botscrew.university.metrics;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+public class SlowQueryLog implements AutoCloseable {
+
+    private static final String REDACTED = "***";
+
+    public enum Redaction {
+        NONE,
+        STRINGS,
+        ALL
+    }
+
+    private final long thresholdNanos;
+    private final double sampleRate;
+    private final Redaction redaction;
+    private final AsyncRingBufferAppender<SlowQuery> appender;
+
+    public SlowQueryLog(long thresholdMillis, double sampleRate, Redaction redaction,
+                        AsyncRingBufferAppender<SlowQuery> appender) {
+        this.thresholdNanos = MILLISECONDS.toNanos(thresholdMillis);
+        this.sampleRate = sampleRate;
+        this.redaction = redaction;
+        this.appender = appender;
+    }
+
+    public static String format(SlowQuery query) {
+        return String.format("Slow query %s took %.3f ms, rows=%d, parameters=%s, sql=%s",
+                query.getName(), query.getElapsedNanos() / 1_000_000.0, query.getRows(),
+                Arrays.toString(query.getParameters()), query.getSql());
+    }
+
+    public long getDropped() {
+        return appender.getDropped();
+    }
+
+    @Override
+    public void close() {
+        appender.close();
+    }
+
+    boolean isSlow(long elapsedNanos) {
+        return elapsedNanos >= thresholdNanos;
+    }
+
+    void record(String name, String sql, Object[] parameters, int parameterCount, long rows, long elapsedNanos) {
+        if (!isSlow(elapsedNanos) || sampleRate < 1 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return;
+        }
+        Object[] captured = new Object[parameterCount];
+        for (int i = 0; i < parameterCount; i++) {
+            captured[i] = redact(parameters[i]);
+        }
+        appender.append(new SlowQuery(name, sql, captured, rows, elapsedNanos));
+    }
+
+    private Object redact(Object value) {
+        if (value == null || redaction == Redaction.NONE) {
+            return value;
+        }
+        if (redaction == Redaction.ALL || value instanceof CharSequence) {
+            return REDACTED;
+        }
+        return value;
+    }
+
+    public static final class SlowQuery {
+
+        private final String name;
+        private final String sql;
+        private final Object[] parameters;
+        private final long rows;
+        private final long elapsedNanos;
+
+        private SlowQuery(String name, String sql, Object[] parameters, long rows, long elapsedNanos) {
+            this.name = name;
+            this.sql = sql;
+            this.parameters = parameters;
+            this.rows = rows;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getSql() {
+            return sql;
+        }
+
+        public Object[] getParameters() {
+            return parameters.clone();
+        }
+
+        public long getRows() {
+            return rows;
+        }
+
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+    }
+}
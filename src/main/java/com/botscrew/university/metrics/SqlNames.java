@@ -0,0 +1,55 @@
+package com.botscrew.university.metrics;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+public class SqlNames {
+
+    private static final String OTHER_SQL = "other";
+    private static final String SQL_SUFFIX = "_SQL";
+    private static final String SQL_PREFIX_SUFFIX = "_SQL_PREFIX";
+
+    private final ConcurrentMap<String, String> names = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, String> prefixNames = new ConcurrentHashMap<>();
+
+    public void register(Class<?> owner) {
+        for (Field field : owner.getDeclaredFields()) {
+            int modifiers = field.getModifiers();
+            if (!Modifier.isStatic(modifiers) || !Modifier.isFinal(modifiers) || field.getType() != String.class) {
+                continue;
+            }
+            String name = owner.getSimpleName() + "." + field.getName();
+            try {
+                field.setAccessible(true);
+                if (field.getName().endsWith(SQL_PREFIX_SUFFIX)) {
+                    prefixNames.put((String) field.get(null),
+                            name.substring(0, name.length() - SQL_PREFIX_SUFFIX.length()));
+                } else if (field.getName().endsWith(SQL_SUFFIX)) {
+                    names.put((String) field.get(null), name.substring(0, name.length() - SQL_SUFFIX.length()));
+                }
+            } catch (IllegalAccessException | RuntimeException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    public String nameOf(String sql) {
+        String name = names.get(sql);
+        return name != null ? name : nameByPrefix(sql);
+    }
+
+    private String nameByPrefix(String sql) {
+        String name = OTHER_SQL;
+        int longestPrefix = -1;
+        for (Map.Entry<String, String> prefix : prefixNames.entrySet()) {
+            if (prefix.getKey().length() > longestPrefix && sql.startsWith(prefix.getKey())) {
+                name = prefix.getValue();
+                longestPrefix = prefix.getKey().length();
+            }
+        }
+        return name;
+    }
+}
@@ -0,0 +1,41 @@
+package com.botscrew.university.search;
+
+import com.botscrew.university.dao.EntityListener;
+
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.stream.Stream;
+
+public class IndexingListener<T> implements EntityListener<T> {
+
+    private final TrigramIndex index;
+    private final ToIntFunction<T> idExtractor;
+    private final Function<T, String[]> fieldsExtractor;
+
+    public IndexingListener(TrigramIndex index, ToIntFunction<T> idExtractor, Function<T, String[]> fieldsExtractor) {
+        this.index = index;
+        this.idExtractor = idExtractor;
+        this.fieldsExtractor = fieldsExtractor;
+    }
+
+    public void populate(Stream<T> entities) {
+        try (Stream<T> stream = entities) {
+            stream.forEach(this::saved);
+        }
+    }
+
+    @Override
+    public void saved(T entity) {
+        index.put(idExtractor.applyAsInt(entity), fieldsExtractor.apply(entity));
+    }
+
+    @Override
+    public void updated(T entity) {
+        index.put(idExtractor.applyAsInt(entity), fieldsExtractor.apply(entity));
+    }
+
+    @Override
+    public void deleted(int id) {
+        index.remove(id);
+    }
+}
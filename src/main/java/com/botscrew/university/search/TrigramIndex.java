@@ -0,0 +1,229 @@
+package com.botscrew.university.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+public class TrigramIndex {
+
+    private static final int GRAM_LENGTH = 3;
+
+    @FunctionalInterface
+    private interface MatchVisitor {
+
+        boolean visit(int id, long score);
+    }
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, PostingList> postings = new HashMap<>();
+    private final TreeMap<Integer, String[]> documents = new TreeMap<>();
+
+    public void put(int id, String... fields) {
+        String[] document = Arrays.copyOf(fields, fields.length);
+        lock.writeLock().lock();
+        try {
+            removeDocument(id);
+            documents.put(id, document);
+            for (long trigram : trigrams(document)) {
+                postings.computeIfAbsent(trigram, key -> new PostingList()).add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(int id) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int[] matchingIds(String query) {
+        return matchingIdsAfter(query, Integer.MIN_VALUE, Integer.MAX_VALUE).stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    public List<Integer> matchingIdsAfter(String query, int afterId, int limit) {
+        List<Integer> result = new ArrayList<>(Math.min(limit, 1024));
+        if (limit <= 0) {
+            return result;
+        }
+        lock.readLock().lock();
+        try {
+            scan(query, afterId, (id, score) -> {
+                result.add(id);
+                return result.size() < limit;
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    public List<Integer> search(String query, int limit) {
+        if (limit <= 0) {
+            return new ArrayList<>();
+        }
+        Comparator<long[]> bestFirst = Comparator.<long[]>comparingLong(match -> match[0]).thenComparingLong(match -> match[1]);
+        PriorityQueue<long[]> worstFirst = new PriorityQueue<>(Math.min(limit, 1024) + 1, bestFirst.reversed());
+        lock.readLock().lock();
+        try {
+            scan(query, Integer.MIN_VALUE, (id, score) -> {
+                worstFirst.offer(new long[]{score, id});
+                if (worstFirst.size() > limit) {
+                    worstFirst.poll();
+                }
+                return true;
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+        List<long[]> ranked = new ArrayList<>(worstFirst);
+        ranked.sort(bestFirst);
+        List<Integer> result = new ArrayList<>(ranked.size());
+        ranked.forEach(match -> result.add((int) match[1]));
+        return result;
+    }
+
+    private void scan(String query, int afterId, MatchVisitor visitor) {
+        if (query.length() < GRAM_LENGTH) {
+            for (Map.Entry<Integer, String[]> document : documents.tailMap(afterId, false).entrySet()) {
+                long score = score(document.getValue(), query);
+                if (score >= 0 && !visitor.visit(document.getKey(), score)) {
+                    return;
+                }
+            }
+            return;
+        }
+        List<PostingList> lists = new ArrayList<>();
+        for (long trigram : trigrams(query)) {
+            PostingList postingList = postings.get(trigram);
+            if (postingList == null) {
+                return;
+            }
+            lists.add(postingList);
+        }
+        lists.sort(Comparator.comparingInt(postingList -> postingList.size));
+        PostingList smallest = lists.get(0);
+        int from = Arrays.binarySearch(smallest.ids, 0, smallest.size, afterId);
+        from = from >= 0 ? from + 1 : -from - 1;
+        for (int i = from; i < smallest.size; i++) {
+            int id = smallest.ids[i];
+            if (!containedInAll(lists, id)) {
+                continue;
+            }
+            long score = score(documents.get(id), query);
+            if (score >= 0 && !visitor.visit(id, score)) {
+                return;
+            }
+        }
+    }
+
+    private static boolean containedInAll(List<PostingList> lists, int id) {
+        for (int i = 1; i < lists.size(); i++) {
+            PostingList postingList = lists.get(i);
+            if (Arrays.binarySearch(postingList.ids, 0, postingList.size, id) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long score(String[] document, String query) {
+        long best = -1;
+        for (String field : document) {
+            if (field == null || !field.contains(query)) {
+                continue;
+            }
+            long matchKind = field.equals(query) ? 0 : field.startsWith(query) ? 1 : 2;
+            long score = (matchKind << 32) | field.length();
+            if (best < 0 || score < best) {
+                best = score;
+            }
+        }
+        return best;
+    }
+
+    private void removeDocument(int id) {
+        String[] document = documents.remove(id);
+        if (document == null) {
+            return;
+        }
+        for (long trigram : trigrams(document)) {
+            PostingList postingList = postings.get(trigram);
+            if (postingList != null && postingList.remove(id) && postingList.size == 0) {
+                postings.remove(trigram);
+            }
+        }
+    }
+
+    private static Set<Long> trigrams(String... fields) {
+        Set<Long> trigrams = new HashSet<>();
+        for (String field : fields) {
+            if (field == null) {
+                continue;
+            }
+            for (int i = 0; i + GRAM_LENGTH <= field.length(); i++) {
+                trigrams.add(((long) field.charAt(i) << 32) | ((long) field.charAt(i + 1) << 16) | field.charAt(i + 2));
+            }
+        }
+        return trigrams;
+    }
+
+    private static final class PostingList {
+
+        private int[] ids = new int[4];
+        private int size;
+
+        private void add(int id) {
+            if (size > 0 && ids[size - 1] >= id) {
+                int position = Arrays.binarySearch(ids, 0, size, id);
+                if (position >= 0) {
+                    return;
+                }
+                insert(-position - 1, id);
+                return;
+            }
+            insert(size, id);
+        }
+
+        private boolean remove(int id) {
+            int position = Arrays.binarySearch(ids, 0, size, id);
+            if (position < 0) {
+                return false;
+            }
+            System.arraycopy(ids, position + 1, ids, position, size - position - 1);
+            size--;
+            return true;
+        }
+
+        private void insert(int position, int id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size + (size >> 1) + 1);
+            }
+            System.arraycopy(ids, position, ids, position + 1, size - position);
+            ids[position] = id;
+            size++;
+        }
+    }
+}
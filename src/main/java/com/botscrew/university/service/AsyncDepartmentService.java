@@ -0,0 +1,107 @@
+package com.botscrew.university.service;
+
+import com.botscrew.university.domain.Department;
+import com.botscrew.university.domain.DepartmentReport;
+import com.botscrew.university.domain.DepartmentStatistic;
+import com.botscrew.university.domain.Page;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import static com.botscrew.university.utils.BoundedExecutors.runAsync;
+import static com.botscrew.university.utils.BoundedExecutors.supplyAsync;
+
+public class AsyncDepartmentService {
+
+    private final DepartmentService departmentService;
+    private final Executor executor;
+
+    public AsyncDepartmentService(DepartmentService departmentService, Executor executor) {
+        this.departmentService = departmentService;
+        this.executor = executor;
+    }
+
+    public CompletableFuture<Optional<Department>> getById(int id) {
+        return supplyAsync(() -> departmentService.getById(id), executor);
+    }
+
+    public CompletableFuture<List<Department>> getAll() {
+        return supplyAsync(departmentService::getAll, executor);
+    }
+
+    public CompletableFuture<Void> save(Department department) {
+        return runAsync(() -> departmentService.save(department), executor);
+    }
+
+    public CompletableFuture<Void> update(Department department) {
+        return runAsync(() -> departmentService.update(department), executor);
+    }
+
+    public CompletableFuture<Void> delete(int id) {
+        return runAsync(() -> departmentService.delete(id), executor);
+    }
+
+    public CompletableFuture<Void> saveAll(Collection<Department> departments) {
+        return runAsync(() -> departmentService.saveAll(departments), executor);
+    }
+
+    public CompletableFuture<Void> updateAll(Collection<Department> departments) {
+        return runAsync(() -> departmentService.updateAll(departments), executor);
+    }
+
+    public CompletableFuture<Void> deleteAll(Collection<Integer> ids) {
+        return runAsync(() -> departmentService.deleteAll(ids), executor);
+    }
+
+    public CompletableFuture<Void> assignLector(int departmentId, int lectorId) {
+        return runAsync(() -> departmentService.assignLector(departmentId, lectorId), executor);
+    }
+
+    public CompletableFuture<Void> unassignLector(int departmentId, int lectorId) {
+        return runAsync(() -> departmentService.unassignLector(departmentId, lectorId), executor);
+    }
+
+    public CompletableFuture<Integer> getQuantityOfEmployeeByName(String nameOfDepartment) {
+        return supplyAsync(() -> departmentService.getQuantityOfEmployeeByName(nameOfDepartment), executor);
+    }
+
+    public CompletableFuture<Double> getAverageSalaryByName(String nameOfDepartment) {
+        return supplyAsync(() -> departmentService.getAverageSalaryByName(nameOfDepartment), executor);
+    }
+
+    public CompletableFuture<Map<String, Integer>> getDegreeStatisticByName(String nameOfDepartment) {
+        return supplyAsync(() -> departmentService.getDegreeStatisticByName(nameOfDepartment), executor);
+    }
+
+    public CompletableFuture<Map<String, DepartmentStatistic>> getStatistics() {
+        return supplyAsync(departmentService::getStatistics, executor);
+    }
+
+    public CompletableFuture<Map<String, DepartmentStatistic>> getStatisticsByNames(Collection<String> namesOfDepartments) {
+        return supplyAsync(() -> departmentService.getStatisticsByNames(namesOfDepartments), executor);
+    }
+
+    public CompletableFuture<DepartmentReport> getReportByName(String nameOfDepartment) {
+        return supplyAsync(() -> departmentService.getReportByName(nameOfDepartment), executor);
+    }
+
+    public CompletableFuture<List<Department>> searchIfNameContains(String line) {
+        return supplyAsync(() -> departmentService.searchIfNameContains(line), executor);
+    }
+
+    public CompletableFuture<List<Department>> searchIfNameContains(String line, int limit) {
+        return supplyAsync(() -> departmentService.searchIfNameContains(line, limit), executor);
+    }
+
+    public CompletableFuture<Page<Department>> getPage(String token, int size) {
+        return supplyAsync(() -> departmentService.getPage(token, size), executor);
+    }
+
+    public CompletableFuture<Page<Department>> searchIfNameContains(String line, String token, int size) {
+        return supplyAsync(() -> departmentService.searchIfNameContains(line, token, size), executor);
+    }
+}
@@ -0,0 +1,81 @@
+package com.botscrew.university.service;
+
+import com.botscrew.university.domain.Lector;
+import com.botscrew.university.domain.Page;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import static com.botscrew.university.utils.BoundedExecutors.runAsync;
+import static com.botscrew.university.utils.BoundedExecutors.supplyAsync;
+
+public class AsyncLectorService {
+
+    private final LectorService lectorService;
+    private final Executor executor;
+
+    public AsyncLectorService(LectorService lectorService, Executor executor) {
+        this.lectorService = lectorService;
+        this.executor = executor;
+    }
+
+    public CompletableFuture<Optional<Lector>> getById(int id) {
+        return supplyAsync(() -> lectorService.getById(id), executor);
+    }
+
+    public CompletableFuture<List<Lector>> getAll() {
+        return supplyAsync(lectorService::getAll, executor);
+    }
+
+    public CompletableFuture<Void> save(Lector lector) {
+        return runAsync(() -> lectorService.save(lector), executor);
+    }
+
+    public CompletableFuture<Void> update(Lector lector) {
+        return runAsync(() -> lectorService.update(lector), executor);
+    }
+
+    public CompletableFuture<Void> delete(int id) {
+        return runAsync(() -> lectorService.delete(id), executor);
+    }
+
+    public CompletableFuture<Void> saveAll(Collection<Lector> lectors) {
+        return runAsync(() -> lectorService.saveAll(lectors), executor);
+    }
+
+    public CompletableFuture<Void> updateAll(Collection<Lector> lectors) {
+        return runAsync(() -> lectorService.updateAll(lectors), executor);
+    }
+
+    public CompletableFuture<Void> deleteAll(Collection<Integer> ids) {
+        return runAsync(() -> lectorService.deleteAll(ids), executor);
+    }
+
+    public CompletableFuture<Set<Integer>> getExistingIds(Collection<Integer> ids) {
+        return supplyAsync(() -> lectorService.getExistingIds(ids), executor);
+    }
+
+    public CompletableFuture<Lector> getHeadOfDepartment(String nameOfDepartment) {
+        return supplyAsync(() -> lectorService.getHeadOfDepartment(nameOfDepartment), executor);
+    }
+
+    public CompletableFuture<List<Lector>> searchIfNameContains(String line) {
+        return supplyAsync(() -> lectorService.searchIfNameContains(line), executor);
+    }
+
+    public CompletableFuture<List<Lector>> searchIfNameContains(String line, int limit) {
+        return supplyAsync(() -> lectorService.searchIfNameContains(line, limit), executor);
+    }
+
+    public CompletableFuture<Page<Lector>> getPage(String token, int size) {
+        return supplyAsync(() -> lectorService.getPage(token, size), executor);
+    }
+
+    public CompletableFuture<Page<Lector>> searchIfNameContains(String line, String token, int size) {
+        return supplyAsync(() -> lectorService.searchIfNameContains(line, token, size), executor);
+    }
+}
@@ -1,22 +1,51 @@
 package com.botscrew.university.service;
 
+import com.botscrew.university.dao.ColumnarSnapshot;
+import com.botscrew.university.dao.DepartmentAggregateStore;
 import com.botscrew.university.dao.DepartmentDao;
+import com.botscrew.university.dao.PageToken;
 import com.botscrew.university.domain.Department;
+import com.botscrew.university.domain.Page;
+import com.botscrew.university.domain.DepartmentReport;
+import com.botscrew.university.domain.DepartmentStatistic;
 import com.botscrew.university.exception.DepartmentNameNotUniqueException;
 import com.botscrew.university.exception.EntityNotFoundException;
+import com.botscrew.university.search.TrigramIndex;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 public class DepartmentService {
 
     private final LectorService lectorService;
     private final DepartmentDao departmentDao;
+    private final DepartmentAggregateStore aggregateStore;
+    private final TrigramIndex searchIndex;
+    private final ColumnarSnapshot snapshot;
 
     public DepartmentService(LectorService lectorService, DepartmentDao departmentDao) {
+        this(lectorService, departmentDao, null, null);
+    }
+
+    public DepartmentService(LectorService lectorService, DepartmentDao departmentDao,
+                             DepartmentAggregateStore aggregateStore, TrigramIndex searchIndex) {
+        this(lectorService, departmentDao, aggregateStore, searchIndex, null);
+    }
+
+    public DepartmentService(LectorService lectorService, DepartmentDao departmentDao,
+                             DepartmentAggregateStore aggregateStore, TrigramIndex searchIndex,
+                             ColumnarSnapshot snapshot) {
         this.lectorService = lectorService;
         this.departmentDao = departmentDao;
+        this.aggregateStore = aggregateStore;
+        this.searchIndex = searchIndex;
+        this.snapshot = snapshot;
     }
 
     public Optional<Department> getById(int id) {
@@ -27,61 +56,181 @@ public class DepartmentService {
         return departmentDao.getAll();
     }
 
+    public Stream<Department> streamAll() {
+        return departmentDao.streamAll();
+    }
+
     public void save(Department department) {
-        verifyDepartmentUnique(department);
-        verifyHeadPresent(department.getId());
-        departmentDao.save(department);
+        if (departmentDao.save(department) && aggregateStore != null) {
+            aggregateStore.departmentSaved(department);
+        }
     }
 
     public void update(Department department) {
-        verifyDepartmentUnique(department);
-        verifyDepartmentPresentById(department.getId());
-        verifyHeadPresent(department.getId());
-        departmentDao.update(department);
+        if (departmentDao.update(department) && aggregateStore != null) {
+            aggregateStore.departmentUpdated(department);
+        }
     }
 
     public void delete(int id) {
-        departmentDao.delete(id);
+        if (departmentDao.delete(id) && aggregateStore != null) {
+            aggregateStore.departmentDeleted(id);
+        }
+    }
+
+    public void saveAll(Collection<Department> departments) {
+        verifyDepartmentsUnique(departments);
+        boolean applied = false;
+        try {
+            applied = departmentDao.saveAll(departments);
+        } finally {
+            if (aggregateStore != null) {
+                if (applied) {
+                    departments.forEach(aggregateStore::departmentSaved);
+                } else {
+                    aggregateStore.rebuild();
+                }
+            }
+        }
+    }
+
+    public void updateAll(Collection<Department> departments) {
+        verifyDepartmentsUnique(departments);
+        boolean applied = false;
+        try {
+            applied = departmentDao.updateAll(departments);
+        } finally {
+            if (aggregateStore != null) {
+                if (applied) {
+                    departments.forEach(aggregateStore::departmentUpdated);
+                } else {
+                    aggregateStore.rebuild();
+                }
+            }
+        }
+    }
+
+    public void deleteAll(Collection<Integer> ids) {
+        boolean applied = departmentDao.deleteAll(ids);
+        if (aggregateStore != null) {
+            if (applied) {
+                ids.forEach(aggregateStore::departmentDeleted);
+            } else {
+                aggregateStore.rebuild();
+            }
+        }
+    }
+
+    public void assignLector(int departmentId, int lectorId) {
+        if (departmentDao.addLector(departmentId, lectorId) && aggregateStore != null) {
+            aggregateStore.lectorAssigned(departmentId, lectorId);
+        }
+    }
+
+    public void unassignLector(int departmentId, int lectorId) {
+        if (departmentDao.removeLector(departmentId, lectorId) && aggregateStore != null) {
+            aggregateStore.lectorUnassigned(departmentId, lectorId);
+        }
     }
 
     public int getQuantityOfEmployeeByName(String nameOfDepartment) {
+        if (snapshot != null || aggregateStore != null) {
+            return getAggregatedStatistic(nameOfDepartment).getQuantityOfEmployee();
+        }
         verifyDepartmentPresentByName(nameOfDepartment);
         return departmentDao.getQuantityOfEmployeeByName(nameOfDepartment);
     }
 
     public double getAverageSalaryByName(String nameOfDepartment) {
+        if (snapshot != null || aggregateStore != null) {
+            return getAggregatedStatistic(nameOfDepartment).getAverageSalary();
+        }
         verifyDepartmentPresentByName(nameOfDepartment);
         return departmentDao.getAverageSalaryByName(nameOfDepartment);
     }
 
     public Map<String, Integer> getDegreeStatisticByName(String nameOfDepartment) {
+        if (snapshot != null || aggregateStore != null) {
+            return getAggregatedStatistic(nameOfDepartment).getDegreeStatistic();
+        }
         verifyDepartmentPresentByName(nameOfDepartment);
         return departmentDao.getDegreeStatisticByName(nameOfDepartment);
     }
 
+    public Map<String, DepartmentStatistic> getStatistics() {
+        if (snapshot != null) {
+            return snapshot.getStatistics();
+        }
+        if (aggregateStore != null) {
+            return aggregateStore.getStatistics();
+        }
+        return departmentDao.getStatistics();
+    }
+
+    public Map<String, DepartmentStatistic> getStatisticsByNames(Collection<String> namesOfDepartments) {
+        if (namesOfDepartments.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        if (snapshot != null) {
+            return snapshot.getStatisticsByNames(namesOfDepartments);
+        }
+        if (aggregateStore != null) {
+            return aggregateStore.getStatisticsByNames(namesOfDepartments);
+        }
+        return departmentDao.getStatisticsByNames(namesOfDepartments);
+    }
+
+    public DepartmentReport getReportByName(String nameOfDepartment) {
+        return departmentDao.getReportByName(nameOfDepartment).orElseThrow(() -> new EntityNotFoundException(
+                String.format("Department with name %s is not present", nameOfDepartment)));
+    }
+
     public List<Department> searchIfNameContains(String line) {
+        if (searchIndex != null) {
+            return departmentDao.getByIds(searchIndex.search(line, Integer.MAX_VALUE));
+        }
         return departmentDao.searchIfNameContains(line);
     }
 
-    private void verifyDepartmentPresentByName(String nameOfDepartment) {
-        departmentDao.getByName(nameOfDepartment).orElseThrow(() -> new EntityNotFoundException(
+    public List<Department> searchIfNameContains(String line, int limit) {
+        if (searchIndex != null) {
+            return departmentDao.getByIds(searchIndex.search(line, limit));
+        }
+        return departmentDao.searchIfNameContains(line, limit);
+    }
+
+    public Page<Department> getPage(String token, int size) {
+        return departmentDao.getPage(token, size);
+    }
+
+    public Page<Department> searchIfNameContains(String line, String token, int size) {
+        if (searchIndex != null) {
+            return PageToken.fromIds(token, size,
+                    (afterId, limit) -> searchIndex.matchingIdsAfter(line, afterId, limit),
+                    departmentDao::getByIds, Department::getId);
+        }
+        return departmentDao.searchIfNameContains(line, token, size);
+    }
+
+    private DepartmentStatistic getAggregatedStatistic(String nameOfDepartment) {
+        Optional<DepartmentStatistic> statistic = snapshot != null
+                ? snapshot.getStatisticByName(nameOfDepartment)
+                : aggregateStore.getStatisticByName(nameOfDepartment);
+        return statistic.orElseThrow(() -> new EntityNotFoundException(
                 String.format("Department with name %s is not present", nameOfDepartment)));
     }
 
-    private void verifyDepartmentPresentById(int id) {
-        departmentDao.getById(id).orElseThrow(() -> new EntityNotFoundException(
-                String.format("Department with id %d is not present", id)));
+    private void verifyDepartmentPresentByName(String nameOfDepartment) {
+        departmentDao.getByName(nameOfDepartment).orElseThrow(() -> new EntityNotFoundException(
+                String.format("Department with name %s is not present", nameOfDepartment)));
     }
 
-    private void verifyDepartmentUnique(Department department) {
-        departmentDao.getByName(department.getName()).ifPresent(departmentWithSameName -> {
-            if (department.getId() != departmentWithSameName.getId()) {
+    private void verifyDepartmentsUnique(Collection<Department> departments) {
+        Set<String> names = new HashSet<>();
+        departments.forEach(department -> {
+            if (!names.add(department.getName())) {
                 throw new DepartmentNameNotUniqueException(String.format("Department with name %s already exist", department.getName()));
             }
         });
     }
-
-    private void verifyHeadPresent(int id) {
-        lectorService.getById(id).orElseThrow(() -> new EntityNotFoundException(String.format("Lector with id %d is not present", id)));
-    }
 }
@@ -1,21 +1,39 @@
 package com.botscrew.university.service;
 
+import com.botscrew.university.dao.DepartmentAggregateStore;
 import com.botscrew.university.dao.LectorDao;
+import com.botscrew.university.dao.PageToken;
 import com.botscrew.university.domain.Department;
 import com.botscrew.university.domain.Lector;
+import com.botscrew.university.domain.Page;
+import com.botscrew.university.exception.DataAccessException;
 import com.botscrew.university.exception.DepartmentDoesNotExistException;
 import com.botscrew.university.exception.EntityNotFoundException;
+import com.botscrew.university.search.TrigramIndex;
 import com.botscrew.university.exception.SalaryIsNegativeException;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.toList;
 
 public class LectorService {
 
     private final LectorDao lectorDao;
+    private final DepartmentAggregateStore aggregateStore;
+    private final TrigramIndex searchIndex;
 
     public LectorService(LectorDao lectorDao) {
+        this(lectorDao, null, null);
+    }
+
+    public LectorService(LectorDao lectorDao, DepartmentAggregateStore aggregateStore, TrigramIndex searchIndex) {
         this.lectorDao = lectorDao;
+        this.aggregateStore = aggregateStore;
+        this.searchIndex = searchIndex;
     }
 
     public Optional<Lector> getById(int id) {
@@ -26,19 +44,82 @@ public class LectorService {
         return lectorDao.getAll();
     }
 
+    public Stream<Lector> streamAll() {
+        return lectorDao.streamAll();
+    }
+
     public void save(Lector lector) {
         verifySalaryIsNotNegative(lector.getSalary());
-        lectorDao.save(lector);
+        if (lectorDao.save(lector) && aggregateStore != null) {
+            aggregateStore.lectorSaved(lector);
+        }
     }
 
     public void update(Lector lector) {
         verifySalaryIsNotNegative(lector.getSalary());
         verifyLectorPresent(lector.getId());
-        lectorDao.update(lector);
+        if (lectorDao.update(lector) && aggregateStore != null) {
+            aggregateStore.lectorUpdated(lector);
+        }
     }
 
     public void delete(int id) {
-        lectorDao.delete(id);
+        if (lectorDao.delete(id) && aggregateStore != null) {
+            aggregateStore.lectorDeleted(id);
+        }
+    }
+
+    public void saveAll(Collection<Lector> lectors) {
+        lectors.forEach(lector -> verifySalaryIsNotNegative(lector.getSalary()));
+        boolean applied = lectorDao.saveAll(lectors);
+        if (aggregateStore != null) {
+            if (applied) {
+                lectors.forEach(aggregateStore::lectorSaved);
+            } else {
+                aggregateStore.rebuild();
+            }
+        }
+        if (!applied) {
+            throw new DataAccessException(String.format("Failed to save %d lectors", lectors.size()));
+        }
+    }
+
+    public void updateAll(Collection<Lector> lectors) {
+        lectors.forEach(lector -> verifySalaryIsNotNegative(lector.getSalary()));
+        verifyLectorsPresent(lectors.stream().map(Lector::getId).collect(toList()));
+        boolean applied = lectorDao.updateAll(lectors);
+        if (aggregateStore != null) {
+            if (applied) {
+                lectors.forEach(aggregateStore::lectorUpdated);
+            } else {
+                aggregateStore.rebuild();
+            }
+        }
+        if (!applied) {
+            throw new DataAccessException(String.format("Failed to update %d lectors", lectors.size()));
+        }
+    }
+
+    public void deleteAll(Collection<Integer> ids) {
+        boolean applied = lectorDao.deleteAll(ids);
+        if (aggregateStore != null) {
+            if (applied) {
+                ids.forEach(aggregateStore::lectorDeleted);
+            } else {
+                aggregateStore.rebuild();
+            }
+        }
+    }
+
+    public Set<Integer> getExistingIds(Collection<Integer> ids) {
+        return lectorDao.getExistingIds(ids);
+    }
+
+    public void verifyLectorsPresent(Collection<Integer> ids) {
+        Set<Integer> existingIds = lectorDao.getExistingIds(ids);
+        ids.stream().filter(id -> !existingIds.contains(id)).findFirst().ifPresent(id -> {
+            throw new EntityNotFoundException(String.format("Lector with id %d is not present", id));
+        });
     }
 
     public Lector getHeadOfDepartment(String nameOfDepartment) {
@@ -48,9 +129,32 @@ public class LectorService {
     }
 
     public List<Lector> searchIfNameContains(String line) {
+        if (searchIndex != null) {
+            return lectorDao.getByIds(searchIndex.search(line, Integer.MAX_VALUE));
+        }
         return lectorDao.searchIfNameContains(line);
     }
 
+    public List<Lector> searchIfNameContains(String line, int limit) {
+        if (searchIndex != null) {
+            return lectorDao.getByIds(searchIndex.search(line, limit));
+        }
+        return lectorDao.searchIfNameContains(line, limit);
+    }
+
+    public Page<Lector> getPage(String token, int size) {
+        return lectorDao.getPage(token, size);
+    }
+
+    public Page<Lector> searchIfNameContains(String line, String token, int size) {
+        if (searchIndex != null) {
+            return PageToken.fromIds(token, size,
+                    (afterId, limit) -> searchIndex.matchingIdsAfter(line, afterId, limit),
+                    lectorDao::getByIds, Lector::getId);
+        }
+        return lectorDao.searchIfNameContains(line, token, size);
+    }
+
     private void verifySalaryIsNotNegative(int salary) {
         if (salary < 0) {
             throw new SalaryIsNegativeException("Salary can not be negative");
@@ -0,0 +1,25 @@
+package com.botscrew.university.service;
+
+import com.botscrew.university.dao.SalaryAnalyticsDao;
+import com.botscrew.university.domain.DepartmentSalaryDistribution;
+import com.botscrew.university.exception.EntityNotFoundException;
+
+import java.util.Map;
+
+public class SalaryAnalyticsService {
+
+    private final SalaryAnalyticsDao salaryAnalyticsDao;
+
+    public SalaryAnalyticsService(SalaryAnalyticsDao salaryAnalyticsDao) {
+        this.salaryAnalyticsDao = salaryAnalyticsDao;
+    }
+
+    public Map<String, DepartmentSalaryDistribution> getDistributions() {
+        return salaryAnalyticsDao.getDistributions();
+    }
+
+    public DepartmentSalaryDistribution getDistributionByName(String nameOfDepartment) {
+        return salaryAnalyticsDao.getDistributionByName(nameOfDepartment).orElseThrow(() -> new EntityNotFoundException(
+                String.format("Department with name %s is not present", nameOfDepartment)));
+    }
+}
@@ -0,0 +1,73 @@
+package com.botscrew.university.service;
+
+import com.botscrew.university.domain.Page;
+import com.botscrew.university.domain.SearchHit;
+import com.botscrew.university.domain.SearchResult;
+import com.botscrew.university.utils.BoundedExecutors;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+public class SearchCoordinator implements AutoCloseable {
+
+    private final List<SearchSource> sources;
+    private final ExecutorService executor;
+    private final long deadlineMillis;
+
+    public SearchCoordinator(List<SearchSource> sources, int threads, int queueCapacity, long deadlineMillis) {
+        this.sources = Collections.unmodifiableList(new ArrayList<>(sources));
+        this.deadlineMillis = deadlineMillis;
+        executor = BoundedExecutors.newBoundedExecutor("search-", threads, queueCapacity);
+    }
+
+    public List<SearchSource> getSources() {
+        return sources;
+    }
+
+    public SearchResult search(String line, int size) {
+        long deadline = System.nanoTime() + MILLISECONDS.toNanos(deadlineMillis);
+        Map<String, Future<Page<SearchHit>>> futures = new LinkedHashMap<>();
+        boolean partial = false;
+        for (SearchSource source : sources) {
+            try {
+                futures.put(source.getName(), executor.submit(() -> source.search(line, null, size)));
+            } catch (RejectedExecutionException e) {
+                partial = true;
+            }
+        }
+        Map<String, Page<SearchHit>> pages = new LinkedHashMap<>();
+        for (Map.Entry<String, Future<Page<SearchHit>>> entry : futures.entrySet()) {
+            Future<Page<SearchHit>> future = entry.getValue();
+            try {
+                pages.put(entry.getKey(), future.get(Math.max(0, deadline - System.nanoTime()), NANOSECONDS));
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                partial = true;
+            } catch (ExecutionException e) {
+                e.getCause().printStackTrace();
+                partial = true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.values().forEach(remaining -> remaining.cancel(true));
+                return new SearchResult(pages, true);
+            }
+        }
+        return new SearchResult(pages, partial);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
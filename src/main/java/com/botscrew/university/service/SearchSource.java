@@ -0,0 +1,42 @@
+package com.botscrew.university.service;
+
+import com.botscrew.university.domain.Page;
+import com.botscrew.university.domain.SearchHit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+public interface SearchSource {
+
+    String getName();
+
+    Page<SearchHit> search(String line, String token, int size);
+
+    @FunctionalInterface
+    interface PagedSearch<T> {
+
+        Page<T> search(String line, String token, int size);
+    }
+
+    static <T> SearchSource of(String name, PagedSearch<T> pagedSearch, ToIntFunction<T> idExtractor,
+                               Function<T, String> textExtractor) {
+        return new SearchSource() {
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public Page<SearchHit> search(String line, String token, int size) {
+                Page<T> page = pagedSearch.search(line, token, size);
+                List<SearchHit> hits = new ArrayList<>(page.getItems().size());
+                for (T item : page.getItems()) {
+                    hits.add(new SearchHit(name, idExtractor.applyAsInt(item), textExtractor.apply(item)));
+                }
+                return new Page<>(hits, page.getNextToken());
+            }
+        };
+    }
+}
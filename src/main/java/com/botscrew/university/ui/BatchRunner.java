@@ -0,0 +1,200 @@
+package com.botscrew.university.ui;
+
+import com.botscrew.university.domain.DepartmentReport;
+import com.botscrew.university.domain.Lector;
+import com.botscrew.university.metrics.LatencyHistogram;
+import com.botscrew.university.service.AsyncDepartmentService;
+import com.botscrew.university.service.AsyncLectorService;
+import com.botscrew.university.service.DepartmentService;
+import com.botscrew.university.service.LectorService;
+import com.botscrew.university.service.SalaryAnalyticsService;
+import com.botscrew.university.service.SearchCoordinator;
+import com.botscrew.university.utils.BoundedExecutors;
+import com.botscrew.university.utils.Json;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.botscrew.university.utils.JsonViews.lector;
+import static com.botscrew.university.utils.JsonViews.salaryDistribution;
+import static com.botscrew.university.utils.JsonViews.searchResult;
+import static java.util.concurrent.TimeUnit.DAYS;
+
+public class BatchRunner {
+
+    private final DepartmentService departmentService;
+    private final LectorService lectorService;
+    private final AsyncDepartmentService asyncDepartmentService;
+    private final AsyncLectorService asyncLectorService;
+    private final SearchCoordinator searchCoordinator;
+    private final SalaryAnalyticsService salaryAnalyticsService;
+    private final int searchLimit;
+
+    public BatchRunner(DepartmentService departmentService, LectorService lectorService,
+                       SearchCoordinator searchCoordinator, SalaryAnalyticsService salaryAnalyticsService,
+                       int searchLimit) {
+        this(departmentService, lectorService, new AsyncDepartmentService(departmentService, Runnable::run),
+                new AsyncLectorService(lectorService, Runnable::run), searchCoordinator, salaryAnalyticsService,
+                searchLimit);
+    }
+
+    public BatchRunner(DepartmentService departmentService, LectorService lectorService,
+                       AsyncDepartmentService asyncDepartmentService, AsyncLectorService asyncLectorService,
+                       SearchCoordinator searchCoordinator, SalaryAnalyticsService salaryAnalyticsService,
+                       int searchLimit) {
+        this.departmentService = departmentService;
+        this.lectorService = lectorService;
+        this.asyncDepartmentService = asyncDepartmentService;
+        this.asyncLectorService = asyncLectorService;
+        this.searchCoordinator = searchCoordinator;
+        this.salaryAnalyticsService = salaryAnalyticsService;
+        this.searchLimit = searchLimit;
+    }
+
+    public BatchSummary run(Reader input, Writer output, int threads) throws IOException {
+        BufferedReader reader = input instanceof BufferedReader ? (BufferedReader) input : new BufferedReader(input);
+        LatencyHistogram latency = new LatencyHistogram();
+        LongAdder errors = new LongAdder();
+        ExecutorService executor = threads > 1
+                ? BoundedExecutors.newBoundedExecutor("batch-", threads, threads * 4, new ThreadPoolExecutor.CallerRunsPolicy())
+                : null;
+        long start = System.nanoTime();
+        long operations = 0;
+        try {
+            String line;
+            long lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                String operation = line.trim();
+                if (operation.isEmpty() || operation.startsWith("#")) {
+                    continue;
+                }
+                operations++;
+                long number = lineNumber;
+                Runnable task = () -> execute(number, operation, output, latency, errors);
+                if (executor == null) {
+                    task.run();
+                } else {
+                    executor.execute(task);
+                }
+            }
+        } finally {
+            if (executor != null) {
+                executor.shutdown();
+                try {
+                    executor.awaitTermination(1, DAYS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+        output.flush();
+        return new BatchSummary(operations, errors.sum(), System.nanoTime() - start, latency);
+    }
+
+    private void execute(long lineNumber, String operation, Writer output, LatencyHistogram latency, LongAdder errors) {
+        int separator = operation.indexOf(' ');
+        String command = separator < 0 ? operation : operation.substring(0, separator);
+        String argument = separator < 0 ? "" : operation.substring(separator + 1).trim();
+        Map<String, Object> line = new LinkedHashMap<>();
+        line.put("line", lineNumber);
+        line.put("command", command);
+        line.put("argument", argument);
+        long start = System.nanoTime();
+        try {
+            Object result = run(command, argument);
+            line.put("status", "ok");
+            line.put("result", result);
+        } catch (RuntimeException e) {
+            errors.increment();
+            line.put("status", "error");
+            line.put("error", e.getClass().getSimpleName() + ": " + e.getMessage());
+        }
+        long elapsed = System.nanoTime() - start;
+        latency.record(elapsed);
+        line.put("micros", elapsed / 1000);
+        StringBuilder json = new StringBuilder(128);
+        Json.append(json, line);
+        json.append('\n');
+        try {
+            synchronized (output) {
+                output.write(json.toString());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Object run(String command, String argument) {
+        switch (command) {
+            case "head": {
+                Lector head = lectorService.getHeadOfDepartment(argument);
+                return lector(head);
+            }
+            case "stat":
+                return departmentService.getDegreeStatisticByName(argument);
+            case "avg":
+                return departmentService.getAverageSalaryByName(argument);
+            case "count":
+                return departmentService.getQuantityOfEmployeeByName(argument);
+            case "report": {
+                DepartmentReport report = departmentService.getReportByName(argument);
+                Map<String, Object> result = new LinkedHashMap<>();
+                result.put("department", report.getDepartment().getName());
+                result.put("head", lector(report.getHead()));
+                result.put("quantity", report.getQuantityOfEmployee());
+                result.put("averageSalary", report.getAverageSalary());
+                result.put("degrees", report.getDegreeStatistic());
+                return result;
+            }
+            case "overview": {
+                CompletableFuture<Lector> head = asyncLectorService.getHeadOfDepartment(argument);
+                CompletableFuture<Integer> quantity = asyncDepartmentService.getQuantityOfEmployeeByName(argument);
+                CompletableFuture<Double> averageSalary = asyncDepartmentService.getAverageSalaryByName(argument);
+                Map<String, Object> result = new LinkedHashMap<>();
+                result.put("department", argument);
+                result.put("head", lector(join(head)));
+                result.put("quantity", join(quantity));
+                result.put("averageSalary", join(averageSalary));
+                return result;
+            }
+            case "salaries": {
+                if (!argument.isEmpty()) {
+                    return salaryDistribution(salaryAnalyticsService.getDistributionByName(argument));
+                }
+                List<Map<String, Object>> result = new ArrayList<>();
+                salaryAnalyticsService.getDistributions().values()
+                        .forEach(distribution -> result.add(salaryDistribution(distribution)));
+                return result;
+            }
+            case "search": {
+                return searchResult(searchCoordinator.search(argument, searchLimit));
+            }
+            default:
+                throw new IllegalArgumentException("Unknown command " + command);
+        }
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+}
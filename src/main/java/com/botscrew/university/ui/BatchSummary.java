@@ -0,0 +1,42 @@
+package com.botscrew.university.ui;
+
+import com.botscrew.university.metrics.LatencyHistogram;
+
+public class BatchSummary {
+
+    private final long operations;
+    private final long errors;
+    private final long elapsedNanos;
+    private final LatencyHistogram latency;
+
+    public BatchSummary(long operations, long errors, long elapsedNanos, LatencyHistogram latency) {
+        this.operations = operations;
+        this.errors = errors;
+        this.elapsedNanos = elapsedNanos;
+        this.latency = latency;
+    }
+
+    public long getOperations() {
+        return operations;
+    }
+
+    public long getErrors() {
+        return errors;
+    }
+
+    public double getOperationsPerSecond() {
+        return elapsedNanos == 0 ? 0 : operations * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d operations, %d errors in %.1f ms (%.0f ops/s), latency p50=%.1fus p99=%.1fus max=%.1fus",
+                operations, errors, elapsedNanos / 1_000_000.0, getOperationsPerSecond(),
+                latency.getPercentileNanos(50) / 1000.0, latency.getPercentileNanos(99) / 1000.0,
+                latency.getMaxNanos() / 1000.0);
+    }
+}
@@ -1,14 +1,19 @@
 package com.botscrew.university.ui;
 
-import com.botscrew.university.domain.Department;
+import com.botscrew.university.domain.DepartmentReport;
 import com.botscrew.university.domain.Lector;
+import com.botscrew.university.domain.Page;
+import com.botscrew.university.domain.SearchHit;
+import com.botscrew.university.domain.SearchResult;
 import com.botscrew.university.service.DepartmentService;
 import com.botscrew.university.service.LectorService;
+import com.botscrew.university.service.SearchCoordinator;
+import com.botscrew.university.service.SearchSource;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Map;
 import java.util.Scanner;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 import static java.lang.Math.round;
 import static java.lang.System.lineSeparator;
@@ -16,13 +21,17 @@ import static java.lang.System.lineSeparator;
 
 public class Menu {
 
+    private static final int PAGE_SIZE = 20;
+
     private final Scanner scanner = new Scanner(System.in);
     private final DepartmentService departmentService;
     private final LectorService lectorService;
+    private final SearchCoordinator searchCoordinator;
 
-    public Menu(DepartmentService departmentService, LectorService lectorService) {
+    public Menu(DepartmentService departmentService, LectorService lectorService, SearchCoordinator searchCoordinator) {
         this.departmentService = departmentService;
         this.lectorService = lectorService;
+        this.searchCoordinator = searchCoordinator;
     }
 
     public void printMenu() {
@@ -30,9 +39,10 @@ public class Menu {
                 "b. Get department statistic" + lineSeparator() +
                 "c. Get average salary by department" + lineSeparator() +
                 "d. Get number of employees in the department" + lineSeparator() +
-                "e. Global search" + lineSeparator());
+                "e. Global search" + lineSeparator() +
+                "f. Get full department report" + lineSeparator());
         System.out.print("CHOOSE ACTION: ");
-        String action = scanner.next("[a-e]");
+        String action = scanner.next("[a-f]");
         switch (action) {
             case "a":
                 getHeadOfDepartment();
@@ -53,6 +63,10 @@ public class Menu {
                 globalSearch();
                 break;
             }
+            case "f": {
+                getDepartmentReport();
+                break;
+            }
         }
     }
 
@@ -82,13 +96,44 @@ public class Menu {
         System.out.println("Number  of employees in the department is "+departmentService.getQuantityOfEmployeeByName(nameOfDepartment));
     }
 
+    private void getDepartmentReport() {
+        String nameOfDepartment = getName();
+        DepartmentReport report = departmentService.getReportByName(nameOfDepartment);
+        Lector head = report.getHead();
+        System.out.println(head == null ? "Department has no head"
+                : String.format("Head of department is %s %s", head.getName(), head.getSurname()));
+        System.out.println("Number  of employees in the department is " + report.getQuantityOfEmployee());
+        System.out.println("Average salary on faculty is " + round(report.getAverageSalary() * 100.0) / 100.0);
+        report.getDegreeStatistic().forEach((key, value) -> System.out.println(key + ":" + value));
+    }
+
     private void globalSearch() {
         System.out.print("Enter template: ");
         String line = scanner.next();
-        List<Lector> lectors = new ArrayList<>(lectorService.searchIfNameContains(line));
-        List<Department> departments = new ArrayList<>(departmentService.searchIfNameContains(line));
-        lectors.forEach(lector -> System.out.println(lector.getName()+" "+lector.getSurname()));
-        departments.forEach(department -> System.out.println(department.getName()));
+        SearchResult result = searchCoordinator.search(line, PAGE_SIZE);
+        result.getHits().forEach(hit -> System.out.println(hit.getText()));
+        if (result.isPartial()) {
+            System.out.println("Search took too long, some results are missing");
+        }
+        for (SearchSource source : searchCoordinator.getSources()) {
+            Page<SearchHit> page = result.getPages().get(source.getName());
+            if (page != null && !printRemainingPages(page, token -> source.search(line, token, PAGE_SIZE),
+                    hit -> System.out.println(hit.getText()))) {
+                return;
+            }
+        }
+    }
+
+    private <T> boolean printRemainingPages(Page<T> page, Function<String, Page<T>> pageLoader, Consumer<T> printer) {
+        while (page.hasNext()) {
+            System.out.println("Enter next to see more results or whatever to stop");
+            if (!scanner.next().equals("next")) {
+                return false;
+            }
+            page = pageLoader.apply(page.getNextToken());
+            page.getItems().forEach(printer);
+        }
+        return true;
     }
 
     private String getName() {
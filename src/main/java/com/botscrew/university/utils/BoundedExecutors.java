@@ -0,0 +1,71 @@
+package com.botscrew.university.utils;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+public final class BoundedExecutors {
+
+    private BoundedExecutors() {
+    }
+
+    public static ExecutorService newBoundedExecutor(String threadNamePrefix, int threads, int queueCapacity) {
+        return newBoundedExecutor(threadNamePrefix, threads, queueCapacity, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public static ExecutorService newBoundedExecutor(String threadNamePrefix, int threads, int queueCapacity,
+                                                     RejectedExecutionHandler rejectedExecutionHandler) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return new ThreadPoolExecutor(threads, threads, 0, MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, threadNamePrefix + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, rejectedExecutionHandler);
+    }
+
+    public static ExecutorService newVirtualThreadOrBoundedExecutor(String threadNamePrefix, int threads,
+                                                                    int queueCapacity) {
+        if (threads <= 0) {
+            try {
+                return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            } catch (ReflectiveOperationException e) {
+                threads = Runtime.getRuntime().availableProcessors() * 2;
+            }
+        }
+        return newBoundedExecutor(threadNamePrefix, threads, queueCapacity);
+    }
+
+    public static ExecutorService newConnectionBoundExecutor(ConnectionProvider connectionProvider) {
+        int threads = connectionProvider.getBooleanProperty("pool.enabled", false)
+                ? PoolSettings.from(connectionProvider).getMaxSize()
+                : connectionProvider.getIntProperty("async.threads", Runtime.getRuntime().availableProcessors());
+        return newBoundedExecutor("service-async-", threads, connectionProvider.getIntProperty("async.queueCapacity", 1000));
+    }
+
+    public static <T> CompletableFuture<T> supplyAsync(Supplier<T> supplier, Executor executor) {
+        try {
+            return CompletableFuture.supplyAsync(supplier, executor);
+        } catch (RejectedExecutionException e) {
+            CompletableFuture<T> rejected = new CompletableFuture<>();
+            rejected.completeExceptionally(e);
+            return rejected;
+        }
+    }
+
+    public static CompletableFuture<Void> runAsync(Runnable runnable, Executor executor) {
+        return supplyAsync(() -> {
+            runnable.run();
+            return null;
+        }, executor);
+    }
+}
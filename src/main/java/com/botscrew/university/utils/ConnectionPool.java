@@ -0,0 +1,334 @@
+package com.botscrew.university.utils;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+public class ConnectionPool implements AutoCloseable {
+
+    private static final long VALIDATION_BYPASS_MILLIS = 500;
+    private static final String CONNECTION_FAILURE_SQL_STATE_PREFIX = "08";
+
+    @FunctionalInterface
+    public interface ConnectionFactory {
+
+        Connection create() throws SQLException;
+    }
+
+    private final ConnectionFactory connectionFactory;
+    private final PoolSettings settings;
+    private final Semaphore permits;
+    private final BlockingDeque<PooledConnection> idleConnections = new LinkedBlockingDeque<>();
+    private final Set<PooledConnection> activeConnections = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger waiters = new AtomicInteger();
+    private final LongAdder acquired = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder leaks = new LongAdder();
+    private final LongAdder totalAcquireNanos = new LongAdder();
+    private final AtomicLong maxAcquireNanos = new AtomicLong();
+    private final LongAdder statementCacheHits = new LongAdder();
+    private final LongAdder statementCacheMisses = new LongAdder();
+    private final ScheduledExecutorService housekeeper;
+    private volatile boolean closed;
+
+    public ConnectionPool(ConnectionFactory connectionFactory, PoolSettings settings) {
+        this.connectionFactory = connectionFactory;
+        this.settings = settings;
+        permits = new Semaphore(settings.getMaxSize(), true);
+        housekeeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "connection-pool-housekeeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = housekeepingPeriodMillis();
+        housekeeper.scheduleWithFixedDelay(this::houseKeep, period, period, MILLISECONDS);
+        fillToMinimum();
+    }
+
+    public Connection getConnection() throws SQLException {
+        if (closed) {
+            throw new SQLException("Connection pool is closed");
+        }
+        long start = System.nanoTime();
+        acquirePermit();
+        try {
+            PooledConnection pooledConnection = takeValidConnection();
+            pooledConnection.borrowed(settings.getLeakDetectionThresholdMillis() > 0
+                    ? new Throwable("Connection was borrowed here") : null);
+            activeConnections.add(pooledConnection);
+            recordAcquire(System.nanoTime() - start);
+            return pooledConnection.newHandle();
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    public PoolStatistics getStatistics() {
+        return new PoolStatistics(activeConnections.size(), idleConnections.size(), waiters.get(),
+                acquired.sum(), timeouts.sum(), leaks.sum(), totalAcquireNanos.sum(), maxAcquireNanos.get(),
+                statementCacheHits.sum(), statementCacheMisses.sum());
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        housekeeper.shutdownNow();
+        PooledConnection pooledConnection;
+        while ((pooledConnection = idleConnections.pollFirst()) != null) {
+            pooledConnection.closePhysically();
+        }
+    }
+
+    private void acquirePermit() throws SQLException {
+        waiters.incrementAndGet();
+        boolean permitted;
+        try {
+            permitted = permits.tryAcquire(settings.getAcquireTimeoutMillis(), MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a connection", e);
+        } finally {
+            waiters.decrementAndGet();
+        }
+        if (!permitted) {
+            timeouts.increment();
+            throw new SQLTransientConnectionException(String.format(
+                    "Connection is not available, request timed out after %d ms", settings.getAcquireTimeoutMillis()));
+        }
+    }
+
+    private PooledConnection takeValidConnection() throws SQLException {
+        PooledConnection pooledConnection;
+        while ((pooledConnection = idleConnections.pollFirst()) != null) {
+            if (isValid(pooledConnection)) {
+                return pooledConnection;
+            }
+            pooledConnection.closePhysically();
+        }
+        return new PooledConnection(connectionFactory.create());
+    }
+
+    private boolean isValid(PooledConnection pooledConnection) {
+        if (System.currentTimeMillis() - pooledConnection.lastUsedMillis < VALIDATION_BYPASS_MILLIS) {
+            return true;
+        }
+        try {
+            return pooledConnection.connection.isValid(settings.getValidationTimeoutSeconds());
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private void release(PooledConnection pooledConnection) {
+        activeConnections.remove(pooledConnection);
+        try {
+            if (closed || pooledConnection.broken || !pooledConnection.reset()
+                    || activeConnections.size() + idleConnections.size() >= settings.getMaxSize()) {
+                pooledConnection.closePhysically();
+            } else {
+                pooledConnection.lastUsedMillis = System.currentTimeMillis();
+                idleConnections.offerFirst(pooledConnection);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void recordAcquire(long nanos) {
+        acquired.increment();
+        totalAcquireNanos.add(nanos);
+        long max;
+        while (nanos > (max = maxAcquireNanos.get()) && !maxAcquireNanos.compareAndSet(max, nanos)) {
+            // retry until the maximum is published
+        }
+    }
+
+    private void houseKeep() {
+        try {
+            evictIdleConnections();
+            fillToMinimum();
+            detectLeaks();
+        } catch (RuntimeException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private void evictIdleConnections() {
+        long now = System.currentTimeMillis();
+        Iterator<PooledConnection> oldestFirst = idleConnections.descendingIterator();
+        while (oldestFirst.hasNext() && idleConnections.size() > settings.getMinSize()) {
+            PooledConnection pooledConnection = oldestFirst.next();
+            if (now - pooledConnection.lastUsedMillis > settings.getIdleTimeoutMillis()
+                    && idleConnections.remove(pooledConnection)) {
+                pooledConnection.closePhysically();
+            }
+        }
+    }
+
+    private void fillToMinimum() {
+        while (!closed && activeConnections.size() + idleConnections.size() < settings.getMinSize()) {
+            try {
+                idleConnections.offerLast(new PooledConnection(connectionFactory.create()));
+            } catch (SQLException e) {
+                e.printStackTrace();
+                return;
+            }
+        }
+    }
+
+    private void detectLeaks() {
+        long threshold = settings.getLeakDetectionThresholdMillis();
+        if (threshold <= 0) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        for (PooledConnection pooledConnection : activeConnections) {
+            if (!pooledConnection.leakReported && now - pooledConnection.borrowedMillis > threshold) {
+                pooledConnection.leakReported = true;
+                leaks.increment();
+                System.err.printf("Connection held for more than %d ms, possible leak%n", threshold);
+                if (pooledConnection.borrowTrace != null) {
+                    pooledConnection.borrowTrace.printStackTrace();
+                }
+            }
+        }
+    }
+
+    private long housekeepingPeriodMillis() {
+        long period = settings.getIdleTimeoutMillis();
+        if (settings.getLeakDetectionThresholdMillis() > 0) {
+            period = Math.min(period, settings.getLeakDetectionThresholdMillis());
+        }
+        return Math.max(period / 2, 100);
+    }
+
+    private final class PooledConnection {
+
+        private final Connection connection;
+        private final StatementCache statementCache;
+        private volatile long lastUsedMillis = System.currentTimeMillis();
+        private volatile long borrowedMillis;
+        private volatile Throwable borrowTrace;
+        private volatile boolean leakReported;
+        private volatile boolean broken;
+
+        private PooledConnection(Connection connection) {
+            this.connection = connection;
+            statementCache = settings.getStatementCacheSize() > 0
+                    ? new StatementCache(connection, settings.getStatementCacheSize(), statementCacheHits, statementCacheMisses)
+                    : null;
+        }
+
+        private void borrowed(Throwable borrowTrace) {
+            this.borrowTrace = borrowTrace;
+            borrowedMillis = System.currentTimeMillis();
+            leakReported = false;
+        }
+
+        private Connection newHandle() {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class}, new ConnectionHandle(this));
+        }
+
+        private boolean reset() {
+            try {
+                if (connection.isClosed()) {
+                    return false;
+                }
+                if (!connection.getAutoCommit()) {
+                    connection.rollback();
+                    connection.setAutoCommit(true);
+                }
+                connection.clearWarnings();
+                return true;
+            } catch (SQLException e) {
+                return false;
+            }
+        }
+
+        private void closePhysically() {
+            if (statementCache != null) {
+                statementCache.close();
+            }
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    private final class ConnectionHandle implements InvocationHandler {
+
+        private final PooledConnection pooledConnection;
+        private boolean closed;
+
+        private ConnectionHandle(PooledConnection pooledConnection) {
+            this.pooledConnection = pooledConnection;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (!closed) {
+                        closed = true;
+                        release(pooledConnection);
+                    }
+                    return null;
+                case "isClosed":
+                    return closed || pooledConnection.connection.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Pooled " + pooledConnection.connection;
+                default:
+                    if (closed) {
+                        throw new SQLException("Connection is closed");
+                    }
+                    try {
+                        if (pooledConnection.statementCache != null && StatementCache.isCacheable(method)) {
+                            return pooledConnection.statementCache.prepareStatement((Connection) proxy, args);
+                        }
+                        return method.invoke(pooledConnection.connection, args);
+                    } catch (SQLException e) {
+                        markBrokenOnConnectionFailure(e);
+                        throw e;
+                    } catch (InvocationTargetException e) {
+                        Throwable cause = e.getCause();
+                        if (cause instanceof SQLException) {
+                            markBrokenOnConnectionFailure((SQLException) cause);
+                        }
+                        throw cause;
+                    }
+            }
+        }
+
+        private void markBrokenOnConnectionFailure(SQLException exception) {
+            String sqlState = exception.getSQLState();
+            if (sqlState != null && sqlState.startsWith(CONNECTION_FAILURE_SQL_STATE_PREFIX)) {
+                pooledConnection.broken = true;
+            }
+        }
+    }
+}
@@ -1,43 +1,150 @@
 package com.botscrew.university.utils;
 
+import com.botscrew.university.metrics.AsyncRingBufferAppender;
+import com.botscrew.university.metrics.InstrumentedConnection;
+import com.botscrew.university.metrics.MetricsRegistry;
+import com.botscrew.university.metrics.QueryMetrics;
+import com.botscrew.university.metrics.SlowQueryLog;
+import com.botscrew.university.metrics.SqlNames;
+
 import java.io.FileNotFoundException;
 import java.io.FileReader;
 import java.io.IOException;
+import java.io.PrintWriter;
 import java.net.URL;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
+import java.util.Optional;
 import java.util.Properties;
 
-public class ConnectionProvider {
+public class ConnectionProvider implements AutoCloseable {
 
-    private String connectionUrl;
-    private String userName;
-    private String password;
+    private final Properties properties;
+    private final String connectionUrl;
+    private final String userName;
+    private final String password;
+    private final ConnectionPool connectionPool;
+    private final SqlNames sqlNames = new SqlNames();
+    private final MetricsRegistry metricsRegistry;
+    private final SlowQueryLog slowQueryLog;
 
     public ConnectionProvider() throws FileNotFoundException {
-        prepareDataForConnection();
+        this(loadProperties());
+    }
+
+    public ConnectionProvider(Properties properties) {
+        this.properties = properties;
+        connectionUrl = properties.getProperty("url");
+        userName = properties.getProperty("user");
+        password = properties.getProperty("password");
+        if (getBooleanProperty("pool.enabled", false)) {
+            connectionPool = new ConnectionPool(this::openConnection, PoolSettings.from(this));
+        } else {
+            connectionPool = null;
+        }
+        if (getBooleanProperty("metrics.enabled", false)) {
+            metricsRegistry = new MetricsRegistry(this::getPoolStatistics, getBooleanProperty("metrics.jmx", true));
+        } else {
+            metricsRegistry = null;
+        }
+        if (getBooleanProperty("slowQuery.enabled", false)) {
+            slowQueryLog = new SlowQueryLog(getLongProperty("slowQuery.thresholdMillis", 500),
+                    Double.parseDouble(getProperty("slowQuery.sampleRate", "1")),
+                    SlowQueryLog.Redaction.valueOf(getProperty("slowQuery.redaction", "strings").toUpperCase()),
+                    new AsyncRingBufferAppender<>(getIntProperty("slowQuery.bufferSize", 1024), SlowQueryLog::format,
+                            new PrintWriter(System.err)));
+        } else {
+            slowQueryLog = null;
+        }
     }
 
     public Connection getConnection() throws SQLException {
+        Connection connection;
+        if (metricsRegistry == null) {
+            connection = acquireConnection();
+        } else {
+            long start = System.nanoTime();
+            connection = acquireConnection();
+            metricsRegistry.recordAcquire(System.nanoTime() - start);
+        }
+        return slowQueryLog == null ? connection : InstrumentedConnection.wrap(connection, sqlNames, slowQueryLog);
+    }
+
+    public void registerSqlNames(Class<?> owner) {
+        if (slowQueryLog != null) {
+            sqlNames.register(owner);
+        }
+    }
+
+    public QueryMetrics getQueryMetrics(String name) {
+        return metricsRegistry != null ? metricsRegistry.forName(name) : QueryMetrics.DISABLED;
+    }
+
+    public Optional<PoolStatistics> getPoolStatistics() {
+        return Optional.ofNullable(connectionPool).map(ConnectionPool::getStatistics);
+    }
+
+    public Optional<MetricsRegistry> getMetricsRegistry() {
+        return Optional.ofNullable(metricsRegistry);
+    }
+
+    public String getProperty(String key, String defaultValue) {
+        String value = properties.getProperty(key);
+        return value == null ? defaultValue : value.trim();
+    }
+
+    public int getIntProperty(String key, int defaultValue) {
+        String value = properties.getProperty(key);
+        return value == null ? defaultValue : Integer.parseInt(value.trim());
+    }
+
+    public long getLongProperty(String key, long defaultValue) {
+        String value = properties.getProperty(key);
+        return value == null ? defaultValue : Long.parseLong(value.trim());
+    }
+
+    public boolean getBooleanProperty(String key, boolean defaultValue) {
+        String value = properties.getProperty(key);
+        return value == null ? defaultValue : Boolean.parseBoolean(value.trim());
+    }
+
+    @Override
+    public void close() {
+        if (connectionPool != null) {
+            connectionPool.close();
+        }
+        if (metricsRegistry != null) {
+            metricsRegistry.close();
+        }
+        if (slowQueryLog != null) {
+            slowQueryLog.close();
+        }
+    }
+
+    private Connection acquireConnection() throws SQLException {
+        if (connectionPool != null) {
+            return connectionPool.getConnection();
+        }
+        return openConnection();
+    }
+
+    private Connection openConnection() throws SQLException {
         return DriverManager.getConnection(connectionUrl, userName, password);
     }
 
-    private void prepareDataForConnection() throws FileNotFoundException {
+    private static Properties loadProperties() throws FileNotFoundException {
         Properties properties = new Properties();
-        URL dataBasePropertyFile = this.getClass().getClassLoader().getResource("config.properties");
+        URL dataBasePropertyFile = ConnectionProvider.class.getClassLoader().getResource("config.properties");
         if (dataBasePropertyFile == null) {
             throw new FileNotFoundException("Missing file config.properties");
         }
-        try {
-            String pathToPropertyFile = dataBasePropertyFile.getPath();
-            FileReader fileReader = new FileReader(pathToPropertyFile);
+        String pathToPropertyFile = dataBasePropertyFile.getPath();
+        try (FileReader fileReader = new FileReader(pathToPropertyFile)) {
             properties.load(fileReader);
-            connectionUrl = properties.getProperty("url");
-            userName = properties.getProperty("user");
-            password = properties.getProperty("password");
         } catch (IOException exception) {
             exception.printStackTrace();
         }
+        return properties;
     }
 }
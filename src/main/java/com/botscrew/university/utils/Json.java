@@ -0,0 +1,65 @@
+package com.botscrew.university.utils;
+
+import java.util.Collection;
+import java.util.Map;
+
+public final class Json {
+
+    private Json() {
+    }
+
+    public static String toJson(Object value) {
+        StringBuilder json = new StringBuilder(128);
+        append(json, value);
+        return json.toString();
+    }
+
+    public static void append(StringBuilder json, Object value) {
+        if (value == null) {
+            json.append("null");
+        } else if (value instanceof Number || value instanceof Boolean) {
+            json.append(value);
+        } else if (value instanceof Map) {
+            json.append('{');
+            boolean first = true;
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                if (!first) {
+                    json.append(',');
+                }
+                first = false;
+                appendText(json, String.valueOf(entry.getKey()));
+                json.append(':');
+                append(json, entry.getValue());
+            }
+            json.append('}');
+        } else if (value instanceof Collection) {
+            json.append('[');
+            boolean first = true;
+            for (Object item : (Collection<?>) value) {
+                if (!first) {
+                    json.append(',');
+                }
+                first = false;
+                append(json, item);
+            }
+            json.append(']');
+        } else {
+            appendText(json, value.toString());
+        }
+    }
+
+    private static void appendText(StringBuilder json, String text) {
+        json.append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"' || c == '\\') {
+                json.append('\\').append(c);
+            } else if (c < 0x20) {
+                json.append(String.format("\\u%04x", (int) c));
+            } else {
+                json.append(c);
+            }
+        }
+        json.append('"');
+    }
+}
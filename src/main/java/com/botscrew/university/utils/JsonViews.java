@@ -0,0 +1,72 @@
+package com.botscrew.university.utils;
+
+import com.botscrew.university.domain.DepartmentSalaryDistribution;
+import com.botscrew.university.domain.Lector;
+import com.botscrew.university.domain.SalaryDistribution;
+import com.botscrew.university.domain.SearchHit;
+import com.botscrew.university.domain.SearchResult;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public final class JsonViews {
+
+    private JsonViews() {
+    }
+
+    public static Map<String, Object> lector(Lector lector) {
+        if (lector == null) {
+            return null;
+        }
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("id", lector.getId());
+        result.put("name", lector.getName());
+        result.put("surname", lector.getSurname());
+        return result;
+    }
+
+    public static Map<String, Object> searchResult(SearchResult searchResult) {
+        List<Map<String, Object>> hits = new ArrayList<>();
+        for (SearchHit hit : searchResult.getHits()) {
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("source", hit.getSource());
+            result.put("id", hit.getId());
+            result.put("text", hit.getText());
+            hits.add(result);
+        }
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("hits", hits);
+        result.put("partial", searchResult.isPartial());
+        return result;
+    }
+
+    public static Map<String, Object> salaryDistribution(DepartmentSalaryDistribution distribution) {
+        Map<String, Object> degrees = new LinkedHashMap<>();
+        distribution.getDegrees().forEach((degree, degreeDistribution) ->
+                degrees.put(degree, salaryDistribution(degreeDistribution)));
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("department", distribution.getName());
+        result.put("total", salaryDistribution(distribution.getTotal()));
+        result.put("degrees", degrees);
+        return result;
+    }
+
+    private static Map<String, Object> salaryDistribution(SalaryDistribution distribution) {
+        if (distribution == null) {
+            return null;
+        }
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("count", distribution.getCount());
+        result.put("mean", distribution.getMean());
+        result.put("standardDeviation", distribution.getStandardDeviation());
+        result.put("min", distribution.getMinSalary());
+        result.put("max", distribution.getMaxSalary());
+        result.put("median", distribution.getMedian());
+        result.put("p90", distribution.getP90());
+        result.put("p99", distribution.getP99());
+        result.put("bands", distribution.getBands());
+        return result;
+    }
+}
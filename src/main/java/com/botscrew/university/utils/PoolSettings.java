@@ -0,0 +1,65 @@
+package com.botscrew.university.utils;
+
+public class PoolSettings {
+
+    private final int minSize;
+    private final int maxSize;
+    private final long acquireTimeoutMillis;
+    private final long idleTimeoutMillis;
+    private final int validationTimeoutSeconds;
+    private final long leakDetectionThresholdMillis;
+    private final int statementCacheSize;
+
+    public PoolSettings(int minSize, int maxSize, long acquireTimeoutMillis, long idleTimeoutMillis,
+                        int validationTimeoutSeconds, long leakDetectionThresholdMillis, int statementCacheSize) {
+        if (minSize < 0 || maxSize < 1 || minSize > maxSize) {
+            throw new IllegalArgumentException(
+                    String.format("Pool size must satisfy 0 <= min <= max and max >= 1, got min %d max %d", minSize, maxSize));
+        }
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.validationTimeoutSeconds = validationTimeoutSeconds;
+        this.leakDetectionThresholdMillis = leakDetectionThresholdMillis;
+        this.statementCacheSize = statementCacheSize;
+    }
+
+    public static PoolSettings from(ConnectionProvider connectionProvider) {
+        return new PoolSettings(connectionProvider.getIntProperty("pool.minSize", 2),
+                connectionProvider.getIntProperty("pool.maxSize", 10),
+                connectionProvider.getLongProperty("pool.acquireTimeoutMillis", 30_000),
+                connectionProvider.getLongProperty("pool.idleTimeoutMillis", 600_000),
+                connectionProvider.getIntProperty("pool.validationTimeoutSeconds", 5),
+                connectionProvider.getLongProperty("pool.leakDetectionThresholdMillis", 0),
+                connectionProvider.getIntProperty("pool.statementCacheSize", 32));
+    }
+
+    public int getMinSize() {
+        return minSize;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public long getAcquireTimeoutMillis() {
+        return acquireTimeoutMillis;
+    }
+
+    public long getIdleTimeoutMillis() {
+        return idleTimeoutMillis;
+    }
+
+    public int getValidationTimeoutSeconds() {
+        return validationTimeoutSeconds;
+    }
+
+    public long getLeakDetectionThresholdMillis() {
+        return leakDetectionThresholdMillis;
+    }
+
+    public int getStatementCacheSize() {
+        return statementCacheSize;
+    }
+}
@@ -0,0 +1,83 @@
+package com.botscrew.university.utils;
+
+public class PoolStatistics {
+
+    private final int active;
+    private final int idle;
+    private final int waiters;
+    private final long acquired;
+    private final long timeouts;
+    private final long leaks;
+    private final long totalAcquireNanos;
+    private final long maxAcquireNanos;
+    private final long statementCacheHits;
+    private final long statementCacheMisses;
+
+    public PoolStatistics(int active, int idle, int waiters, long acquired, long timeouts, long leaks,
+                          long totalAcquireNanos, long maxAcquireNanos, long statementCacheHits,
+                          long statementCacheMisses) {
+        this.active = active;
+        this.idle = idle;
+        this.waiters = waiters;
+        this.acquired = acquired;
+        this.timeouts = timeouts;
+        this.leaks = leaks;
+        this.totalAcquireNanos = totalAcquireNanos;
+        this.maxAcquireNanos = maxAcquireNanos;
+        this.statementCacheHits = statementCacheHits;
+        this.statementCacheMisses = statementCacheMisses;
+    }
+
+    public int getActive() {
+        return active;
+    }
+
+    public int getIdle() {
+        return idle;
+    }
+
+    public int getWaiters() {
+        return waiters;
+    }
+
+    public long getAcquired() {
+        return acquired;
+    }
+
+    public long getTimeouts() {
+        return timeouts;
+    }
+
+    public long getLeaks() {
+        return leaks;
+    }
+
+    public double getAverageAcquireMicros() {
+        return acquired == 0 ? 0 : totalAcquireNanos / 1000.0 / acquired;
+    }
+
+    public double getMaxAcquireMicros() {
+        return maxAcquireNanos / 1000.0;
+    }
+
+    public long getStatementCacheHits() {
+        return statementCacheHits;
+    }
+
+    public long getStatementCacheMisses() {
+        return statementCacheMisses;
+    }
+
+    public double getStatementCacheHitRatio() {
+        long lookups = statementCacheHits + statementCacheMisses;
+        return lookups == 0 ? 0 : (double) statementCacheHits / lookups;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("active=%d idle=%d waiters=%d acquired=%d timeouts=%d leaks=%d avgAcquire=%.1fus " +
+                        "maxAcquire=%.1fus statementCacheHits=%d statementCacheMisses=%d",
+                active, idle, waiters, acquired, timeouts, leaks, getAverageAcquireMicros(), getMaxAcquireMicros(),
+                statementCacheHits, statementCacheMisses);
+    }
+}
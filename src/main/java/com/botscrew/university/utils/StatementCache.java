@@ -0,0 +1,212 @@
+package com.botscrew.university.utils;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.sql.Statement.NO_GENERATED_KEYS;
+
+class StatementCache {
+
+    private final Connection connection;
+    private final int capacity;
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private final LinkedHashMap<Key, CachedStatement> statements;
+
+    StatementCache(Connection connection, int capacity, LongAdder hits, LongAdder misses) {
+        this.connection = connection;
+        this.capacity = capacity;
+        this.hits = hits;
+        this.misses = misses;
+        statements = new LinkedHashMap<Key, CachedStatement>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, CachedStatement> eldest) {
+                if (size() > StatementCache.this.capacity) {
+                    eldest.getValue().evict();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    static boolean isCacheable(Method method) {
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        return method.getName().equals("prepareStatement") && parameterTypes[0] == String.class
+                && (parameterTypes.length == 1 || parameterTypes.length == 2 && parameterTypes[1] == int.class);
+    }
+
+    synchronized PreparedStatement prepareStatement(Connection owner, Object[] args) throws SQLException {
+        String sql = (String) args[0];
+        int autoGeneratedKeys = args.length == 2 ? (Integer) args[1] : NO_GENERATED_KEYS;
+        Key key = new Key(sql, autoGeneratedKeys);
+        CachedStatement cachedStatement = statements.get(key);
+        if (cachedStatement != null && !cachedStatement.inUse) {
+            hits.increment();
+        } else {
+            misses.increment();
+            PreparedStatement statement = autoGeneratedKeys == NO_GENERATED_KEYS
+                    ? connection.prepareStatement(sql)
+                    : connection.prepareStatement(sql, autoGeneratedKeys);
+            if (cachedStatement != null) {
+                cachedStatement = new CachedStatement(statement);
+                cachedStatement.evicted = true;
+            } else {
+                cachedStatement = new CachedStatement(statement);
+                statements.put(key, cachedStatement);
+            }
+        }
+        cachedStatement.inUse = true;
+        return cachedStatement.newHandle(owner);
+    }
+
+    synchronized void close() {
+        List<CachedStatement> cachedStatements = new ArrayList<>(statements.values());
+        statements.clear();
+        cachedStatements.forEach(CachedStatement::evict);
+    }
+
+    private synchronized void returned(CachedStatement cachedStatement) {
+        cachedStatement.inUse = false;
+        if (cachedStatement.evicted) {
+            cachedStatement.closePhysically();
+            return;
+        }
+        try {
+            cachedStatement.reset();
+        } catch (SQLException e) {
+            statements.values().remove(cachedStatement);
+            cachedStatement.closePhysically();
+        }
+    }
+
+    private static final class Key {
+
+        private final String sql;
+        private final int autoGeneratedKeys;
+
+        private Key(String sql, int autoGeneratedKeys) {
+            this.sql = sql;
+            this.autoGeneratedKeys = autoGeneratedKeys;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return autoGeneratedKeys == key.autoGeneratedKeys &&
+                    sql.equals(key.sql);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(sql, autoGeneratedKeys);
+        }
+    }
+
+    private final class CachedStatement {
+
+        private final PreparedStatement statement;
+        private final int defaultFetchSize;
+        private final int defaultMaxRows;
+        private final int defaultQueryTimeout;
+        private boolean inUse;
+        private boolean evicted;
+
+        private CachedStatement(PreparedStatement statement) throws SQLException {
+            this.statement = statement;
+            defaultFetchSize = statement.getFetchSize();
+            defaultMaxRows = statement.getMaxRows();
+            defaultQueryTimeout = statement.getQueryTimeout();
+        }
+
+        private void reset() throws SQLException {
+            statement.clearParameters();
+            statement.clearBatch();
+            if (statement.getFetchSize() != defaultFetchSize) {
+                statement.setFetchSize(defaultFetchSize);
+            }
+            if (statement.getMaxRows() != defaultMaxRows) {
+                statement.setMaxRows(defaultMaxRows);
+            }
+            if (statement.getQueryTimeout() != defaultQueryTimeout) {
+                statement.setQueryTimeout(defaultQueryTimeout);
+            }
+        }
+
+        private PreparedStatement newHandle(Connection owner) {
+            return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class}, new StatementHandle(this, owner));
+        }
+
+        private void evict() {
+            evicted = true;
+            if (!inUse) {
+                closePhysically();
+            }
+        }
+
+        private void closePhysically() {
+            try {
+                statement.close();
+            } catch (SQLException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    private final class StatementHandle implements InvocationHandler {
+
+        private final CachedStatement cachedStatement;
+        private final Connection owner;
+        private boolean closed;
+
+        private StatementHandle(CachedStatement cachedStatement, Connection owner) {
+            this.cachedStatement = cachedStatement;
+            this.owner = owner;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (!closed) {
+                        closed = true;
+                        returned(cachedStatement);
+                    }
+                    return null;
+                case "isClosed":
+                    return closed || cachedStatement.statement.isClosed();
+                case "getConnection":
+                    return owner;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Cached " + cachedStatement.statement;
+                default:
+                    if (closed) {
+                        throw new SQLException("Statement is closed");
+                    }
+                    try {
+                        return method.invoke(cachedStatement.statement, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+            }
+        }
+    }
+}
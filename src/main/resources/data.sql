@@ -1,7 +1,12 @@
-INSERT INTO lectors (name, surname, degree, salary)
-VALUES ('First', 'Lector', 'assistant', 1000),
-       ('Second', 'Lector', 'associate professor', 2000),
-       ('Third', 'Lector', 'professor', 3000);
+INSERT INTO degrees (name)
+VALUES ('assistant'),
+       ('associate professor'),
+       ('professor');
+
+INSERT INTO lectors (name, surname, degree_id, salary)
+VALUES ('First', 'Lector', 1, 1000),
+       ('Second', 'Lector', 2, 2000),
+       ('Third', 'Lector', 3, 3000);
 
 INSERT INTO departments (name, head)
 VALUES ('Applied math', 1),
@@ -0,0 +1,25 @@
+BEGIN;
+
+CREATE TABLE IF NOT EXISTS degrees
+(
+    id   SMALLINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(255) NOT NULL UNIQUE
+);
+
+INSERT INTO degrees (name)
+SELECT DISTINCT degree
+FROM lectors
+WHERE degree IS NOT NULL
+ON CONFLICT (name) DO NOTHING;
+
+ALTER TABLE lectors ADD COLUMN degree_id SMALLINT;
+
+UPDATE lectors
+SET degree_id = degrees.id
+FROM degrees
+WHERE lectors.degree = degrees.name;
+
+ALTER TABLE lectors DROP COLUMN degree;
+ALTER TABLE lectors ADD CONSTRAINT FK_lectors_to_degrees FOREIGN KEY (degree_id) REFERENCES degrees (id) ON UPDATE CASCADE;
+
+COMMIT;
@@ -0,0 +1,16 @@
+BEGIN;
+
+SELECT name, COUNT(*) AS duplicates
+FROM departments
+GROUP BY name
+HAVING COUNT(*) > 1;
+
+UPDATE departments
+SET name = departments.name || ' (' || departments.id || ')'
+FROM (SELECT name, MIN(id) AS id FROM departments GROUP BY name) AS kept
+WHERE departments.name = kept.name
+  AND departments.id <> kept.id;
+
+ALTER TABLE departments ADD CONSTRAINT UQ_departments_name UNIQUE (name);
+
+COMMIT;
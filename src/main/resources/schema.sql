@@ -1,14 +1,22 @@
 DROP TABLE IF EXISTS departments_lectors;
 DROP TABLE IF EXISTS departments;
 DROP TABLE IF EXISTS lectors;
+DROP TABLE IF EXISTS degrees;
+
+CREATE TABLE degrees
+(
+    id   SMALLINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(255) NOT NULL UNIQUE
+);
 
 CREATE TABLE lectors
 (
-    id      serial PRIMARY KEY,
-    name    VARCHAR(255),
-    surname VARCHAR(255),
-    degree  VARCHAR(255),
-    salary  INT
+    id        serial PRIMARY KEY,
+    name      VARCHAR(255),
+    surname   VARCHAR(255),
+    degree_id SMALLINT,
+    salary    INT,
+    CONSTRAINT FK_lectors_to_degrees FOREIGN KEY (degree_id) REFERENCES degrees (id) ON UPDATE CASCADE
 );
 
 CREATE TABLE departments
@@ -16,6 +24,7 @@ CREATE TABLE departments
     id   serial PRIMARY KEY,
     name VARCHAR(255),
     head INT,
+    CONSTRAINT UQ_departments_name UNIQUE (name),
     CONSTRAINT FK_departments_to_lectors FOREIGN KEY (head) REFERENCES lectors (id) ON UPDATE CASCADE ON DELETE CASCADE
 );
 
@@ -0,0 +1,5 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS lectors_name_trgm_idx ON lectors USING gin (name gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS lectors_surname_trgm_idx ON lectors USING gin (surname gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS departments_name_trgm_idx ON departments USING gin (name gin_trgm_ops);
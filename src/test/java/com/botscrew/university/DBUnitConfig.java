@@ -1,5 +1,6 @@
 package com.botscrew.university;
 
+import com.botscrew.university.dao.DegreeDictionary;
 import com.botscrew.university.dao.DepartmentDao;
 import com.botscrew.university.dao.LectorDao;
 import com.botscrew.university.utils.ConnectionProvider;
@@ -22,8 +23,9 @@ public class DBUnitConfig extends DBTestCase {
     private final Properties properties;
     protected IDataSet beforeData;
     protected ConnectionProvider connectionProvider = new ConnectionProvider();
-    protected LectorDao lectorDao = new LectorDao(connectionProvider);
-    protected DepartmentDao departmentDao = new DepartmentDao(connectionProvider);
+    protected DegreeDictionary degreeDictionary = new DegreeDictionary(connectionProvider);
+    protected LectorDao lectorDao = new LectorDao(connectionProvider, degreeDictionary);
+    protected DepartmentDao departmentDao = new DepartmentDao(connectionProvider, degreeDictionary);
 
     @Before
     public void setUp() throws Exception {
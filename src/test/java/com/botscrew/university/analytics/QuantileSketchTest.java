@@ -0,0 +1,45 @@
+package com.botscrew.university.analytics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QuantileSketchTest {
+
+    @Test
+    void givenFewerDistinctValuesThanCapacity_whenQuantile_thenInterpolatedExactlyLikePercentileCont() {
+        QuantileSketch sketch = new QuantileSketch(16);
+        for (int value : new int[]{40, 10, 30, 20, 20}) {
+            sketch.add(value);
+        }
+
+        assertTrue(sketch.isExact());
+        assertEquals(10.0, sketch.quantile(0));
+        assertEquals(20.0, sketch.quantile(0.5));
+        assertEquals(36.0, sketch.quantile(0.9), 1e-9);
+        assertEquals(40.0, sketch.quantile(1));
+    }
+
+    @Test
+    void givenMoreDistinctValuesThanCapacity_whenQuantile_thenApproximatedWithinHalfPercentOfRange() {
+        QuantileSketch sketch = new QuantileSketch(200);
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            sketch.add(random.nextInt(100_000));
+        }
+
+        assertFalse(sketch.isExact());
+        assertEquals(100_000, sketch.getCount());
+        assertEquals(50_000, sketch.quantile(0.5), 500);
+        assertEquals(90_000, sketch.quantile(0.9), 500);
+        assertEquals(99_000, sketch.quantile(0.99), 500);
+    }
+
+    @Test
+    void givenEmptySketch_whenQuantile_thenReturnedZero() {
+        assertEquals(0.0, new QuantileSketch(2).quantile(0.5));
+        assertThrows(IllegalArgumentException.class, () -> new QuantileSketch(2).quantile(1.5));
+    }
+}
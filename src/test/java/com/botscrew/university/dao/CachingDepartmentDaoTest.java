@@ -0,0 +1,124 @@
+package com.botscrew.university.dao;
+
+import com.botscrew.university.DBUnitConfig;
+import com.botscrew.university.DBUnitConfigParameterResolver;
+import com.botscrew.university.domain.Department;
+import com.botscrew.university.domain.Lector;
+import org.dbunit.dataset.xml.FlatXmlDataSetBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.io.File;
+import java.sql.Statement;
+import java.util.Optional;
+
+@ExtendWith(DBUnitConfigParameterResolver.class)
+class CachingDepartmentDaoTest extends DBUnitConfig {
+
+    private final EntityCache<Department> departmentCache = new EntityCache<>(2, Department::new, Department::getId,
+            Department::getName);
+    private final CachingDepartmentDao cachingDepartmentDao = new CachingDepartmentDao(connectionProvider,
+            degreeDictionary, departmentCache);
+    private final CachingLectorDao cachingLectorDao = new CachingLectorDao(connectionProvider, degreeDictionary,
+            new EntityCache<>(2, Lector::new, Lector::getId), departmentCache);
+
+    public CachingDepartmentDaoTest(String name) throws Exception {
+        super(name);
+    }
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        super.setUp();
+        String file = getClass().getClassLoader().getResource("preparedDataset.xml").getFile();
+        beforeData = new FlatXmlDataSetBuilder().build(new File(file));
+        tester.setDataSet(beforeData);
+        tester.onSetup();
+    }
+
+    @Test
+    void givenCachedDepartment_whenGetByName_thenReturnedWithoutQueryingDatabase() throws Exception {
+        cachingDepartmentDao.getByName("Biology");
+        renameInDatabase(3, "CHANGED");
+
+        Department actualDepartment = cachingDepartmentDao.getByName("Biology").orElse(null);
+
+        assertEquals(new Department(3, "Biology", 3), actualDepartment);
+        assertEquals(1, cachingDepartmentDao.getCacheStatistics().getHits());
+    }
+
+    @Test
+    void givenCachedDepartment_whenUpdate_thenOldNameInvalidated() {
+        cachingDepartmentDao.getByName("Biology");
+
+        cachingDepartmentDao.update(new Department(3, "UPDATED", 3));
+
+        assertEquals(Optional.empty(), cachingDepartmentDao.getByName("Biology"));
+        assertEquals(new Department(3, "UPDATED", 3), cachingDepartmentDao.getById(3).orElse(null));
+    }
+
+    @Test
+    void givenReturnedDepartmentRenamedByCaller_whenUpdate_thenOldNameInvalidated() {
+        Department department = cachingDepartmentDao.getByName("Biology").orElse(null);
+        department.setName("UPDATED");
+        assertEquals(new Department(3, "Biology", 3), cachingDepartmentDao.getById(3).orElse(null));
+
+        cachingDepartmentDao.update(department);
+
+        assertEquals(Optional.empty(), cachingDepartmentDao.getByName("Biology"));
+    }
+
+    @Test
+    void givenInvalidationDuringRead_whenPut_thenStaleDepartmentNotCached() {
+        long generation = departmentCache.generation();
+        departmentCache.invalidate(3);
+
+        assertFalse(departmentCache.put(new Department(3, "Biology", 3), generation));
+        assertEquals(Optional.empty(), departmentCache.getById(3));
+    }
+
+    @Test
+    void givenCachedDepartment_whenDelete_thenReturnedOptionalEmpty() {
+        cachingDepartmentDao.getById(3);
+
+        cachingDepartmentDao.delete(3);
+
+        assertEquals(Optional.empty(), cachingDepartmentDao.getById(3));
+    }
+
+    @Test
+    void givenHeadDeleted_whenGetByName_thenCascadedDeleteVisible() {
+        cachingDepartmentDao.getByName("Biology");
+
+        cachingLectorDao.delete(3);
+
+        assertEquals(Optional.empty(), cachingDepartmentDao.getByName("Biology"));
+    }
+
+    @Test
+    void givenMoreDepartmentsThanMaxSize_whenGetById_thenEldestEvicted() {
+        cachingDepartmentDao.getById(1);
+        cachingDepartmentDao.getById(2);
+        cachingDepartmentDao.getById(3);
+
+        assertEquals(2, cachingDepartmentDao.getCacheStatistics().getSize());
+        assertEquals(1, cachingDepartmentDao.getCacheStatistics().getEvictions());
+    }
+
+    @Test
+    void givenCachedDepartmentAndHead_whenGetHeadOfDepartment_thenReturnedCachedHead() throws Exception {
+        cachingDepartmentDao.getByName("Biology");
+        cachingLectorDao.getById(3);
+        renameInDatabase(3, "CHANGED");
+
+        Lector actualHead = cachingLectorDao.getHeadOfDepartment("Biology").orElse(null);
+
+        assertEquals(new Lector(3, "Third", "Lector", "professor", 3000), actualHead);
+    }
+
+    private void renameInDatabase(int id, String name) throws Exception {
+        try (Statement statement = tester.getConnection().getConnection().createStatement()) {
+            statement.executeUpdate("UPDATE departments SET name = '" + name + "' WHERE id = " + id);
+        }
+    }
+}
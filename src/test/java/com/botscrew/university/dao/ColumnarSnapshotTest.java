@@ -0,0 +1,107 @@
+package com.botscrew.university.dao;
+
+import com.botscrew.university.DBUnitConfig;
+import com.botscrew.university.DBUnitConfigParameterResolver;
+import com.botscrew.university.domain.DepartmentStatistic;
+import com.botscrew.university.domain.Lector;
+import org.dbunit.dataset.xml.FlatXmlDataSetBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.io.File;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+@ExtendWith(DBUnitConfigParameterResolver.class)
+class ColumnarSnapshotTest extends DBUnitConfig {
+
+    private final ColumnarSnapshot snapshot = new ColumnarSnapshot(connectionProvider, degreeDictionary);
+
+    public ColumnarSnapshotTest(String name) throws Exception {
+        super(name);
+    }
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        super.setUp();
+        String file = getClass().getClassLoader().getResource("preparedDataset.xml").getFile();
+        beforeData = new FlatXmlDataSetBuilder().build(new File(file));
+        tester.setDataSet(beforeData);
+        tester.onSetup();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        snapshot.close();
+    }
+
+    @Test
+    void givenNotRefreshedSnapshot_whenGetStatisticByName_thenReturnedOptionalEmpty() {
+        assertEquals(0, snapshot.getVersion());
+        assertEquals(Optional.empty(), snapshot.getStatisticByName("Biology"));
+    }
+
+    @Test
+    void givenRefreshedSnapshot_whenGetStatistics_thenMatchedGroupedQuery() {
+        lectorDao.save(new Lector("Fourth", "Lector", "assistant", 1500));
+        departmentDao.addLector(3, 1);
+        departmentDao.addLector(3, 4);
+        departmentDao.removeLector(2, 2);
+
+        snapshot.refresh();
+
+        assertEquals(4, snapshot.getLectorCount());
+        assertEquals(departmentDao.getStatistics(), snapshot.getStatistics());
+        assertEquals(Arrays.asList("Applied math", "Physics", "Biology"),
+                Arrays.asList(snapshot.getStatistics().keySet().toArray()));
+        assertEquals(departmentDao.getStatisticsByNames(Arrays.asList("Biology", "NON EXISTENT")),
+                snapshot.getStatisticsByNames(Arrays.asList("Biology", "NON EXISTENT")));
+    }
+
+    @Test
+    void givenChangeAfterRefresh_whenRefreshAgain_thenNewVersionReflectsChange() {
+        long firstVersion = snapshot.refresh();
+        departmentDao.addLector(3, 1);
+
+        DepartmentStatistic staleStatistic = snapshot.getStatisticByName("Biology").orElse(null);
+        long secondVersion = snapshot.refresh();
+        DepartmentStatistic freshStatistic = snapshot.getStatisticByName("Biology").orElse(null);
+
+        Map<String, Integer> degrees = new HashMap<>();
+        degrees.put("assistant", 1);
+        degrees.put("professor", 1);
+        assertEquals(firstVersion + 1, secondVersion);
+        assertEquals(new DepartmentStatistic("Biology", 1, 3000.0, 3000, 3000,
+                Collections.singletonMap("professor", 1)), staleStatistic);
+        assertEquals(new DepartmentStatistic("Biology", 2, 2000.0, 1000, 3000, degrees), freshStatistic);
+        assertTrue(snapshot.getFootprintBytes() > 0);
+    }
+
+    @Test
+    void givenNullSalaryDegreeAndDepartmentName_whenRefresh_thenAveragedLikeSqlAndFootprintComputed()
+            throws Exception {
+        try (Statement statement = tester.getConnection().getConnection().createStatement()) {
+            statement.executeUpdate("INSERT INTO lectors (name, surname, degree_id, salary) " +
+                    "VALUES ('Fourth', 'Lector', NULL, NULL)");
+            statement.executeUpdate("INSERT INTO departments_lectors VALUES (3, 4)");
+            statement.executeUpdate("INSERT INTO departments (name, head) VALUES (NULL, 1)");
+        }
+
+        snapshot.refresh();
+
+        Map<String, Integer> degrees = new HashMap<>();
+        degrees.put("professor", 1);
+        degrees.put(null, 1);
+        DepartmentStatistic biology = snapshot.getStatisticByName("Biology").orElse(null);
+        assertEquals(new DepartmentStatistic("Biology", 2, 3000.0, 3000, 3000, degrees), biology);
+        assertEquals(departmentDao.getAverageSalaryByName("Biology"), biology.getAverageSalary());
+        assertEquals(departmentDao.getStatistics(), snapshot.getStatistics());
+        assertTrue(snapshot.getFootprintBytes() > 0);
+    }
+}
@@ -0,0 +1,61 @@
+package com.botscrew.university.dao;
+
+import com.botscrew.university.DBUnitConfig;
+import com.botscrew.university.DBUnitConfigParameterResolver;
+import org.dbunit.dataset.xml.FlatXmlDataSetBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.io.File;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+@ExtendWith(DBUnitConfigParameterResolver.class)
+class DegreeDictionaryTest extends DBUnitConfig {
+
+    public DegreeDictionaryTest(String name) throws Exception {
+        super(name);
+    }
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        super.setUp();
+        String file = getClass().getClassLoader().getResource("preparedDataset.xml").getFile();
+        beforeData = new FlatXmlDataSetBuilder().build(new File(file));
+        tester.setDataSet(beforeData);
+        tester.onSetup();
+    }
+
+    @Test
+    void givenOpenTransaction_whenIdOfNewDegree_thenCreatedWithinTransaction() throws Exception {
+        try (Connection connection = connectionProvider.getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                int id = degreeDictionary.idOf(connection, "lecturer");
+
+                assertEquals(Integer.valueOf(id), degreeDictionary.idOf(connection, "lecturer"));
+                try (Statement statement = connection.createStatement();
+                     ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM degrees")) {
+                    resultSet.next();
+                    assertEquals(4, resultSet.getInt(1));
+                }
+            } finally {
+                connection.rollback();
+                connection.setAutoCommit(true);
+            }
+        }
+    }
+
+    @Test
+    void givenDegreeAddedAfterLoad_whenNameOf_thenReloadedFromDatabase() throws Exception {
+        assertEquals("assistant", lectorDao.getById(1).get().getDegree());
+        try (Statement statement = tester.getConnection().getConnection().createStatement()) {
+            statement.executeUpdate("INSERT INTO degrees (id, name) VALUES (10, 'lecturer')");
+            statement.executeUpdate("UPDATE lectors SET degree_id = 10 WHERE id = 1");
+        }
+
+        assertEquals("lecturer", lectorDao.getById(1).get().getDegree());
+    }
+}
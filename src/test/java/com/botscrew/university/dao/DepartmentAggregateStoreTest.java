@@ -0,0 +1,155 @@
+package com.botscrew.university.dao;
+
+import com.botscrew.university.DBUnitConfig;
+import com.botscrew.university.DBUnitConfigParameterResolver;
+import com.botscrew.university.domain.Department;
+import com.botscrew.university.domain.DepartmentStatistic;
+import com.botscrew.university.domain.Lector;
+import org.dbunit.dataset.xml.FlatXmlDataSetBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.io.File;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@ExtendWith(DBUnitConfigParameterResolver.class)
+class DepartmentAggregateStoreTest extends DBUnitConfig {
+
+    private final DepartmentAggregateStore aggregateStore = new DepartmentAggregateStore(connectionProvider,
+            degreeDictionary);
+
+    public DepartmentAggregateStoreTest(String name) throws Exception {
+        super(name);
+    }
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        super.setUp();
+        String file = getClass().getClassLoader().getResource("preparedDataset.xml").getFile();
+        beforeData = new FlatXmlDataSetBuilder().build(new File(file));
+        tester.setDataSet(beforeData);
+        tester.onSetup();
+        aggregateStore.rebuild();
+    }
+
+    @Test
+    void givenRebuiltStore_whenGetStatisticByName_thenReturnedStatisticOfBiology() {
+        Map<String, Integer> degrees = new HashMap<>();
+        degrees.put("professor", 1);
+        DepartmentStatistic expectedStatistic = new DepartmentStatistic("Biology", 1, 3000.0, 3000, 3000, degrees);
+
+        DepartmentStatistic actualStatistic = aggregateStore.getStatisticByName("Biology").orElse(null);
+
+        assertEquals(expectedStatistic, actualStatistic);
+    }
+
+    @Test
+    void givenRebuiltStore_whenGetStatisticsAndGetStatisticsByNames_thenMatchedGroupedQuery() {
+        aggregateStore.lectorUnassigned(2, 2);
+        departmentDao.removeLector(2, 2);
+
+        assertEquals(departmentDao.getStatistics(), aggregateStore.getStatistics());
+        assertEquals(departmentDao.getStatisticsByNames(Arrays.asList("Physics", "Biology", "NON EXISTENT")),
+                aggregateStore.getStatisticsByNames(Arrays.asList("Physics", "Biology", "NON EXISTENT")));
+    }
+
+    @Test
+    void givenLectorWithoutSalary_whenRebuild_thenAverageSkipsNullLikeSql() throws Exception {
+        try (Statement statement = tester.getConnection().getConnection().createStatement()) {
+            statement.executeUpdate("INSERT INTO lectors (name, surname, degree_id, salary) " +
+                    "VALUES ('Fourth', 'Lector', 3, NULL)");
+            statement.executeUpdate("INSERT INTO departments_lectors VALUES (3, 4)");
+        }
+
+        aggregateStore.rebuild();
+
+        assertEquals(new DepartmentStatistic("Biology", 2, 3000.0, 3000, 3000,
+                Collections.singletonMap("professor", 2)), aggregateStore.getStatisticByName("Biology").orElse(null));
+        assertEquals(departmentDao.getStatistics(), aggregateStore.getStatistics());
+    }
+
+    @Test
+    void givenDeltaDuringRebuild_whenRebuild_thenDeltaReplayedOnRebuiltState() {
+        DepartmentAggregateStore[] store = new DepartmentAggregateStore[1];
+        AtomicBoolean applied = new AtomicBoolean();
+        DegreeDictionary hookedDictionary = new DegreeDictionary(connectionProvider) {
+            @Override
+            public String nameOf(ResultSet resultSet, int column) throws SQLException {
+                if (applied.compareAndSet(false, true)) {
+                    store[0].lectorSaved(new Lector(99, "Late", "Lector", "assistant", 5000));
+                }
+                return super.nameOf(resultSet, column);
+            }
+        };
+        store[0] = new DepartmentAggregateStore(connectionProvider, hookedDictionary);
+
+        store[0].rebuild();
+        store[0].lectorAssigned(3, 99);
+
+        DepartmentStatistic actualStatistic = store[0].getStatisticByName("Biology").orElse(null);
+        assertEquals(2, actualStatistic.getQuantityOfEmployee());
+        assertEquals(5000, actualStatistic.getMaxSalary());
+    }
+
+    @Test
+    void givenLectorAssigned_whenGetStatisticByName_thenStatisticIncludesLector() {
+        aggregateStore.lectorAssigned(3, 1);
+
+        DepartmentStatistic actualStatistic = aggregateStore.getStatisticByName("Biology").orElse(null);
+
+        assertEquals(2, actualStatistic.getQuantityOfEmployee());
+        assertEquals(2000.0, actualStatistic.getAverageSalary());
+        assertEquals(1000, actualStatistic.getMinSalary());
+        assertEquals(Integer.valueOf(1), actualStatistic.getDegreeStatistic().get("assistant"));
+    }
+
+    @Test
+    void givenLectorUpdated_whenGetStatisticByName_thenStatisticReflectsNewSalaryAndDegree() {
+        aggregateStore.lectorUpdated(new Lector(3, "Third", "Lector", "assistant", 4000));
+
+        DepartmentStatistic actualStatistic = aggregateStore.getStatisticByName("Biology").orElse(null);
+
+        assertEquals(4000.0, actualStatistic.getAverageSalary());
+        assertEquals(4000, actualStatistic.getMaxSalary());
+        assertEquals(singletonDegree("assistant"), actualStatistic.getDegreeStatistic());
+    }
+
+    @Test
+    void givenLectorUnassigned_whenGetStatisticByName_thenReturnedEmptyStatistic() {
+        aggregateStore.lectorUnassigned(3, 3);
+
+        DepartmentStatistic actualStatistic = aggregateStore.getStatisticByName("Biology").orElse(null);
+
+        assertEquals(new DepartmentStatistic("Biology", 0, 0, 0, 0, new HashMap<>()), actualStatistic);
+    }
+
+    @Test
+    void givenHeadDeleted_whenGetStatisticByName_thenReturnedOptionalEmpty() {
+        aggregateStore.lectorDeleted(3);
+
+        assertEquals(Optional.empty(), aggregateStore.getStatisticByName("Biology"));
+    }
+
+    @Test
+    void givenDepartmentRenamed_whenGetStatisticByName_thenFoundByNewName() {
+        aggregateStore.departmentUpdated(new Department(3, "UPDATED", 3));
+
+        assertEquals(Optional.empty(), aggregateStore.getStatisticByName("Biology"));
+        assertEquals(1, aggregateStore.getStatisticByName("UPDATED").get().getQuantityOfEmployee());
+    }
+
+    private Map<String, Integer> singletonDegree(String degree) {
+        Map<String, Integer> degrees = new HashMap<>();
+        degrees.put(degree, 1);
+        return degrees;
+    }
+}
@@ -3,7 +3,14 @@ package com.botscrew.university.dao;
 import com.botscrew.university.DBUnitConfig;
 import com.botscrew.university.DBUnitConfigParameterResolver;
 import com.botscrew.university.domain.Department;
+import com.botscrew.university.domain.DepartmentReport;
+import com.botscrew.university.domain.DepartmentStatistic;
 import com.botscrew.university.domain.Lector;
+import com.botscrew.university.domain.Page;
+import com.botscrew.university.exception.DepartmentNameNotUniqueException;
+import com.botscrew.university.exception.EntityNotFoundException;
+import com.botscrew.university.search.IndexingListener;
+import com.botscrew.university.search.TrigramIndex;
 import org.apache.commons.collections.list.AbstractLinkedList;
 import org.dbunit.Assertion;
 import org.dbunit.dataset.IDataSet;
@@ -14,7 +21,16 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.io.File;
+import java.sql.Statement;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @ExtendWith(DBUnitConfigParameterResolver.class)
 class DepartmentDaoTest extends DBUnitConfig {
@@ -86,6 +102,60 @@ class DepartmentDaoTest extends DBUnitConfig {
         Assertion.assertEquals(expectedTable, actualTable);
     }
 
+    @Test
+    void givenExistingName_whenSave_thenDepartmentNameNotUniqueExceptionThrown() {
+        Throwable exception = assertThrows(DepartmentNameNotUniqueException.class,
+                () -> departmentDao.save(new Department("Biology", 1)));
+
+        assertEquals("Department with name Biology already exist", exception.getMessage());
+        assertEquals(3, departmentDao.getAll().size());
+    }
+
+    @Test
+    void givenNonExistentHead_whenSave_thenEntityNotFoundExceptionThrown() {
+        Throwable exception = assertThrows(EntityNotFoundException.class,
+                () -> departmentDao.save(new Department("NEW", 10)));
+
+        assertEquals("Lector with id 10 is not present", exception.getMessage());
+    }
+
+    @Test
+    void givenNameOfAnotherDepartment_whenUpdate_thenDepartmentNameNotUniqueExceptionThrown() {
+        assertThrows(DepartmentNameNotUniqueException.class, () -> departmentDao.update(new Department(3, "Physics", 3)));
+
+        assertEquals(Optional.of(new Department(3, "Biology", 3)), departmentDao.getById(3));
+    }
+
+    @Test
+    void givenNonExistentId_whenUpdate_thenEntityNotFoundExceptionThrown() {
+        Throwable exception = assertThrows(EntityNotFoundException.class,
+                () -> departmentDao.update(new Department(10, "NEW", 1)));
+
+        assertEquals("Department with id 10 is not present", exception.getMessage());
+    }
+
+    @Test
+    void givenParallelWritersOfSameName_whenSave_thenOnlyOneDepartmentSaved() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            futures.add(executor.submit(() -> departmentDao.save(new Department("NEW", 1))));
+        }
+        int rejected = 0;
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                assertTrue(e.getCause() instanceof DepartmentNameNotUniqueException);
+                rejected++;
+            }
+        }
+        executor.shutdown();
+
+        assertEquals(7, rejected);
+        assertEquals(1, departmentDao.getByNames(Collections.singletonList("NEW")).size());
+    }
+
     @Test
     void givenId3_whenDelete_thenDeletedThirdDepartment() throws Exception {
         departmentDao.delete(3);
@@ -141,4 +211,240 @@ class DepartmentDaoTest extends DBUnitConfig {
 
         assertEquals(expectedResult, actualResult);
     }
-}
\ No newline at end of file
+
+    @Test
+    void givenFirstLector_whenAddLectorToBiology_thenQuantityOfEmployeeIncreased() {
+        departmentDao.addLector(3, 1);
+
+        assertEquals(2, departmentDao.getQuantityOfEmployeeByName("Biology"));
+    }
+
+    @Test
+    void givenThirdLector_whenRemoveLectorFromBiology_thenQuantityOfEmployeeDecreased() {
+        departmentDao.removeLector(3, 3);
+
+        assertEquals(0, departmentDao.getQuantityOfEmployeeByName("Biology"));
+    }
+
+    @Test
+    void givenBiologyWithTwoDegrees_whenGetDegreeStatisticByName_thenReturnedBothDegrees() {
+        departmentDao.addLector(3, 1);
+        Map<String, Integer> expectedResult = new HashMap<>();
+        expectedResult.put("professor", 1);
+        expectedResult.put("assistant", 1);
+
+        Map<String, Integer> actualResult = departmentDao.getDegreeStatisticByName("Biology");
+
+        assertEquals(expectedResult, actualResult);
+    }
+
+    @Test
+    void givenBiology_whenGetReportByName_thenReturnedFullReportOfBiology() {
+        departmentDao.addLector(3, 1);
+        Map<String, Integer> degreeStatistic = new HashMap<>();
+        degreeStatistic.put("professor", 1);
+        degreeStatistic.put("assistant", 1);
+        DepartmentReport expectedReport = new DepartmentReport(new Department(3, "Biology", 3),
+                new Lector(3, "Third", "Lector", "professor", 3000), 2, 2000.0, degreeStatistic);
+
+        DepartmentReport actualReport = departmentDao.getReportByName("Biology").orElse(null);
+
+        assertEquals(expectedReport, actualReport);
+    }
+
+    @Test
+    void givenLectorWithoutSalary_whenGetReportByName_thenAverageSalaryOverLectorsWithSalary() throws Exception {
+        departmentDao.addLector(3, 1);
+        try (Statement statement = tester.getConnection().getConnection().createStatement()) {
+            statement.executeUpdate("UPDATE lectors SET salary = NULL WHERE id = 1");
+        }
+
+        DepartmentReport actualReport = departmentDao.getReportByName("Biology").orElse(null);
+
+        assertEquals(2, actualReport.getQuantityOfEmployee());
+        assertEquals(3000.0, actualReport.getAverageSalary());
+    }
+
+    @Test
+    void givenDepartmentWithoutEmployees_whenGetReportByName_thenReturnedEmptyStatistic() {
+        departmentDao.removeLector(3, 3);
+        DepartmentReport expectedReport = new DepartmentReport(new Department(3, "Biology", 3),
+                new Lector(3, "Third", "Lector", "professor", 3000), 0, 0, new HashMap<>());
+
+        DepartmentReport actualReport = departmentDao.getReportByName("Biology").orElse(null);
+
+        assertEquals(expectedReport, actualReport);
+    }
+
+    @Test
+    void givenHeadWithoutName_whenGetReportByName_thenReturnedReportWithHead() throws Exception {
+        try (Statement statement = tester.getConnection().getConnection().createStatement()) {
+            statement.executeUpdate("UPDATE lectors SET name = NULL WHERE id = 3");
+        }
+
+        Lector actualHead = departmentDao.getReportByName("Biology").map(DepartmentReport::getHead).orElse(null);
+
+        assertEquals(3, actualHead.getId());
+        assertNull(actualHead.getName());
+        assertEquals("Lector", actualHead.getSurname());
+    }
+
+    @Test
+    void givenNonExistentDepartment_whenGetReportByName_thenReturnedOptionalEmpty() {
+        Optional<DepartmentReport> actualReport = departmentDao.getReportByName("NON EXISTENT");
+
+        assertEquals(Optional.empty(), actualReport);
+    }
+
+    @Test
+    void givenBiologyWithTwoLectorsAndEmptyPhysics_whenGetStatistics_thenReturnedStatisticOfEveryDepartment() {
+        departmentDao.addLector(3, 1);
+        departmentDao.removeLector(2, 2);
+        Map<String, Integer> biologyDegrees = new HashMap<>();
+        biologyDegrees.put("professor", 1);
+        biologyDegrees.put("assistant", 1);
+        Map<String, DepartmentStatistic> expectedStatistics = new LinkedHashMap<>();
+        expectedStatistics.put("Applied math", new DepartmentStatistic("Applied math", 1, 1000.0, 1000, 1000,
+                Collections.singletonMap("assistant", 1)));
+        expectedStatistics.put("Physics", new DepartmentStatistic("Physics", 0, 0, 0, 0, new HashMap<>()));
+        expectedStatistics.put("Biology", new DepartmentStatistic("Biology", 2, 2000.0, 1000, 3000, biologyDegrees));
+
+        Map<String, DepartmentStatistic> actualStatistics = departmentDao.getStatistics();
+
+        assertEquals(expectedStatistics, actualStatistics);
+        assertEquals(new ArrayList<>(expectedStatistics.keySet()), new ArrayList<>(actualStatistics.keySet()));
+    }
+
+    @Test
+    void givenNamesAcrossSeveralBatches_whenGetStatisticsByNames_thenReturnedStatisticOfExistingDepartments() {
+        Map<String, DepartmentStatistic> expectedStatistics = new HashMap<>();
+        expectedStatistics.put("Physics", new DepartmentStatistic("Physics", 1, 2000.0, 2000, 2000,
+                Collections.singletonMap("associate professor", 1)));
+        expectedStatistics.put("Biology", new DepartmentStatistic("Biology", 1, 3000.0, 3000, 3000,
+                Collections.singletonMap("professor", 1)));
+
+        Map<String, DepartmentStatistic> actualStatistics = departmentDao.getStatisticsByNames(
+                Arrays.asList("Physics", "NON EXISTENT", "Biology", "Physics"));
+
+        assertEquals(expectedStatistics, actualStatistics);
+    }
+
+    @Test
+    void givenDepartments_whenSaveAll_thenAddedAllDepartmentsWithGeneratedIds() {
+        List<Department> departments = new ArrayList<>();
+        departments.add(new Department("Chemistry", 1));
+        departments.add(new Department("History", 2));
+        departments.add(new Department("Law", 3));
+
+        departmentDao.saveAll(departments);
+
+        for (Department department : departments) {
+            assertEquals(department, departmentDao.getById(department.getId()).orElse(null));
+        }
+    }
+
+    @Test
+    void givenExistingNameInBatch_whenSaveAll_thenDepartmentNameNotUniqueExceptionThrown() {
+        List<Department> departments = Arrays.asList(new Department("Chemistry", 1), new Department("Biology", 2),
+                new Department("Law", 3));
+
+        Throwable exception = assertThrows(DepartmentNameNotUniqueException.class,
+                () -> departmentDao.saveAll(departments));
+
+        assertEquals("Department with name Biology already exist", exception.getMessage());
+        assertEquals(3, departmentDao.getAll().size());
+    }
+
+    @Test
+    void givenFailingSecondChunk_whenSaveAll_thenListenersNotifiedOfCommittedChunk() {
+        TrigramIndex index = new TrigramIndex();
+        departmentDao.addListener(new IndexingListener<>(index, Department::getId,
+                department -> new String[]{department.getName()}));
+        List<Department> departments = Arrays.asList(new Department("Chemistry", 1), new Department("History", 2),
+                new Department("Law", 3), new Department("Biology", 1));
+
+        assertThrows(DepartmentNameNotUniqueException.class, () -> departmentDao.saveAll(departments));
+
+        assertEquals(5, departmentDao.getAll().size());
+        assertEquals(1, index.matchingIds("Chemistry").length);
+        assertEquals(1, index.matchingIds("History").length);
+        assertEquals(0, index.matchingIds("Law").length);
+    }
+
+    @Test
+    void givenNonExistentHeadInBatch_whenUpdateAll_thenEntityNotFoundExceptionThrown() {
+        List<Department> departments = Arrays.asList(new Department(1, "Algebra", 1), new Department(2, "Optics", 10));
+
+        Throwable exception = assertThrows(EntityNotFoundException.class, () -> departmentDao.updateAll(departments));
+
+        assertEquals("Lector with id 10 is not present", exception.getMessage());
+        assertEquals(Optional.of(new Department(1, "Applied math", 1)), departmentDao.getById(1));
+    }
+
+    @Test
+    void givenNonExistentIdInBatch_whenUpdateAll_thenEntityNotFoundExceptionThrown() {
+        List<Department> departments = Arrays.asList(new Department(1, "Algebra", 1), new Department(10, "Optics", 2));
+
+        Throwable exception = assertThrows(EntityNotFoundException.class, () -> departmentDao.updateAll(departments));
+
+        assertEquals("Department with id 10 is not present", exception.getMessage());
+    }
+
+    @Test
+    void givenNames_whenGetByNames_thenReturnedOnlyExistentDepartments() {
+        List<Department> actualDepartments = departmentDao.getByNames(Arrays.asList("Biology", "Physics", "Chemistry"));
+
+        assertEquals(2, actualDepartments.size());
+        assertTrue(actualDepartments.contains(new Department(3, "Biology", 3)));
+    }
+
+    @Test
+    void givenIds_whenDeleteAll_thenDeletedAllGivenDepartments() {
+        departmentDao.deleteAll(Arrays.asList(1, 2));
+
+        assertEquals(Collections.singletonList(new Department(3, "Biology", 3)), departmentDao.getAll());
+    }
+
+    @Test
+    void givenNothing_whenStreamAll_thenStreamedAllDepartments() {
+        List<Department> expectedDepartments = new ArrayList<>();
+        expectedDepartments.add(new Department(1, "Applied math", 1));
+        expectedDepartments.add(new Department(2, "Physics", 2));
+        expectedDepartments.add(new Department(3, "Biology", 3));
+
+        List<Department> actualDepartments;
+        try (Stream<Department> departments = departmentDao.streamAll()) {
+            actualDepartments = departments.collect(Collectors.toList());
+        }
+
+        assertEquals(expectedDepartments, actualDepartments);
+    }
+
+    @Test
+    void givenNothing_whenStreamNames_thenReturnedDepartmentsWithoutHeads() {
+        List<Department> expectedDepartments = Arrays.asList(new Department(1, "Applied math", 0),
+                new Department(2, "Physics", 0), new Department(3, "Biology", 0));
+
+        List<Department> actualDepartments;
+        try (Stream<Department> departments = departmentDao.streamNames()) {
+            actualDepartments = departments.collect(Collectors.toList());
+        }
+
+        assertEquals(expectedDepartments, actualDepartments);
+    }
+
+    @Test
+    void givenPageSize2_whenGetPage_thenReturnedDepartmentsPageByPage() {
+        Page<Department> firstPage = departmentDao.getPage(null, 2);
+        Page<Department> secondPage = departmentDao.getPage(firstPage.getNextToken(), 2);
+
+        assertEquals(Arrays.asList(new Department(1, "Applied math", 1), new Department(2, "Physics", 2)),
+                firstPage.getItems());
+        assertEquals(new Page<>(Collections.singletonList(new Department(3, "Biology", 3)), null), secondPage);
+    }
+
+    @Test
+    void givenInvalidToken_whenGetPage_thenIllegalArgumentExceptionThrown() {
+        assertThrows(IllegalArgumentException.class, () -> departmentDao.getPage("not a token", 2));
+    }
+}
@@ -2,7 +2,12 @@ package com.botscrew.university.dao;
 
 import com.botscrew.university.DBUnitConfig;
 import com.botscrew.university.DBUnitConfigParameterResolver;
+import com.botscrew.university.domain.Department;
 import com.botscrew.university.domain.Lector;
+import com.botscrew.university.domain.Page;
+import com.botscrew.university.search.IndexingListener;
+import com.botscrew.university.search.TrigramIndex;
+import com.botscrew.university.utils.ConnectionProvider;
 import org.dbunit.Assertion;
 import org.dbunit.dataset.IDataSet;
 import org.dbunit.dataset.ITable;
@@ -13,8 +18,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @ExtendWith(DBUnitConfigParameterResolver.class)
 class LectorDaoTest extends DBUnitConfig {
@@ -60,6 +72,25 @@ class LectorDaoTest extends DBUnitConfig {
         assertEquals(expectedLectors, actualLectors);
     }
 
+    @Test
+    void givenLectorWithNewDegree_whenSave_thenDegreeAddedAndLectorReadBack() {
+        Lector lector = new Lector("NEW", "Lector", "docent", 1200);
+
+        lectorDao.save(lector);
+
+        assertEquals(Optional.of(lector), lectorDao.getById(lector.getId()));
+        assertEquals(Optional.of(lector), new LectorDao(connectionProvider, degreeDictionary).getById(lector.getId()));
+    }
+
+    @Test
+    void givenLectorsOfSameDegree_whenGetAll_thenDegreeInstanceShared() {
+        lectorDao.save(new Lector("NEW", "Lector", "assistant", 1200));
+
+        List<Lector> actualLectors = lectorDao.getAll();
+
+        assertSame(actualLectors.get(0).getDegree(), actualLectors.get(3).getDegree());
+    }
+
     @Test
     void givenLector_whenSave_thenAddedGivenLector() throws Exception {
         lectorDao.save(new Lector("NEW", "Lector", "assistant",1200));
@@ -126,4 +157,179 @@ class LectorDaoTest extends DBUnitConfig {
 
         assertEquals(expectedResult, actualResult);
     }
-}
\ No newline at end of file
+
+    @Test
+    void givenLectorsExceedingBatchSize_whenSaveAll_thenAddedAllLectorsWithGeneratedIds() {
+        List<Lector> lectors = new ArrayList<>();
+        lectors.add(new Lector("Fourth", "Lector", "assistant", 1100));
+        lectors.add(new Lector("Fifth", "Lector", "assistant", 1200));
+        lectors.add(new Lector("Sixth", "Lector", "professor", 3100));
+
+        lectorDao.saveAll(lectors);
+
+        for (Lector lector : lectors) {
+            assertEquals(lector, lectorDao.getById(lector.getId()).orElse(null));
+        }
+        assertEquals(6, lectorDao.getAll().size());
+    }
+
+    @Test
+    void givenLectors_whenUpdateAll_thenUpdatedAllLectors() {
+        List<Lector> lectors = new ArrayList<>();
+        lectors.add(new Lector(1, "UPDATED", "Lector", "assistant", 1500));
+        lectors.add(new Lector(2, "UPDATED", "Lector", "professor", 2500));
+        lectors.add(new Lector(3, "UPDATED", "Lector", "professor", 3500));
+
+        lectorDao.updateAll(lectors);
+
+        assertEquals(lectors, lectorDao.getAll());
+    }
+
+    @Test
+    void givenIds_whenDeleteAll_thenDeletedAllGivenLectors() {
+        lectorDao.deleteAll(Arrays.asList(1, 2, 3));
+
+        assertEquals(new ArrayList<>(), lectorDao.getAll());
+    }
+
+    @Test
+    void givenExistentAndNonExistentIds_whenDeleteAll_thenListenersNotifiedOnlyOfDeletedIds() {
+        List<Integer> deletedIds = new ArrayList<>();
+        lectorDao.addListener(new EntityListener<Lector>() {
+            @Override
+            public void saved(Lector entity) {
+            }
+
+            @Override
+            public void updated(Lector entity) {
+            }
+
+            @Override
+            public void deleted(int id) {
+                deletedIds.add(id);
+            }
+        });
+
+        lectorDao.deleteAll(Arrays.asList(1, 5, 3));
+
+        assertEquals(Arrays.asList(1, 3), deletedIds);
+    }
+
+    @Test
+    void givenExistentAndNonExistentIds_whenGetExistingIds_thenReturnedOnlyExistentIds() {
+        Set<Integer> actualIds = lectorDao.getExistingIds(Arrays.asList(1, 3, 5));
+
+        assertEquals(new HashSet<>(Arrays.asList(1, 3)), actualIds);
+    }
+
+    @Test
+    void givenNothing_whenStreamAll_thenStreamedAllLectors() {
+        List<Lector> expectedLectors = new ArrayList<>();
+        expectedLectors.add(new Lector(1, "First", "Lector", "assistant", 1000));
+        expectedLectors.add(new Lector(2, "Second", "Lector", "associate professor", 2000));
+        expectedLectors.add(new Lector(3, "Third", "Lector", "professor", 3000));
+
+        List<Lector> actualLectors;
+        try (Stream<Lector> lectors = lectorDao.streamAll()) {
+            actualLectors = lectors.collect(Collectors.toList());
+        }
+
+        assertEquals(expectedLectors, actualLectors);
+    }
+
+    @Test
+    void givenNothing_whenStreamNames_thenReturnedOnlyIdsAndNames() {
+        List<Lector> actualLectors;
+        try (Stream<Lector> lectors = lectorDao.streamNames()) {
+            actualLectors = lectors.collect(Collectors.toList());
+        }
+
+        assertEquals(Arrays.asList("1 First Lector", "2 Second Lector", "3 Third Lector"), actualLectors.stream()
+                .map(lector -> lector.getId() + " " + lector.getName() + " " + lector.getSurname())
+                .collect(Collectors.toList()));
+        assertTrue(actualLectors.stream().allMatch(lector -> lector.getDegree() == null && lector.getSalary() == 0));
+    }
+
+    @Test
+    void givenPageSize2_whenGetPage_thenReturnedFirstTwoLectorsAndContinuationToken() {
+        Page<Lector> firstPage = lectorDao.getPage(null, 2);
+        Page<Lector> secondPage = lectorDao.getPage(firstPage.getNextToken(), 2);
+
+        assertEquals(Arrays.asList(new Lector(1, "First", "Lector", "assistant", 1000),
+                new Lector(2, "Second", "Lector", "associate professor", 2000)), firstPage.getItems());
+        assertEquals(new Page<>(Collections.singletonList(new Lector(3, "Third", "Lector", "professor", 3000)), null),
+                secondPage);
+    }
+
+    @Test
+    void givenIrAndPageSize1_whenSearchIfContains_thenReturnedOnlyMatchingLectorsPageByPage() {
+        Page<Lector> firstPage = lectorDao.searchIfNameContains("ir", null, 1);
+        Page<Lector> secondPage = lectorDao.searchIfNameContains("ir", firstPage.getNextToken(), 1);
+
+        assertEquals(Collections.singletonList(new Lector(1, "First", "Lector", "assistant", 1000)), firstPage.getItems());
+        assertEquals(Collections.singletonList(new Lector(3, "Third", "Lector", "professor", 3000)), secondPage.getItems());
+        assertFalse(secondPage.hasNext());
+    }
+
+    @Test
+    void givenIdsInCustomOrder_whenGetByIds_thenReturnedExistentLectorsInGivenOrder() {
+        List<Lector> actualResult = lectorDao.getByIds(Arrays.asList(3, 42, 1));
+
+        assertEquals(Arrays.asList(new Lector(3, "Third", "Lector", "professor", 3000),
+                new Lector(1, "First", "Lector", "assistant", 1000)), actualResult);
+    }
+
+    @Test
+    void givenTorAndLimit2_whenSearchIfContains_thenReturnedFirstTwoLectors() {
+        List<Lector> actualResult = lectorDao.searchIfNameContains("tor", 2);
+
+        assertEquals(Arrays.asList(new Lector(1, "First", "Lector", "assistant", 1000),
+                new Lector(2, "Second", "Lector", "associate professor", 2000)), actualResult);
+    }
+
+    @Test
+    void givenIndexingListener_whenSaveAndDelete_thenIndexFollowsChanges() {
+        TrigramIndex index = new TrigramIndex();
+        lectorDao.addListener(new IndexingListener<>(index, Lector::getId,
+                lector -> new String[]{lector.getName(), lector.getSurname()}));
+
+        Lector lector = new Lector("Fourth", "Lector", "assistant", 4000);
+        lectorDao.save(lector);
+        int[] afterSave = index.matchingIds("Fourth");
+        lectorDao.delete(lector.getId());
+
+        assertEquals(1, afterSave.length);
+        assertEquals(0, index.matchingIds("Fourth").length);
+    }
+
+    @Test
+    void givenHeadedDepartmentListener_whenDelete_thenHeadedDepartmentEvictedFromIndex() {
+        TrigramIndex index = new TrigramIndex();
+        IndexingListener<Department> departmentIndexer = new IndexingListener<>(index, Department::getId,
+                department -> new String[]{department.getName()});
+        departmentIndexer.populate(departmentDao.streamNames());
+        lectorDao.addHeadedDepartmentListener(departmentIndexer);
+
+        lectorDao.delete(2);
+
+        assertEquals(0, index.matchingIds("Physics").length);
+        assertEquals(1, index.matchingIds("Biology").length);
+    }
+
+    @Test
+    void givenTrigramSearchModeOnH2_whenSearchIfContains_thenFellBackToLikeSearch() {
+        Properties properties = new Properties();
+        properties.setProperty("url", "jdbc:h2:mem:test;DB_CLOSE_DELAY=-1");
+        properties.setProperty("user", "some");
+        properties.setProperty("password", "some");
+        properties.setProperty("search.mode", "trigram");
+        ConnectionProvider trigramConnectionProvider = new ConnectionProvider(properties);
+
+        List<Lector> actualResult = new LectorDao(trigramConnectionProvider, degreeDictionary)
+                .searchIfNameContains("ir", 10);
+
+        assertEquals(SearchMode.LIKE, SearchMode.resolve(trigramConnectionProvider));
+        assertEquals(Arrays.asList(new Lector(1, "First", "Lector", "assistant", 1000),
+                new Lector(3, "Third", "Lector", "professor", 3000)), actualResult);
+    }
+}
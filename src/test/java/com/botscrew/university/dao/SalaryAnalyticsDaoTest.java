@@ -0,0 +1,139 @@
+package com.botscrew.university.dao;
+
+import com.botscrew.university.DBUnitConfig;
+import com.botscrew.university.DBUnitConfigParameterResolver;
+import com.botscrew.university.domain.DepartmentSalaryDistribution;
+import com.botscrew.university.domain.Lector;
+import com.botscrew.university.domain.SalaryDistribution;
+import org.dbunit.dataset.xml.FlatXmlDataSetBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.io.File;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+@ExtendWith(DBUnitConfigParameterResolver.class)
+class SalaryAnalyticsDaoTest extends DBUnitConfig {
+
+    private static final double TOLERANCE = 1e-9;
+
+    private final SalaryAnalyticsDao sqlDao = new SalaryAnalyticsDao(connectionProvider, degreeDictionary,
+            AnalyticsEngine.SQL);
+    private final SalaryAnalyticsDao sketchDao = new SalaryAnalyticsDao(connectionProvider, degreeDictionary,
+            AnalyticsEngine.SKETCH);
+
+    public SalaryAnalyticsDaoTest(String name) throws Exception {
+        super(name);
+    }
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        super.setUp();
+        String file = getClass().getClassLoader().getResource("preparedDataset.xml").getFile();
+        beforeData = new FlatXmlDataSetBuilder().build(new File(file));
+        tester.setDataSet(beforeData);
+        tester.onSetup();
+    }
+
+    @Test
+    void givenH2_whenResolveEngine_thenResolvedSketch() {
+        assertEquals(AnalyticsEngine.SKETCH, new SalaryAnalyticsDao(connectionProvider, degreeDictionary).getEngine());
+    }
+
+    @Test
+    void givenBiologyWithSeveralLectors_whenGetDistributions_thenReturnedPercentilesAndBands() {
+        addLectorsToBiology(1500, 2500, 3500, 4000);
+        Map<Integer, Integer> expectedBands = new TreeMap<>();
+        expectedBands.put(1000, 1);
+        expectedBands.put(2000, 1);
+        expectedBands.put(3000, 2);
+        expectedBands.put(4000, 1);
+
+        for (SalaryAnalyticsDao dao : Arrays.asList(sqlDao, sketchDao)) {
+            SalaryDistribution biology = dao.getDistributions().get("Biology").getTotal();
+
+            assertEquals(5, biology.getCount());
+            assertEquals(2900.0, biology.getMean(), TOLERANCE);
+            assertEquals(Math.sqrt(740000), biology.getStandardDeviation(), TOLERANCE);
+            assertEquals(1500, biology.getMinSalary());
+            assertEquals(4000, biology.getMaxSalary());
+            assertEquals(3000.0, biology.getMedian(), TOLERANCE);
+            assertEquals(3800.0, biology.getP90(), TOLERANCE);
+            assertEquals(3980.0, biology.getP99(), TOLERANCE);
+            assertEquals(expectedBands, biology.getBands());
+        }
+    }
+
+    @Test
+    void givenLectorsOfDifferentDegrees_whenGetDistributions_thenBothEnginesReturnedEqualResults() {
+        addLectorsToBiology(1200, 1800, 2600, 3100, 5000, 7700);
+        departmentDao.removeLector(2, 2);
+
+        Map<String, DepartmentSalaryDistribution> sqlDistributions = sqlDao.getDistributions();
+        Map<String, DepartmentSalaryDistribution> sketchDistributions = sketchDao.getDistributions();
+
+        assertEquals(new ArrayList<>(sqlDistributions.keySet()), new ArrayList<>(sketchDistributions.keySet()));
+        assertEquals(Arrays.asList("Applied math", "Physics", "Biology"), new ArrayList<>(sqlDistributions.keySet()));
+        assertEquals(new SalaryDistribution(0, 0, 0, 0, 0, 0, 0, 0, new TreeMap<>()),
+                sketchDistributions.get("Physics").getTotal());
+        assertEquals(new HashMap<>(), sketchDistributions.get("Physics").getDegrees());
+        for (String department : sqlDistributions.keySet()) {
+            DepartmentSalaryDistribution sql = sqlDistributions.get(department);
+            DepartmentSalaryDistribution sketch = sketchDistributions.get(department);
+            assertComparable(sql.getTotal(), sketch.getTotal());
+            assertEquals(sql.getDegrees().keySet(), sketch.getDegrees().keySet());
+            sql.getDegrees().forEach((degree, distribution) ->
+                    assertComparable(distribution, sketch.getDegrees().get(degree)));
+        }
+        assertEquals(3, sqlDistributions.get("Biology").getDegrees().get("assistant").getCount());
+    }
+
+    @Test
+    void givenLectorWithoutSalary_whenGetDistributionByName_thenBothEnginesSkippedIt() throws Exception {
+        addLectorsToBiology(1200, 1800, 2600);
+        departmentDao.addLector(3, 2);
+        try (Statement statement = tester.getConnection().getConnection().createStatement()) {
+            statement.executeUpdate("UPDATE lectors SET salary = NULL WHERE id = 2");
+        }
+
+        for (String department : Arrays.asList("Biology", "Physics")) {
+            DepartmentSalaryDistribution sql = sqlDao.getDistributionByName(department).orElse(null);
+            DepartmentSalaryDistribution sketch = sketchDao.getDistributionByName(department).orElse(null);
+
+            assertComparable(sql.getTotal(), sketch.getTotal());
+            assertEquals(sql.getDegrees().keySet(), sketch.getDegrees().keySet());
+            assertFalse(sql.getDegrees().containsKey("associate professor"));
+        }
+        assertEquals(4, sqlDao.getDistributionByName("Biology").get().getTotal().getCount());
+        assertEquals(Optional.empty(), sketchDao.getDistributionByName("NON EXISTENT"));
+    }
+
+    private void addLectorsToBiology(int... salaries) {
+        List<Lector> lectors = new ArrayList<>();
+        for (int i = 0; i < salaries.length; i++) {
+            lectors.add(new Lector("Lector" + i, "Biology", i % 2 == 0 ? "assistant" : "professor", salaries[i]));
+        }
+        lectorDao.saveAll(lectors);
+        lectors.forEach(lector -> departmentDao.addLector(3, lector.getId()));
+    }
+
+    private static void assertComparable(SalaryDistribution expected, SalaryDistribution actual) {
+        assertEquals(expected.getCount(), actual.getCount());
+        assertEquals(expected.getMean(), actual.getMean(), TOLERANCE);
+        assertEquals(expected.getStandardDeviation(), actual.getStandardDeviation(), TOLERANCE);
+        assertEquals(expected.getMinSalary(), actual.getMinSalary());
+        assertEquals(expected.getMaxSalary(), actual.getMaxSalary());
+        assertEquals(expected.getMedian(), actual.getMedian(), TOLERANCE);
+        assertEquals(expected.getP90(), actual.getP90(), TOLERANCE);
+        assertEquals(expected.getP99(), actual.getP99(), TOLERANCE);
+        assertEquals(expected.getBands(), actual.getBands());
+    }
+}
@@ -0,0 +1,84 @@
+package com.botscrew.university.exporter;
+
+import com.botscrew.university.DBUnitConfig;
+import com.botscrew.university.DBUnitConfigParameterResolver;
+import org.dbunit.dataset.xml.FlatXmlDataSetBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+@ExtendWith(DBUnitConfigParameterResolver.class)
+class TableExporterTest extends DBUnitConfig {
+
+    private final TableExporter exporter = new TableExporter(connectionProvider);
+
+    @TempDir
+    Path directory;
+
+    public TableExporterTest(String name) throws Exception {
+        super(name);
+    }
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        super.setUp();
+        String file = getClass().getClassLoader().getResource("preparedDataset.xml").getFile();
+        beforeData = new FlatXmlDataSetBuilder().build(new File(file));
+        tester.setDataSet(beforeData);
+        tester.onSetup();
+    }
+
+    @Test
+    void givenLectors_whenExportAsCsv_thenWrittenHeaderAndAllRows() throws IOException {
+        StringWriter writer = new StringWriter();
+
+        long rows = exporter.export(ExportTarget.LECTORS, ExportFormat.CSV, writer);
+
+        assertEquals(3, rows);
+        assertEquals("\"id\",\"name\",\"surname\",\"degree\",\"salary\"\n" +
+                "1,\"First\",\"Lector\",\"assistant\",1000\n" +
+                "2,\"Second\",\"Lector\",\"associate professor\",2000\n" +
+                "3,\"Third\",\"Lector\",\"professor\",3000\n", writer.toString());
+    }
+
+    @Test
+    void givenDepartmentStatistics_whenExportAsNdjson_thenWrittenOneJsonObjectPerDepartment() throws IOException {
+        StringWriter writer = new StringWriter();
+
+        exporter.export(ExportTarget.DEPARTMENT_STATISTICS, ExportFormat.NDJSON, writer);
+
+        String[] lines = writer.toString().split("\n");
+        assertEquals(3, lines.length);
+        assertEquals("{\"id\":2,\"name\":\"Physics\",\"head\":2,\"quantity\":1,\"average_salary\":2000.0," +
+                "\"min_salary\":2000,\"max_salary\":2000}", lines[1]);
+    }
+
+    @Test
+    void givenGzipFileName_whenExport_thenWrittenCompressedFileAndNoTemporaryFileLeft() throws IOException {
+        Path file = directory.resolve("departments.csv.gz");
+
+        exporter.export(ExportTarget.DEPARTMENTS, ExportFormat.CSV, file);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(file)), UTF_8))) {
+            List<String> lines = reader.lines().collect(Collectors.toList());
+            assertEquals(4, lines.size());
+            assertEquals("3,\"Biology\",3", lines.get(3));
+        }
+        assertFalse(Files.exists(directory.resolve("departments.csv.gz.tmp")));
+    }
+}
@@ -0,0 +1,189 @@
+package com.botscrew.university.http;
+
+import com.botscrew.university.domain.Lector;
+import com.botscrew.university.domain.Page;
+import com.botscrew.university.domain.SearchHit;
+import com.botscrew.university.domain.SearchResult;
+import com.botscrew.university.exception.EntityNotFoundException;
+import com.botscrew.university.metrics.MetricsRegistry;
+import com.botscrew.university.service.DepartmentService;
+import com.botscrew.university.service.LectorService;
+import com.botscrew.university.service.SearchCoordinator;
+import com.botscrew.university.utils.BoundedExecutors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.zip.GZIPInputStream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class QueryServerTest {
+
+    @Mock
+    private DepartmentService departmentService;
+
+    @Mock
+    private LectorService lectorService;
+
+    @Mock
+    private SearchCoordinator searchCoordinator;
+
+    private MetricsRegistry metricsRegistry;
+    private QueryServer server;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        metricsRegistry = new MetricsRegistry(Optional::empty, false);
+        server = new QueryServer(departmentService, lectorService, searchCoordinator, metricsRegistry, 10,
+                new InetSocketAddress("127.0.0.1", 0), 16, BoundedExecutors.newBoundedExecutor("http-test-", 2, 16));
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    void givenDepartmentName_whenGetHead_thenReturnedLectorAsJson() throws IOException {
+        when(lectorService.getHeadOfDepartment("Applied math")).thenReturn(new Lector(1, "First", "Lector", "assistant", 1000));
+
+        HttpURLConnection connection = open("/departments/Applied%20math/head");
+
+        assertEquals(200, connection.getResponseCode());
+        assertEquals("application/json; charset=utf-8", connection.getContentType());
+        assertEquals("{\"id\":1,\"name\":\"First\",\"surname\":\"Lector\"}", read(connection.getInputStream()));
+    }
+
+    @Test
+    void givenDepartmentName_whenGetStatisticsAndCount_thenReturnedJsonValues() throws IOException {
+        when(departmentService.getDegreeStatisticByName("Physics")).thenReturn(Collections.singletonMap("professor", 2));
+        when(departmentService.getQuantityOfEmployeeByName("Physics")).thenReturn(2);
+
+        assertEquals("{\"professor\":2}", read(open("/departments/Physics/statistics").getInputStream()));
+        assertEquals("2", read(open("/departments/Physics/employee-count").getInputStream()));
+    }
+
+    @Test
+    void givenUnknownDepartment_whenGetAverageSalary_thenReturnedNotFoundAndCountedPerEndpoint() throws IOException {
+        when(departmentService.getAverageSalaryByName("Unknown")).thenThrow(new EntityNotFoundException("Department does not exist"));
+
+        HttpURLConnection connection = open("/departments/Unknown/average-salary");
+
+        assertEquals(404, connection.getResponseCode());
+        assertEquals("{\"error\":\"Department does not exist\"}", read(connection.getErrorStream()));
+        assertEquals(1, metricsRegistry.getQueryMetrics().get("http.averageSalary").getCalls());
+        assertEquals(0, metricsRegistry.getQueryMetrics().get("http.averageSalary").getErrors());
+    }
+
+    @Test
+    void givenUnknownResourceOrMissingQuery_whenGet_thenReturnedBadRequest() throws IOException {
+        assertEquals(400, open("/departments/Physics/salaries").getResponseCode());
+        assertEquals(400, open("/search").getResponseCode());
+        assertEquals(400, open("/search?q=a&limit=0").getResponseCode());
+    }
+
+    @Test
+    void givenPost_whenRequest_thenReturnedMethodNotAllowed() throws IOException {
+        HttpURLConnection connection = open("/search?q=a");
+        connection.setRequestMethod("POST");
+
+        assertEquals(405, connection.getResponseCode());
+        assertEquals("GET", connection.getHeaderField("Allow"));
+    }
+
+    @Test
+    void givenLargeSearchResultAndGzipAccepted_whenSearch_thenReturnedCompressedJson() throws IOException {
+        List<SearchHit> hits = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            hits.add(new SearchHit("lectors", i, "Lector " + i));
+        }
+        when(searchCoordinator.search("Lector", 100)).thenReturn(new SearchResult(
+                Collections.singletonMap("lectors", new Page<>(hits, null)), false));
+
+        HttpURLConnection connection = open("/search?q=Lector&limit=100");
+        connection.setRequestProperty("Accept-Encoding", "gzip");
+
+        assertEquals(200, connection.getResponseCode());
+        assertEquals("gzip", connection.getHeaderField("Content-Encoding"));
+        String body = read(new GZIPInputStream(connection.getInputStream()));
+        assertTrue(body.startsWith("{\"hits\":[{\"source\":\"lectors\",\"id\":0,\"text\":\"Lector 0\"}"));
+        assertTrue(body.endsWith("],\"partial\":false}"));
+    }
+
+    @Test
+    void givenServedRequests_whenGetMetrics_thenReturnedPerEndpointMetrics() throws IOException {
+        when(departmentService.getQuantityOfEmployeeByName("Physics")).thenReturn(2);
+        for (int i = 0; i < 3; i++) {
+            read(open("/departments/Physics/employee-count").getInputStream());
+        }
+
+        String metrics = read(open("/metrics").getInputStream());
+
+        assertTrue(metrics.startsWith("{\"employeeCount\":{\"calls\":3,\"errors\":0,"));
+        assertTrue(metricsRegistry.getQueryMetrics().containsKey("http.metrics"));
+    }
+
+    @Test
+    void givenSaturatedExecutor_whenRequest_thenReturnedServiceUnavailable() throws IOException {
+        server.close();
+        ExecutorService executor = BoundedExecutors.newBoundedExecutor("http-busy-", 1, 1);
+        server = new QueryServer(departmentService, lectorService, searchCoordinator, metricsRegistry, 10,
+                new InetSocketAddress("127.0.0.1", 0), 16, executor);
+        server.start();
+        CountDownLatch released = new CountDownLatch(1);
+        for (int i = 0; i < 2; i++) {
+            executor.execute(() -> {
+                try {
+                    released.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+
+        HttpURLConnection connection = open("/departments/Physics/employee-count");
+
+        assertEquals(503, connection.getResponseCode());
+        assertEquals("{\"error\":\"Server is busy, retry later\"}", read(connection.getErrorStream()));
+        assertEquals(1, metricsRegistry.getQueryMetrics().get("http.department").getErrors());
+        verifyZeroInteractions(departmentService);
+        released.countDown();
+    }
+
+    private HttpURLConnection open(String path) throws IOException {
+        return (HttpURLConnection) new URL("http://127.0.0.1:" + server.getPort() + path).openConnection();
+    }
+
+    private static String read(InputStream inputStream) throws IOException {
+        try (InputStream input = inputStream) {
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            byte[] buffer = new byte[1024];
+            int read;
+            while ((read = input.read(buffer)) >= 0) {
+                output.write(buffer, 0, read);
+            }
+            return new String(output.toByteArray(), UTF_8);
+        }
+    }
+}
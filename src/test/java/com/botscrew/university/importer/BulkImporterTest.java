@@ -0,0 +1,102 @@
+package com.botscrew.university.importer;
+
+import com.botscrew.university.DBUnitConfig;
+import com.botscrew.university.DBUnitConfigParameterResolver;
+import com.botscrew.university.domain.DepartmentReport;
+import com.botscrew.university.domain.Lector;
+import com.botscrew.university.exception.ImportFailedException;
+import org.dbunit.dataset.xml.FlatXmlDataSetBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.io.File;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ExtendWith(DBUnitConfigParameterResolver.class)
+class BulkImporterTest extends DBUnitConfig {
+
+    private static final String LECTORS = "key,name,surname,degree,salary\n" +
+            "l1,Fourth,Lector,assistant,1500\n" +
+            "l2,\"Fifth, Jr.\",Lector,professor,2500\n" +
+            "l3,Sixth,\"Le\"\"ctor\",professor,3500\n";
+    private static final String DEPARTMENTS = "head,name\n" +
+            "l2,Chemistry\n" +
+            ",Geology\n";
+    private static final String ASSIGNMENTS = "department,lector\n" +
+            "Chemistry,l1\n" +
+            "Chemistry,l2\n" +
+            "Geology,l3\n";
+
+    private final List<String> progress = new ArrayList<>();
+    private final BulkImporter importer = new BulkImporter(connectionProvider, degreeDictionary, 2,
+            (table, rows) -> progress.add(table + ":" + rows));
+
+    public BulkImporterTest(String name) throws Exception {
+        super(name);
+    }
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        super.setUp();
+        String file = getClass().getClassLoader().getResource("preparedDataset.xml").getFile();
+        beforeData = new FlatXmlDataSetBuilder().build(new File(file));
+        tester.setDataSet(beforeData);
+        tester.onSetup();
+    }
+
+    @Test
+    void givenCsvFiles_whenImportAll_thenImportedRowsWithNaturalKeysMappedToGeneratedIds() {
+        ImportSummary summary = importer.importAll(new StringReader(LECTORS), new StringReader(DEPARTMENTS),
+                new StringReader(ASSIGNMENTS));
+
+        DepartmentReport report = departmentDao.getReportByName("Chemistry").orElse(null);
+        assertEquals(3, summary.getLectors());
+        assertEquals(2, summary.getDepartments());
+        assertEquals(3, summary.getAssignments());
+        assertEquals("Fifth, Jr.", report.getHead().getName());
+        assertEquals(2, report.getQuantityOfEmployee());
+        assertEquals(2000.0, report.getAverageSalary());
+        assertEquals(1, departmentDao.getQuantityOfEmployeeByName("Geology"));
+        assertTrue(lectorDao.searchIfNameContains("Le\"ctor").stream().map(Lector::getName).anyMatch("Sixth"::equals));
+        assertEquals(Arrays.asList("lectors:2", "lectors:3", "departments:2", "departments_lectors:2",
+                "departments_lectors:3"), progress);
+    }
+
+    @Test
+    void givenAssignmentToUnknownLector_whenImportAll_thenThrownImportFailedExceptionAndCommittedChunksKept() {
+        String assignments = "department,lector\nChemistry,l1\nChemistry,l2\nGeology,l9\n";
+
+        Throwable exception = assertThrows(ImportFailedException.class, () -> importer.importAll(
+                new StringReader(LECTORS), new StringReader(DEPARTMENTS), new StringReader(assignments)));
+
+        assertTrue(exception.getMessage().startsWith(
+                "Import failed after committing 3 lectors, 2 departments and 2 assignments: Unknown lector 'l9'"));
+        assertEquals(2, departmentDao.getQuantityOfEmployeeByName("Chemistry"));
+    }
+
+    @Test
+    void givenDuplicateLectorKey_whenImportAll_thenThrownImportFailedException() {
+        String lectors = "key,name,surname,degree,salary\nl1,Fourth,Lector,assistant,1500\nl1,Fifth,Lector,professor,2500\n";
+
+        assertThrows(ImportFailedException.class, () -> importer.importAll(new StringReader(lectors),
+                new StringReader(""), new StringReader("")));
+    }
+
+    @Test
+    void givenEmptyDegree_whenImportAll_thenLectorImportedWithoutDegree() throws Exception {
+        String lectors = "key,name,surname,degree,salary\nl1,Fourth,Lector,,1500\n";
+
+        importer.importAll(new StringReader(lectors), new StringReader(""), new StringReader(""));
+
+        Lector imported = lectorDao.getById(4).orElse(null);
+        assertNull(imported.getDegree());
+        assertEquals(0, tester.getConnection().createQueryTable("degrees",
+                "SELECT id FROM degrees WHERE name = ''").getRowCount());
+    }
+}
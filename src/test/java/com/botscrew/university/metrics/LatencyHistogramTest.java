@@ -0,0 +1,39 @@
+package com.botscrew.university.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LatencyHistogramTest {
+
+    @Test
+    void givenValues_whenBucket_thenUpperBoundOfBucketIsNotLessThanValueAndWithinOneEighth() {
+        for (long value = 0; value < 1_000_000; value = value * 3 / 2 + 1) {
+            long upperBound = LatencyHistogram.upperBound(LatencyHistogram.bucket(value));
+
+            assertTrue(upperBound >= value);
+            assertTrue(upperBound - value <= value / 8);
+        }
+    }
+
+    @Test
+    void givenHundredUniformValues_whenGetPercentile_thenReturnedValuesWithinBucketPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i * 1000L);
+        }
+
+        assertEquals(100, histogram.getCount());
+        assertEquals(100_000, histogram.getMaxNanos());
+        assertEquals(50_500.0, histogram.getMeanNanos());
+        assertEquals(50_000, histogram.getPercentileNanos(50), 50_000 / 8.0);
+        assertEquals(99_000, histogram.getPercentileNanos(99), 99_000 / 8.0);
+        assertEquals(100_000, histogram.getPercentileNanos(100));
+    }
+
+    @Test
+    void givenEmptyHistogram_whenGetPercentile_thenReturnedZero() {
+        assertEquals(0, new LatencyHistogram().getPercentileNanos(99));
+    }
+}
@@ -0,0 +1,90 @@
+package com.botscrew.university.metrics;
+
+import com.botscrew.university.DBUnitConfig;
+import com.botscrew.university.DBUnitConfigParameterResolver;
+import com.botscrew.university.dao.DepartmentDao;
+import com.botscrew.university.dao.LectorDao;
+import com.botscrew.university.domain.Lector;
+import com.botscrew.university.utils.ConnectionProvider;
+import org.dbunit.dataset.xml.FlatXmlDataSetBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import javax.management.ObjectName;
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Properties;
+
+@ExtendWith(DBUnitConfigParameterResolver.class)
+class MetricsRegistryTest extends DBUnitConfig {
+
+    private ConnectionProvider metricsConnectionProvider;
+    private MetricsRegistry metricsRegistry;
+
+    public MetricsRegistryTest(String name) throws Exception {
+        super(name);
+    }
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        super.setUp();
+        String file = getClass().getClassLoader().getResource("preparedDataset.xml").getFile();
+        beforeData = new FlatXmlDataSetBuilder().build(new File(file));
+        tester.setDataSet(beforeData);
+        tester.onSetup();
+        Properties properties = new Properties();
+        properties.setProperty("url", "jdbc:h2:mem:test;DB_CLOSE_DELAY=-1");
+        properties.setProperty("user", "some");
+        properties.setProperty("password", "some");
+        properties.setProperty("metrics.enabled", "true");
+        metricsConnectionProvider = new ConnectionProvider(properties);
+        metricsRegistry = metricsConnectionProvider.getMetricsRegistry().orElse(null);
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        metricsConnectionProvider.close();
+        super.tearDown();
+    }
+
+    @Test
+    void givenDaoCalls_whenGetQueryMetrics_thenRecordedCallsAndRowsPerDaoMethod() {
+        LectorDao instrumentedLectorDao = new LectorDao(metricsConnectionProvider, degreeDictionary);
+
+        instrumentedLectorDao.getAll();
+        instrumentedLectorDao.getAll();
+        instrumentedLectorDao.getByIds(Arrays.asList(1, 2));
+        instrumentedLectorDao.update(new Lector(1, "First", "Lector", "assistant", 1100));
+
+        QueryMetrics getAll = metricsRegistry.getQueryMetrics().get("LectorDao.getAll");
+        assertEquals(2, getAll.getCalls());
+        assertEquals(6, getAll.getRows());
+        assertEquals(0, getAll.getErrors());
+        assertTrue(getAll.getMaxMicros() >= getAll.getP50Micros());
+        assertEquals(2, metricsRegistry.getQueryMetrics().get("LectorDao.getByIds").getRows());
+        assertEquals(1, metricsRegistry.getQueryMetrics().get("LectorDao.update").getRows());
+        assertEquals(4, metricsRegistry.getPoolMetrics().getAcquired());
+    }
+
+    @Test
+    void givenFailingDaoCall_whenGetQueryMetrics_thenRecordedError() {
+        assertFalse(new DepartmentDao(metricsConnectionProvider, degreeDictionary).addLector(1, 999));
+
+        QueryMetrics addLector = metricsRegistry.getQueryMetrics().get("DepartmentDao.addLector");
+        assertEquals(1, addLector.getCalls());
+        assertEquals(1, addLector.getErrors());
+    }
+
+    @Test
+    void givenRecordedQuery_whenReadOverJmx_thenAttributesPublished() throws Exception {
+        new LectorDao(metricsConnectionProvider, degreeDictionary).getById(1);
+
+        Object calls = ManagementFactory.getPlatformMBeanServer().getAttribute(
+                new ObjectName("com.botscrew.university:type=Query,name=\"LectorDao.getById\""), "Calls");
+
+        assertEquals(1L, calls);
+    }
+}
@@ -0,0 +1,109 @@
+package com.botscrew.university.metrics;
+
+import com.botscrew.university.DBUnitConfig;
+import com.botscrew.university.DBUnitConfigParameterResolver;
+import org.dbunit.dataset.xml.FlatXmlDataSetBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.io.File;
+import java.io.StringWriter;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.CountDownLatch;
+
+import static java.lang.System.lineSeparator;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+@ExtendWith(DBUnitConfigParameterResolver.class)
+class SlowQueryLogTest extends DBUnitConfig {
+
+    private static final String SEARCH_BY_NAME_SQL = "SELECT * FROM lectors WHERE name LIKE ? AND salary > ?";
+
+    private final SqlNames sqlNames = new SqlNames();
+    private final StringWriter output = new StringWriter();
+
+    public SlowQueryLogTest(String name) throws Exception {
+        super(name);
+    }
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        super.setUp();
+        String file = getClass().getClassLoader().getResource("preparedDataset.xml").getFile();
+        beforeData = new FlatXmlDataSetBuilder().build(new File(file));
+        tester.setDataSet(beforeData);
+        tester.onSetup();
+        sqlNames.register(SlowQueryLogTest.class);
+    }
+
+    @Test
+    void givenQueryOverThreshold_whenExecuted_thenLoggedNameRedactedParametersAndRows() throws SQLException {
+        try (SlowQueryLog slowQueryLog = new SlowQueryLog(0, 1, SlowQueryLog.Redaction.STRINGS,
+                new AsyncRingBufferAppender<>(16, SlowQueryLog::format, output))) {
+            runSearch(slowQueryLog);
+        }
+
+        String logged = output.toString();
+        assertTrue(logged.startsWith("Slow query SlowQueryLogTest.SEARCH_BY_NAME took "));
+        assertTrue(logged.contains("rows=1, parameters=[***, 1500], sql=" + SEARCH_BY_NAME_SQL));
+    }
+
+    @Test
+    void givenQueryUnderThreshold_whenExecuted_thenNothingLogged() throws SQLException {
+        try (SlowQueryLog slowQueryLog = new SlowQueryLog(60_000, 1, SlowQueryLog.Redaction.NONE,
+                new AsyncRingBufferAppender<>(16, SlowQueryLog::format, output))) {
+            runSearch(slowQueryLog);
+        }
+
+        assertEquals("", output.toString());
+    }
+
+    @Test
+    void givenFullBuffer_whenAppend_thenOldestEventDroppedWithoutBlocking() throws InterruptedException {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch released = new CountDownLatch(1);
+        StringWriter blockedOutput = new StringWriter() {
+            @Override
+            public void write(String text) {
+                writing.countDown();
+                try {
+                    released.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.write(text);
+            }
+        };
+        AsyncRingBufferAppender<String> appender = new AsyncRingBufferAppender<>(2, event -> event, blockedOutput);
+        appender.append("event 0");
+        assertTrue(writing.await(5, SECONDS));
+
+        for (int i = 1; i <= 10; i++) {
+            appender.append("event " + i);
+        }
+        released.countDown();
+        appender.close();
+
+        assertEquals(8, appender.getDropped());
+        assertEquals("event 0" + lineSeparator() + "event 9" + lineSeparator() + "event 10" + lineSeparator(),
+                blockedOutput.toString());
+    }
+
+    private void runSearch(SlowQueryLog slowQueryLog) throws SQLException {
+        try (Connection connection = InstrumentedConnection.wrap(connectionProvider.getConnection(), sqlNames,
+                slowQueryLog);
+             PreparedStatement statement = connection.prepareStatement(SEARCH_BY_NAME_SQL)) {
+            statement.setString(1, "%i%");
+            statement.setInt(2, 1500);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    resultSet.getInt("id");
+                }
+            }
+        }
+    }
+}
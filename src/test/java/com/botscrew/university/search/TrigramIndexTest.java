@@ -0,0 +1,69 @@
+package com.botscrew.university.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TrigramIndexTest {
+
+    private TrigramIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TrigramIndex();
+        index.put(1, "First", "Lector");
+        index.put(2, "Second", "Lector");
+        index.put(3, "Third", "Lector");
+        index.put(4, "Lec", "tor");
+    }
+
+    @Test
+    void givenTor_whenMatchingIds_thenReturnedAllDocumentsContainingTorInAnyField() {
+        assertArrayEquals(new int[]{1, 2, 3, 4}, index.matchingIds("tor"));
+    }
+
+    @Test
+    void givenTrigramsFromDifferentPlaces_whenMatchingIds_thenReturnedOnlyVerifiedMatches() {
+        index.put(5, "irst ecto");
+
+        assertArrayEquals(new int[]{1}, index.matchingIds("First"));
+    }
+
+    @Test
+    void givenShortQuery_whenMatchingIds_thenReturnedDocumentsContainingIt() {
+        assertArrayEquals(new int[]{1, 3}, index.matchingIds("ir"));
+    }
+
+    @Test
+    void givenLecAndLimit2_whenSearch_thenReturnedExactMatchFirstAndThenPrefixMatches() {
+        assertEquals(Arrays.asList(4, 1), index.search("Lec", 2));
+    }
+
+    @Test
+    void givenPreviousPageLastId_whenMatchingIdsAfter_thenReturnedNextIds() {
+        assertEquals(Arrays.asList(2, 3), index.matchingIdsAfter("tor", 1, 2));
+    }
+
+    @Test
+    void givenUpdatedAndRemovedDocuments_whenMatchingIds_thenOldValuesAreNotFound() {
+        index.put(1, "Renamed", "Person");
+        index.remove(2);
+
+        assertArrayEquals(new int[]{3, 4}, index.matchingIds("tor"));
+        assertEquals(Collections.singletonList(1), index.search("Renamed", 10));
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    void givenShortQueryAndPreviousPageLastId_whenMatchingIdsAfter_thenReturnedNextIdsUpToLimit() {
+        index.put(5, "Fifth", "Lector");
+
+        assertEquals(Arrays.asList(2, 3), index.matchingIdsAfter("Le", 1, 2));
+        assertEquals(Collections.singletonList(5), index.matchingIdsAfter("Le", 4, 2));
+    }
+}
@@ -0,0 +1,108 @@
+package com.botscrew.university.service;
+
+import com.botscrew.university.domain.Department;
+import com.botscrew.university.domain.Lector;
+import com.botscrew.university.exception.DepartmentNameNotUniqueException;
+import com.botscrew.university.exception.EntityNotFoundException;
+import com.botscrew.university.utils.BoundedExecutors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+import static java.util.Collections.singletonList;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AsyncDepartmentServiceTest {
+
+    private final ExecutorService executor = BoundedExecutors.newBoundedExecutor("test-async-", 2, 10);
+
+    @Mock
+    private DepartmentService departmentService;
+
+    @Mock
+    private LectorService lectorService;
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void givenHeadStatisticAndSearch_whenComposed_thenCombinedResultsOfAllLookups() {
+        AsyncDepartmentService asyncDepartmentService = new AsyncDepartmentService(departmentService, executor);
+        AsyncLectorService asyncLectorService = new AsyncLectorService(lectorService, executor);
+        Lector head = new Lector(1, "First", "Lector", "assistant", 1000);
+        when(lectorService.getHeadOfDepartment("Physics")).thenReturn(head);
+        when(departmentService.getQuantityOfEmployeeByName("Physics")).thenReturn(3);
+        when(departmentService.searchIfNameContains("Phy")).thenReturn(singletonList(new Department(2, "Physics", 1)));
+
+        String summary = asyncLectorService.getHeadOfDepartment("Physics")
+                .thenCombine(asyncDepartmentService.getQuantityOfEmployeeByName("Physics"),
+                        (lector, quantity) -> lector.getSurname() + " heads " + quantity)
+                .thenCombine(asyncDepartmentService.searchIfNameContains("Phy"),
+                        (text, departments) -> text + " in " + departments.get(0).getName())
+                .join();
+
+        assertEquals("Lector heads 3 in Physics", summary);
+    }
+
+    @Test
+    void givenNonExistentDepartment_whenGetReportByName_thenCompletedExceptionallyWithEntityNotFoundException() {
+        AsyncDepartmentService asyncDepartmentService = new AsyncDepartmentService(departmentService, executor);
+        when(departmentService.getReportByName("Unknown")).thenThrow(new EntityNotFoundException("Department does not exist"));
+
+        CompletableFuture<?> report = asyncDepartmentService.getReportByName("Unknown");
+
+        ExecutionException exception = assertThrows(ExecutionException.class, report::get);
+        assertTrue(exception.getCause() instanceof EntityNotFoundException);
+    }
+
+    @Test
+    void givenDuplicateName_whenSave_thenCompletedExceptionallyWithDepartmentNameNotUniqueException() {
+        AsyncDepartmentService asyncDepartmentService = new AsyncDepartmentService(departmentService, executor);
+        Department department = new Department(1, "Physics", 1);
+        doThrow(new DepartmentNameNotUniqueException("Department name must be unique")).when(departmentService).save(department);
+
+        CompletableFuture<List<String>> recovered = asyncDepartmentService.save(department)
+                .handle((ignored, throwable) -> singletonList(throwable.getCause().getClass().getSimpleName()));
+
+        assertEquals(singletonList("DepartmentNameNotUniqueException"), recovered.join());
+    }
+
+    @Test
+    void givenSaturatedExecutor_whenGetStatistics_thenCompletedExceptionallyWithoutRunningOnCaller() {
+        ExecutorService saturated = BoundedExecutors.newBoundedExecutor("test-saturated-", 1, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            saturated.execute(() -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            saturated.execute(() -> { });
+            AsyncDepartmentService asyncDepartmentService = new AsyncDepartmentService(departmentService, saturated);
+
+            CompletableFuture<?> statistics = asyncDepartmentService.getStatistics();
+
+            ExecutionException exception = assertThrows(ExecutionException.class, statistics::get);
+            assertTrue(exception.getCause() instanceof RejectedExecutionException);
+            verifyZeroInteractions(departmentService);
+        } finally {
+            release.countDown();
+            saturated.shutdown();
+        }
+    }
+}
@@ -1,10 +1,17 @@
 package com.botscrew.university.service;
 
+import com.botscrew.university.dao.ColumnarSnapshot;
+import com.botscrew.university.dao.DepartmentAggregateStore;
 import com.botscrew.university.dao.DepartmentDao;
+import com.botscrew.university.dao.PageToken;
 import com.botscrew.university.domain.Department;
+import com.botscrew.university.domain.DepartmentReport;
+import com.botscrew.university.domain.DepartmentStatistic;
 import com.botscrew.university.domain.Lector;
+import com.botscrew.university.domain.Page;
 import com.botscrew.university.exception.DepartmentNameNotUniqueException;
 import com.botscrew.university.exception.EntityNotFoundException;
+import com.botscrew.university.search.TrigramIndex;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -12,6 +19,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -56,39 +65,46 @@ class DepartmentServiceTest {
     }
 
     @Test
-    void givenCorrectDepartment_whenSave_thenCalledDepartmentDaoSave() {
+    void givenCorrectDepartment_whenSave_thenCalledDepartmentDaoSaveWithoutLookups() {
         Department department = new Department(1, "Applied math", 1);
-        when(lectorService.getById(1)).thenReturn(Optional.of(new Lector()));
 
         departmentService.save(department);
 
         verify(departmentDao, times(1)).save(department);
+        verify(departmentDao, never()).getByName("Applied math");
+        verifyZeroInteractions(lectorService);
     }
 
     @Test
-    void givenNonExistentDepartmentId_whenSave_thenDepartmentNameNotUniqueExceptionThrown() {
-        when(departmentDao.getByName("Biology")).thenReturn(Optional.of(new Department()));
-        Throwable exception = assertThrows(DepartmentNameNotUniqueException.class, () -> departmentService.update(new Department(1, "Biology",1)));
+    void givenExistingDepartmentName_whenUpdate_thenDepartmentNameNotUniqueExceptionThrown() {
+        Department department = new Department(1, "Biology", 1);
+        doThrow(new DepartmentNameNotUniqueException("Department with name Biology already exist"))
+                .when(departmentDao).update(department);
+
+        Throwable exception = assertThrows(DepartmentNameNotUniqueException.class, () -> departmentService.update(department));
+
         assertEquals("Department with name Biology already exist", exception.getMessage());
-        verify(departmentDao, never()).update(new Department());
     }
 
     @Test
-    void givenCorrectDepartment_whenUpdate_thenCalledDepartmentDaoUpdate() {
+    void givenCorrectDepartment_whenUpdate_thenCalledDepartmentDaoUpdateWithoutLookups() {
         Department department = new Department(1, "Applied math", 1);
-        when(lectorService.getById(1)).thenReturn(Optional.of(new Lector()));
-        when(departmentDao.getById(1)).thenReturn(Optional.of(new Department()));
 
         departmentService.update(department);
 
         verify(departmentDao, times(1)).update(department);
+        verify(departmentDao, never()).getById(1);
+        verifyZeroInteractions(lectorService);
     }
 
     @Test
     void givenNonExistentDepartmentId_whenUpdate_thenEntityNotFoundExceptionThrown() {
-        Throwable exception = assertThrows(EntityNotFoundException.class, () -> departmentService.update(new Department()));
+        Department department = new Department();
+        doThrow(new EntityNotFoundException("Department with id 0 is not present")).when(departmentDao).update(department);
+
+        Throwable exception = assertThrows(EntityNotFoundException.class, () -> departmentService.update(department));
+
         assertEquals("Department with id 0 is not present", exception.getMessage());
-        verify(departmentDao, never()).update(new Department());
     }
 
     @Test
@@ -142,4 +158,135 @@ class DepartmentServiceTest {
         verify(departmentDao, times(1)).searchIfNameContains("some");
         assertEquals(singletonList(new Department(1, "some", 1)), actualResult);
     }
-}
\ No newline at end of file
+
+    @Test
+    void givenAppliedMath_whenGetReportByName_thenCalledDepartmentDaoGetReportByNameOnly() {
+        DepartmentReport expectedReport = new DepartmentReport(new Department(1, "Applied math", 1), new Lector(),
+                1, 1000.0, new HashMap<>());
+        when(departmentDao.getReportByName("Applied math")).thenReturn(Optional.of(expectedReport));
+
+        DepartmentReport actualReport = departmentService.getReportByName("Applied math");
+
+        verify(departmentDao, never()).getByName("Applied math");
+        assertEquals(expectedReport, actualReport);
+    }
+
+    @Test
+    void givenNonExistentDepartment_whenGetReportByName_thenEntityNotFoundExceptionThrown() {
+        Throwable exception = assertThrows(EntityNotFoundException.class, () -> departmentService.getReportByName("Chemistry"));
+        assertEquals("Department with name Chemistry is not present", exception.getMessage());
+    }
+
+    @Test
+    void givenDuplicateNamesInBatch_whenSaveAll_thenDepartmentNameNotUniqueExceptionThrown() {
+        List<Department> departments = Arrays.asList(new Department("Biology", 1), new Department("Biology", 2));
+
+        Throwable exception = assertThrows(DepartmentNameNotUniqueException.class, () -> departmentService.saveAll(departments));
+        assertEquals("Department with name Biology already exist", exception.getMessage());
+        verify(departmentDao, never()).saveAll(departments);
+    }
+
+    @Test
+    void givenCorrectDepartments_whenSaveAll_thenCalledDepartmentDaoSaveAllWithoutPreQueries() {
+        List<Department> departments = Arrays.asList(new Department("Biology", 1), new Department("Physics", 1));
+
+        departmentService.saveAll(departments);
+
+        verify(departmentDao, never()).getByNames(anyCollection());
+        verify(departmentDao, never()).getExistingIds(anyCollection());
+        verifyZeroInteractions(lectorService);
+        verify(departmentDao, times(1)).saveAll(departments);
+    }
+
+    @Test
+    void givenNames_whenGetStatisticsByNames_thenCalledDepartmentDaoOnceForAllNames() {
+        List<String> names = Arrays.asList("Physics", "Biology");
+        Map<String, DepartmentStatistic> expectedStatistics = Collections.singletonMap("Physics",
+                new DepartmentStatistic("Physics", 0, 0, 0, 0, new HashMap<>()));
+        when(departmentDao.getStatisticsByNames(names)).thenReturn(expectedStatistics);
+
+        Map<String, DepartmentStatistic> actualStatistics = departmentService.getStatisticsByNames(names);
+
+        verify(departmentDao, times(1)).getStatisticsByNames(names);
+        assertEquals(expectedStatistics, actualStatistics);
+    }
+
+    @Test
+    void givenNoNames_whenGetStatisticsByNames_thenReturnedEmptyMapWithoutQuery() {
+        assertEquals(Collections.emptyMap(), departmentService.getStatisticsByNames(Collections.emptyList()));
+
+        verifyZeroInteractions(departmentDao);
+    }
+
+    @Test
+    void givenSnapshot_whenGetAverageSalaryByName_thenAnsweredFromSnapshotWithoutQuery() {
+        ColumnarSnapshot snapshot = mock(ColumnarSnapshot.class);
+        when(snapshot.getStatisticByName("Physics")).thenReturn(Optional.of(
+                new DepartmentStatistic("Physics", 1, 2000.0, 2000, 2000, new HashMap<>())));
+        DepartmentService snapshotService = new DepartmentService(lectorService, departmentDao, null, null, snapshot);
+
+        double actualAverageSalary = snapshotService.getAverageSalaryByName("Physics");
+
+        assertEquals(2000.0, actualAverageSalary);
+        verifyZeroInteractions(departmentDao);
+    }
+
+    @Test
+    void givenFailedSave_whenSave_thenAggregateStoreNotUpdated() {
+        DepartmentAggregateStore aggregateStore = mock(DepartmentAggregateStore.class);
+        DepartmentService aggregatingService = new DepartmentService(lectorService, departmentDao, aggregateStore, null);
+        Department department = new Department("NEW", 1);
+        when(departmentDao.save(department)).thenReturn(false);
+
+        aggregatingService.save(department);
+
+        verifyZeroInteractions(aggregateStore);
+    }
+
+    @Test
+    void givenFailedBatch_whenDeleteAll_thenAggregateStoreRebuilt() {
+        DepartmentAggregateStore aggregateStore = mock(DepartmentAggregateStore.class);
+        DepartmentService aggregatingService = new DepartmentService(lectorService, departmentDao, aggregateStore, null);
+        List<Integer> ids = Arrays.asList(1, 2);
+        when(departmentDao.deleteAll(ids)).thenReturn(false);
+
+        aggregatingService.deleteAll(ids);
+
+        verify(aggregateStore, times(1)).rebuild();
+        verify(aggregateStore, never()).departmentDeleted(anyInt());
+    }
+
+    @Test
+    void givenConstraintViolatedInBatch_whenSaveAll_thenAggregateStoreRebuiltAndExceptionThrown() {
+        DepartmentAggregateStore aggregateStore = mock(DepartmentAggregateStore.class);
+        DepartmentService aggregatingService = new DepartmentService(lectorService, departmentDao, aggregateStore, null);
+        List<Department> departments = Arrays.asList(new Department("Chemistry", 1), new Department("Biology", 2));
+        when(departmentDao.saveAll(departments)).thenThrow(
+                new DepartmentNameNotUniqueException("Department with name Biology already exist"));
+
+        assertThrows(DepartmentNameNotUniqueException.class, () -> aggregatingService.saveAll(departments));
+
+        verify(aggregateStore, times(1)).rebuild();
+        verify(aggregateStore, never()).departmentSaved(any());
+    }
+
+    @Test
+    void givenStaleIndexIds_whenSearchPage_thenPageFilledFromFollowingIds() {
+        TrigramIndex index = new TrigramIndex();
+        index.put(1, "Chemistry");
+        index.put(2, "Biochemistry");
+        index.put(3, "Chemistry of materials");
+        index.put(4, "Physical chemistry");
+        DepartmentService indexedService = new DepartmentService(lectorService, departmentDao, null, index);
+        when(departmentDao.getByIds(Arrays.asList(1, 2, 3))).thenReturn(
+                Arrays.asList(new Department(1, "Chemistry", 1), new Department(3, "Chemistry of materials", 1)));
+        doReturn(singletonList(new Department(4, "Physical chemistry", 2))).when(departmentDao)
+                .getByIds(singletonList(4));
+
+        Page<Department> page = indexedService.searchIfNameContains("hemistry", null, 2);
+
+        assertEquals(Arrays.asList(new Department(1, "Chemistry", 1), new Department(3, "Chemistry of materials", 1)),
+                page.getItems());
+        assertEquals(3, PageToken.decode(page.getNextToken()));
+    }
+}
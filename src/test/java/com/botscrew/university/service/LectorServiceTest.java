@@ -4,6 +4,7 @@ import com.botscrew.university.dao.LectorDao;
 import com.botscrew.university.domain.Department;
 import com.botscrew.university.domain.Lector;
 import com.botscrew.university.domain.Lector;
+import com.botscrew.university.exception.DataAccessException;
 import com.botscrew.university.exception.DepartmentDoesNotExistException;
 import com.botscrew.university.exception.DepartmentNameNotUniqueException;
 import com.botscrew.university.exception.EntityNotFoundException;
@@ -14,8 +15,11 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static java.util.Collections.singletonList;
 import static org.junit.jupiter.api.Assertions.*;
@@ -118,4 +122,45 @@ class LectorServiceTest {
         verify(lectorDao, times(1)).searchIfNameContains("some");
         assertEquals(singletonList(new Lector(1, "some", "test", "lector", 1)), actualResult);
     }
-}
\ No newline at end of file
+
+    @Test
+    void givenOneLectorWithNegativeSalary_whenSaveAll_thenSalaryIsNegativeExceptionThrownAndNothingSaved() {
+        List<Lector> lectors = Arrays.asList(new Lector("some", "great", "lector", 1),
+                new Lector("other", "great", "lector", -1));
+
+        assertThrows(SalaryIsNegativeException.class, () -> lectorService.saveAll(lectors));
+        verify(lectorDao, never()).saveAll(lectors);
+    }
+
+    @Test
+    void givenFailedBatch_whenSaveAll_thenDataAccessExceptionThrown() {
+        List<Lector> lectors = Arrays.asList(new Lector("some", "great", "lector", 1),
+                new Lector("other", "great", "lector", 2));
+        when(lectorDao.saveAll(lectors)).thenReturn(false);
+
+        Throwable exception = assertThrows(DataAccessException.class, () -> lectorService.saveAll(lectors));
+        assertEquals("Failed to save 2 lectors", exception.getMessage());
+    }
+
+    @Test
+    void givenNonExistentLector_whenUpdateAll_thenEntityNotFoundExceptionThrown() {
+        List<Lector> lectors = Arrays.asList(new Lector(1, "some", "great", "lector", 1),
+                new Lector(2, "other", "great", "lector", 1));
+        when(lectorDao.getExistingIds(Arrays.asList(1, 2))).thenReturn(Collections.singleton(1));
+
+        Throwable exception = assertThrows(EntityNotFoundException.class, () -> lectorService.updateAll(lectors));
+        assertEquals("Lector with id 2 is not present", exception.getMessage());
+        verify(lectorDao, never()).updateAll(lectors);
+    }
+
+    @Test
+    void givenNothing_whenStreamAll_thenReturnedLectorDaoStream() {
+        Stream<Lector> expectedStream = Stream.of(new Lector());
+        when(lectorDao.streamAll()).thenReturn(expectedStream);
+
+        Stream<Lector> actualStream = lectorService.streamAll();
+
+        verify(lectorDao, times(1)).streamAll();
+        assertSame(expectedStream, actualStream);
+    }
+}
@@ -0,0 +1,91 @@
+package com.botscrew.university.service;
+
+import com.botscrew.university.domain.Department;
+import com.botscrew.university.domain.Lector;
+import com.botscrew.university.domain.Page;
+import com.botscrew.university.domain.SearchHit;
+import com.botscrew.university.domain.SearchResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+
+import static java.util.Collections.singletonList;
+import static org.junit.jupiter.api.Assertions.*;
+
+class SearchCoordinatorTest {
+
+    private final SearchSource lectors = SearchSource.of("lectors",
+            (line, token, size) -> new Page<>(singletonList(new Lector(1, "First", "Lector", "assistant", 1000)), null),
+            Lector::getId, lector -> lector.getName() + " " + lector.getSurname());
+    private final SearchSource departments = SearchSource.of("departments",
+            (line, token, size) -> new Page<>(singletonList(new Department(2, "Physics", 1)), null),
+            Department::getId, Department::getName);
+
+    @Test
+    void givenTwoSources_whenSearch_thenReturnedMergedResultsInSourceOrder() {
+        try (SearchCoordinator searchCoordinator = new SearchCoordinator(Arrays.asList(lectors, departments), 2, 8, 1000)) {
+            SearchResult result = searchCoordinator.search("some", 20);
+
+            assertEquals(Arrays.asList(new SearchHit("lectors", 1, "First Lector"),
+                    new SearchHit("departments", 2, "Physics")), result.getHits());
+            assertFalse(result.isPartial());
+        }
+    }
+
+    @Test
+    void givenSlowSource_whenSearch_thenReturnedPartialResultsAfterDeadline() {
+        CountDownLatch release = new CountDownLatch(1);
+        SearchSource slow = SearchSource.of("slow", (line, token, size) -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new Page<>(singletonList(new Department(3, "Biology", 1)), null);
+        }, Department::getId, Department::getName);
+        try (SearchCoordinator searchCoordinator = new SearchCoordinator(Arrays.asList(slow, lectors), 2, 8, 50)) {
+            SearchResult result = searchCoordinator.search("some", 20);
+
+            assertEquals(singletonList(new SearchHit("lectors", 1, "First Lector")), result.getHits());
+            assertTrue(result.isPartial());
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void givenFailingSource_whenSearch_thenReturnedResultsOfOtherSourcesAsPartial() {
+        SearchSource failing = SearchSource.of("failing", (line, token, size) -> {
+            throw new IllegalStateException("Source is down");
+        }, Department::getId, Department::getName);
+        try (SearchCoordinator searchCoordinator = new SearchCoordinator(Arrays.asList(failing, departments), 2, 8, 1000)) {
+            SearchResult result = searchCoordinator.search("some", 20);
+
+            assertEquals(singletonList(new SearchHit("departments", 2, "Physics")), result.getHits());
+            assertTrue(result.isPartial());
+        }
+    }
+
+    @Test
+    void givenSaturatedExecutor_whenSearch_thenRejectedSourceReportedAsPartial() {
+        CountDownLatch release = new CountDownLatch(1);
+        SearchSource blocking = SearchSource.of("blocking", (line, token, size) -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new Page<>(singletonList(new Department(3, "Biology", 1)), null);
+        }, Department::getId, Department::getName);
+        try (SearchCoordinator searchCoordinator = new SearchCoordinator(Arrays.asList(blocking, lectors, departments),
+                1, 1, 50)) {
+            SearchResult result = searchCoordinator.search("some", 20);
+
+            assertTrue(result.isPartial());
+            assertFalse(result.getHits().contains(new SearchHit("departments", 2, "Physics")));
+        } finally {
+            release.countDown();
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.botscrew.university.ui;
+
+import com.botscrew.university.domain.DepartmentSalaryDistribution;
+import com.botscrew.university.domain.Lector;
+import com.botscrew.university.domain.Page;
+import com.botscrew.university.domain.SearchHit;
+import com.botscrew.university.domain.SalaryDistribution;
+import com.botscrew.university.domain.SearchResult;
+import com.botscrew.university.exception.EntityNotFoundException;
+import com.botscrew.university.service.DepartmentService;
+import com.botscrew.university.service.LectorService;
+import com.botscrew.university.service.SalaryAnalyticsService;
+import com.botscrew.university.service.SearchCoordinator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static java.util.Collections.singletonList;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BatchRunnerTest {
+
+    @Mock
+    private DepartmentService departmentService;
+
+    @Mock
+    private LectorService lectorService;
+
+    @Mock
+    private SearchCoordinator searchCoordinator;
+
+    @Mock
+    private SalaryAnalyticsService salaryAnalyticsService;
+
+    @Test
+    void givenCommands_whenRun_thenWrittenOneJsonLinePerCommandAndSkippedComments() throws IOException {
+        BatchRunner batchRunner = new BatchRunner(departmentService, lectorService, searchCoordinator,
+                salaryAnalyticsService, 10);
+        when(lectorService.getHeadOfDepartment("Applied math")).thenReturn(new Lector(1, "First", "Lector", "assistant", 1000));
+        when(departmentService.getQuantityOfEmployeeByName("Physics")).thenReturn(2);
+        when(departmentService.getAverageSalaryByName("Unknown")).thenThrow(new EntityNotFoundException("Department does not exist"));
+        Map<String, Page<SearchHit>> pages = new LinkedHashMap<>();
+        pages.put("lectors", new Page<>(singletonList(new SearchHit("lectors", 1, "First \"Lector\"")), null));
+        when(searchCoordinator.search("irs", 10)).thenReturn(new SearchResult(pages, false));
+        StringWriter output = new StringWriter();
+
+        BatchSummary summary = batchRunner.run(new StringReader("# nightly checks\nhead Applied math\n\ncount Physics\n" +
+                "avg Unknown\nsearch irs\nfire everything\n"), output, 1);
+
+        String[] lines = output.toString().split("\n");
+        assertEquals(5, summary.getOperations());
+        assertEquals(2, summary.getErrors());
+        assertEquals(5, lines.length);
+        assertTrue(lines[0].startsWith("{\"line\":2,\"command\":\"head\",\"argument\":\"Applied math\",\"status\":\"ok\"," +
+                "\"result\":{\"id\":1,\"name\":\"First\",\"surname\":\"Lector\"},\"micros\":"));
+        assertTrue(lines[1].contains("\"command\":\"count\",\"argument\":\"Physics\",\"status\":\"ok\",\"result\":2,"));
+        assertTrue(lines[2].contains("\"status\":\"error\",\"error\":\"EntityNotFoundException: Department does not exist\""));
+        assertTrue(lines[3].contains("\"result\":{\"hits\":[{\"source\":\"lectors\",\"id\":1," +
+                "\"text\":\"First \\\"Lector\\\"\"}],\"partial\":false}"));
+        assertTrue(lines[4].contains("\"error\":\"IllegalArgumentException: Unknown command fire\""));
+    }
+
+    @Test
+    void givenManyCommandsAndFourThreads_whenRun_thenAllCommandsExecutedAndSummarised() throws IOException {
+        BatchRunner batchRunner = new BatchRunner(departmentService, lectorService, searchCoordinator,
+                salaryAnalyticsService, 10);
+        when(departmentService.getDegreeStatisticByName("Biology")).thenReturn(Collections.singletonMap("professor", 1));
+        StringBuilder commands = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            commands.append("stat Biology\n");
+        }
+        StringWriter output = new StringWriter();
+
+        BatchSummary summary = batchRunner.run(new StringReader(commands.toString()), output, 4);
+
+        assertEquals(200, summary.getOperations());
+        assertEquals(0, summary.getErrors());
+        assertEquals(200, summary.getLatency().getCount());
+        assertEquals(200, output.toString().split("\n").length);
+        verify(departmentService, times(200)).getDegreeStatisticByName("Biology");
+    }
+
+    @Test
+    void givenOverviewCommand_whenRun_thenComposedHeadQuantityAndAverageSalary() throws IOException {
+        BatchRunner batchRunner = new BatchRunner(departmentService, lectorService, searchCoordinator,
+                salaryAnalyticsService, 10);
+        when(lectorService.getHeadOfDepartment("Physics")).thenReturn(new Lector(2, "Second", "Lector", "associate professor", 2000));
+        when(departmentService.getQuantityOfEmployeeByName("Physics")).thenReturn(1);
+        when(departmentService.getAverageSalaryByName("Physics")).thenReturn(2000.0);
+        StringWriter output = new StringWriter();
+
+        batchRunner.run(new StringReader("overview Physics\n"), output, 1);
+
+        assertTrue(output.toString().contains("\"status\":\"ok\",\"result\":{\"department\":\"Physics\"," +
+                "\"head\":{\"id\":2,\"name\":\"Second\",\"surname\":\"Lector\"},\"quantity\":1,\"averageSalary\":2000.0}"));
+    }
+
+    @Test
+    void givenSalariesCommand_whenRun_thenWrittenDistributionOfDepartment() throws IOException {
+        BatchRunner batchRunner = new BatchRunner(departmentService, lectorService, searchCoordinator,
+                salaryAnalyticsService, 10);
+        SalaryDistribution distribution = new SalaryDistribution(1, 3000, 0, 3000, 3000, 3000, 3000, 3000,
+                Collections.singletonMap(3000, 1));
+        when(salaryAnalyticsService.getDistributionByName("Biology")).thenReturn(new DepartmentSalaryDistribution(
+                "Biology", distribution, Collections.singletonMap("professor", distribution)));
+        StringWriter output = new StringWriter();
+
+        batchRunner.run(new StringReader("salaries Biology\n"), output, 1);
+
+        String total = "{\"count\":1,\"mean\":3000.0,\"standardDeviation\":0.0,\"min\":3000,\"max\":3000," +
+                "\"median\":3000.0,\"p90\":3000.0,\"p99\":3000.0,\"bands\":{\"3000\":1}}";
+        assertTrue(output.toString().contains("\"status\":\"ok\",\"result\":{\"department\":\"Biology\"," +
+                "\"total\":" + total + ",\"degrees\":{\"professor\":" + total + "}}"));
+    }
+}
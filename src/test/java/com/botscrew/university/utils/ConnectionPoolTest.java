@@ -0,0 +1,133 @@
+package com.botscrew.university.utils;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+
+import static java.sql.Statement.RETURN_GENERATED_KEYS;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConnectionPoolTest {
+
+    private static final String URL = "jdbc:h2:mem:pool;DB_CLOSE_DELAY=-1";
+
+    private ConnectionPool connectionPool;
+
+    @BeforeEach
+    void setUp() {
+        connectionPool = new ConnectionPool(() -> DriverManager.getConnection(URL, "some", "some"),
+                new PoolSettings(1, 2, 100, 60_000, 1, 0, 4));
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionPool.close();
+    }
+
+    @Test
+    void givenReturnedConnection_whenGetConnection_thenReusedSamePhysicalConnection() throws SQLException {
+        Connection physicalConnection;
+        try (Connection connection = connectionPool.getConnection()) {
+            physicalConnection = connection.unwrap(Connection.class);
+        }
+
+        try (Connection connection = connectionPool.getConnection()) {
+            assertSame(physicalConnection, connection.unwrap(Connection.class));
+        }
+    }
+
+    @Test
+    void givenExhaustedPool_whenGetConnection_thenSQLTransientConnectionExceptionThrown() throws SQLException {
+        try (Connection first = connectionPool.getConnection(); Connection second = connectionPool.getConnection()) {
+            assertThrows(SQLTransientConnectionException.class, () -> connectionPool.getConnection());
+            assertEquals(1, connectionPool.getStatistics().getTimeouts());
+        }
+    }
+
+    @Test
+    void givenBorrowedConnection_whenGetStatistics_thenReturnedActiveAndIdleCounters() throws SQLException {
+        try (Connection connection = connectionPool.getConnection()) {
+            PoolStatistics statistics = connectionPool.getStatistics();
+
+            assertEquals(1, statistics.getActive());
+            assertEquals(0, statistics.getIdle());
+        }
+
+        PoolStatistics statistics = connectionPool.getStatistics();
+        assertEquals(0, statistics.getActive());
+        assertEquals(1, statistics.getIdle());
+        assertEquals(1, statistics.getAcquired());
+    }
+
+    @Test
+    void givenClosedHandle_whenUsed_thenSQLExceptionThrown() throws SQLException {
+        Connection connection = connectionPool.getConnection();
+        connection.close();
+
+        assertTrue(connection.isClosed());
+        assertThrows(SQLException.class, connection::createStatement);
+    }
+
+    @Test
+    void givenConnectionLeftInTransaction_whenReturned_thenAutoCommitRestored() throws SQLException {
+        try (Connection connection = connectionPool.getConnection()) {
+            connection.setAutoCommit(false);
+        }
+
+        try (Connection connection = connectionPool.getConnection()) {
+            assertTrue(connection.getAutoCommit());
+        }
+    }
+
+    @Test
+    void givenSameSqlPreparedTwice_whenGetStatistics_thenReturnedOneStatementCacheHit() throws SQLException {
+        try (Connection connection = connectionPool.getConnection()) {
+            connection.prepareStatement("SELECT 1").close();
+            connection.prepareStatement("SELECT 1").close();
+            connection.prepareStatement("SELECT 1", RETURN_GENERATED_KEYS).close();
+        }
+
+        PoolStatistics statistics = connectionPool.getStatistics();
+        assertEquals(1, statistics.getStatementCacheHits());
+        assertEquals(2, statistics.getStatementCacheMisses());
+    }
+
+    @Test
+    void givenCachedStatementInUse_whenSameSqlPrepared_thenReturnedIndependentStatement() throws SQLException {
+        try (Connection connection = connectionPool.getConnection();
+             PreparedStatement first = connection.prepareStatement("SELECT ?");
+             PreparedStatement second = connection.prepareStatement("SELECT ?")) {
+            first.setInt(1, 1);
+            second.setInt(1, 2);
+
+            assertNotSame(first.unwrap(PreparedStatement.class), second.unwrap(PreparedStatement.class));
+            assertSame(connection, first.getConnection());
+        }
+    }
+
+    @Test
+    void givenStatementReturnedWithPendingBatch_whenReused_thenBatchAndSettingsCleared() throws SQLException {
+        try (Connection connection = connectionPool.getConnection()) {
+            connection.createStatement().execute("CREATE TABLE IF NOT EXISTS batched (id INT)");
+            try (PreparedStatement statement = connection.prepareStatement("INSERT INTO batched VALUES (?)")) {
+                statement.setInt(1, 1);
+                statement.addBatch();
+                statement.setFetchSize(500);
+                statement.setMaxRows(10);
+            }
+
+            try (PreparedStatement statement = connection.prepareStatement("INSERT INTO batched VALUES (?)")) {
+                assertEquals(0, statement.executeBatch().length);
+                assertEquals(0, statement.getMaxRows());
+                assertNotEquals(500, statement.getFetchSize());
+            }
+            connection.createStatement().execute("DROP TABLE batched");
+        }
+    }
+}